@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.Properties;
 import java.util.ServiceLoader;
 
+import org.jboss.forge.bootstrap.daemon.DaemonServer;
 import org.jboss.forge.furnace.Furnace;
 import org.jboss.forge.furnace.addons.AddonId;
 import org.jboss.forge.furnace.impl.addons.AddonRepositoryImpl;
@@ -48,6 +49,9 @@ public class Bootstrap
    private final Furnace furnace;
    private boolean exitAfter = false;
    private boolean batchMode = false;
+   private boolean daemon = false;
+   private int daemonPort = 0;
+   private int exitCode = 0;
 
    public static void main(final String[] args)
    {
@@ -93,6 +97,10 @@ public class Bootstrap
       }
       Bootstrap bootstrap = new Bootstrap(bootstrapArgs.toArray(new String[bootstrapArgs.size()]));
       bootstrap.start();
+      if (bootstrap.exitCode != 0)
+      {
+         System.exit(bootstrap.exitCode);
+      }
    }
 
    private Bootstrap(String[] args)
@@ -133,6 +141,22 @@ public class Bootstrap
                batchMode = true;
                furnace.setServerMode(false);
             }
+            else if ("--daemon".equals(args[i]))
+            {
+               daemon = true;
+               batchMode = true;
+            }
+            else if ("--daemonPort".equals(args[i]))
+            {
+               daemonPort = parsePort(i + 1 < args.length ? args[++i] : null);
+               if (daemonPort < 0)
+               {
+                  System.err.println("Usage: --daemonPort <port>, where <port> is a number between 0 and 65535 "
+                           + "(0 uses any free port)");
+                  exitCode = 1;
+                  exitAfter = true;
+               }
+            }
             else if ("--debug".equals(args[i]) || "-d".equals(args[i]))
             {
                // This is just to avoid the Unknown option: --debug message below
@@ -157,6 +181,26 @@ public class Bootstrap
          remove(removeAddon);
    }
 
+   /**
+    * @return the given port number, or <code>-1</code> if it is missing or not a valid port
+    */
+   private static int parsePort(String value)
+   {
+      if (value == null)
+      {
+         return -1;
+      }
+      try
+      {
+         int port = Integer.parseInt(value);
+         return port >= 0 && port <= 65535 ? port : -1;
+      }
+      catch (NumberFormatException e)
+      {
+         return -1;
+      }
+   }
+
    private boolean containsMutableRepository(List<AddonRepository> repositories)
    {
       boolean result = false;
@@ -224,10 +268,33 @@ public class Bootstrap
                }
             }
          }
+         if (daemon)
+         {
+            startDaemon();
+         }
          furnace.start();
       }
    }
 
+   /**
+    * Keeps Furnace running for {@link org.jboss.forge.bootstrap.daemon.DaemonClient} requests, without a console shell
+    */
+   private void startDaemon()
+   {
+      System.clearProperty("forge.standalone");
+      furnace.setServerMode(true);
+      try
+      {
+         DaemonServer server = new DaemonServer(furnace, daemonPort);
+         server.start();
+         System.out.println("Forge daemon listening on port " + server.getPort());
+      }
+      catch (IOException e)
+      {
+         throw new IllegalStateException("Could not start the Forge daemon", e);
+      }
+   }
+
    private void install(String addonCoordinates)
    {
       Version runtimeAPIVersion = AddonRepositoryImpl.getRuntimeAPIVersion();
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.bootstrap.daemon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+
+import org.jboss.forge.furnace.util.OperatingSystemUtils;
+
+/**
+ * A thin client sending command lines to a running {@link DaemonServer}, streaming back their output and exiting with
+ * their exit code. It does not start Furnace.
+ *
+ * <pre>
+ * DaemonClient --health
+ * DaemonClient --shutdown
+ * DaemonClient "project-new --named demo" "build"
+ * </pre>
+ *
+ * Each argument is executed as a command line. Without arguments, the command lines are read from the standard input.
+ */
+public class DaemonClient
+{
+   public static void main(String[] args)
+   {
+      int exitCode;
+      try
+      {
+         exitCode = run(args, System.in, System.out, System.err);
+      }
+      catch (FileNotFoundException e)
+      {
+         System.err.println("No Forge daemon is running: " + DaemonProtocol.getDaemonFile() + " not found.");
+         exitCode = 1;
+      }
+      catch (IOException e)
+      {
+         System.err.println("Error while communicating with the Forge daemon: " + e.getMessage());
+         exitCode = 1;
+      }
+      System.exit(exitCode);
+   }
+
+   /**
+    * Sends the request given by the arguments to the running daemon
+    *
+    * @return the exit code returned by the daemon
+    */
+   static int run(String[] args, InputStream stdin, PrintStream stdout, PrintStream stderr) throws IOException
+   {
+      Properties daemon = DaemonProtocol.readDaemonFile();
+      int port = Integer.parseInt(daemon.getProperty(DaemonProtocol.PORT_PROPERTY));
+      String token = daemon.getProperty(DaemonProtocol.TOKEN_PROPERTY);
+
+      try (Socket socket = new Socket(InetAddress.getByName(null), port);
+               DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+               DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream())))
+      {
+         DaemonProtocol.writeString(out, token);
+         if (args.length == 1 && "--health".equals(args[0]))
+         {
+            DaemonProtocol.writeString(out, DaemonProtocol.HEALTH);
+         }
+         else if (args.length == 1 && "--shutdown".equals(args[0]))
+         {
+            DaemonProtocol.writeString(out, DaemonProtocol.SHUTDOWN);
+         }
+         else
+         {
+            DaemonProtocol.writeString(out, DaemonProtocol.EXECUTE);
+            DaemonProtocol.writeString(out, OperatingSystemUtils.getWorkingDir().getAbsolutePath());
+            Map<String, String> environment = System.getenv();
+            out.writeInt(environment.size());
+            for (Entry<String, String> entry : environment.entrySet())
+            {
+               DaemonProtocol.writeString(out, entry.getKey());
+               DaemonProtocol.writeString(out, entry.getValue());
+            }
+            List<String> lines = args.length > 0 ? Arrays.asList(args) : readLines(stdin);
+            out.writeInt(lines.size());
+            for (String line : lines)
+            {
+               DaemonProtocol.writeString(out, line);
+            }
+         }
+         out.flush();
+         return readResponse(in, stdout, stderr);
+      }
+   }
+
+   private static List<String> readLines(InputStream stdin) throws IOException
+   {
+      List<String> lines = new ArrayList<>();
+      BufferedReader reader = new BufferedReader(new InputStreamReader(stdin));
+      String line;
+      while ((line = reader.readLine()) != null)
+      {
+         lines.add(line);
+      }
+      return lines;
+   }
+
+   private static int readResponse(DataInputStream in, PrintStream stdout, PrintStream stderr) throws IOException
+   {
+      while (true)
+      {
+         byte type = in.readByte();
+         if (type == DaemonProtocol.EXIT)
+         {
+            stdout.flush();
+            stderr.flush();
+            return in.readInt();
+         }
+         byte[] bytes = new byte[in.readInt()];
+         in.readFully(bytes);
+         if (type == DaemonProtocol.ERR)
+         {
+            stderr.write(bytes, 0, bytes.length);
+            stderr.flush();
+         }
+         else
+         {
+            stdout.write(bytes, 0, bytes.length);
+            stdout.flush();
+         }
+      }
+   }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.bootstrap.daemon;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ProtocolException;
+import java.nio.charset.Charset;
+import java.util.Properties;
+
+import org.jboss.forge.furnace.util.OperatingSystemUtils;
+
+/**
+ * The wire protocol between {@link DaemonClient} and {@link DaemonServer}.
+ *
+ * A request is the secret token of the daemon followed by a command: {@link #EXECUTE}, {@link #HEALTH} or
+ * {@link #SHUTDOWN}. {@link #EXECUTE} is followed by the working directory, the environment variables and the command
+ * lines to execute. The daemon answers with {@link #OUT} and {@link #ERR} frames as the commands write their output,
+ * and ends with an {@link #EXIT} frame holding the exit code.
+ *
+ * The daemon listens on the loopback interface only. Its port and token are written to the {@link #getDaemonFile()
+ * daemon file}, readable by the current user only. The lengths and counts read from a request are bounded: the token
+ * and command by {@link #MAX_TOKEN_LENGTH}, so a client without the token cannot make the daemon allocate large
+ * buffers, and the strings of an execution request by {@link #MAX_STRING_LENGTH}.
+ */
+final class DaemonProtocol
+{
+   static final String EXECUTE = "EXECUTE";
+   static final String HEALTH = "HEALTH";
+   static final String SHUTDOWN = "SHUTDOWN";
+
+   static final byte OUT = 1;
+   static final byte ERR = 2;
+   static final byte EXIT = 3;
+
+   /**
+    * The maximum length of the token and of the command, in bytes
+    */
+   static final int MAX_TOKEN_LENGTH = 256;
+
+   /**
+    * The maximum length of a working directory, environment variable or command line, in bytes
+    */
+   static final int MAX_STRING_LENGTH = 1024 * 1024;
+
+   /**
+    * The maximum number of environment variables or command lines of a request
+    */
+   static final int MAX_COUNT = 4096;
+
+   static final String PORT_PROPERTY = "port";
+   static final String TOKEN_PROPERTY = "token";
+
+   private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+   private DaemonProtocol()
+   {
+   }
+
+   /**
+    * @return the file holding the port and token of the running daemon. May be changed with the
+    *         <code>org.jboss.forge.daemon.file</code> system property
+    */
+   static File getDaemonFile()
+   {
+      String path = System.getProperty("org.jboss.forge.daemon.file");
+      return path == null ? new File(OperatingSystemUtils.getUserForgeDir(), "daemon.properties") : new File(path);
+   }
+
+   static Properties readDaemonFile() throws IOException
+   {
+      Properties properties = new Properties();
+      try (InputStream is = new FileInputStream(getDaemonFile()))
+      {
+         properties.load(is);
+      }
+      return properties;
+   }
+
+   static void writeDaemonFile(int port, String token) throws IOException
+   {
+      File file = getDaemonFile();
+      file.getParentFile().mkdirs();
+      file.delete();
+      file.createNewFile();
+      file.setReadable(false, false);
+      file.setWritable(false, false);
+      file.setReadable(true, true);
+      file.setWritable(true, true);
+      Properties properties = new Properties();
+      properties.setProperty(PORT_PROPERTY, String.valueOf(port));
+      properties.setProperty(TOKEN_PROPERTY, token);
+      try (OutputStream os = new FileOutputStream(file))
+      {
+         properties.store(os, "Forge daemon");
+      }
+   }
+
+   static void writeString(DataOutputStream out, String value) throws IOException
+   {
+      byte[] bytes = value.getBytes(UTF_8);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+   }
+
+   /**
+    * Reads a string written by {@link #writeString(DataOutputStream, String)}
+    *
+    * @throws ProtocolException if the string is longer than the given number of bytes
+    */
+   static String readString(DataInputStream in, int maxLength) throws IOException
+   {
+      byte[] bytes = new byte[readLength(in, maxLength)];
+      in.readFully(bytes);
+      return new String(bytes, UTF_8);
+   }
+
+   /**
+    * Reads a length or a count, between <code>0</code> and the given maximum
+    *
+    * @throws ProtocolException if the value read is out of bounds
+    */
+   static int readLength(DataInputStream in, int max) throws IOException
+   {
+      int length = in.readInt();
+      if (length < 0 || length > max)
+      {
+         throw new ProtocolException("Invalid length " + length + ", expected at most " + max);
+      }
+      return length;
+   }
+
+   /**
+    * Writes a frame of the given type holding the given bytes
+    */
+   static void writeFrame(DataOutputStream out, byte type, byte[] bytes, int offset, int length) throws IOException
+   {
+      synchronized (out)
+      {
+         out.writeByte(type);
+         out.writeInt(length);
+         out.write(bytes, offset, length);
+         out.flush();
+      }
+   }
+
+   static void writeExit(DataOutputStream out, int exitCode) throws IOException
+   {
+      synchronized (out)
+      {
+         out.writeByte(EXIT);
+         out.writeInt(exitCode);
+         out.flush();
+      }
+   }
+}
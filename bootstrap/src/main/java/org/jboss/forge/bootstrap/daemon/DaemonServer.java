@@ -0,0 +1,327 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.bootstrap.daemon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.ProtocolException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jboss.forge.furnace.Furnace;
+import org.jboss.forge.furnace.services.Imported;
+
+/**
+ * Keeps a started {@link Furnace} available to {@link DaemonClient} instances, so command lines are executed without
+ * starting a new JVM and loading the addons again.
+ *
+ * Command lines are executed by the <code>{@value #EXECUTOR_TYPE}</code> service of the shell addon.
+ */
+public class DaemonServer
+{
+   static final String EXECUTOR_TYPE = "org.jboss.forge.addon.shell.CommandLineExecutor";
+
+   /**
+    * How long an execution request waits for the shell addon to be available
+    */
+   private static final long STARTUP_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+   /**
+    * How long a client may take to send its token
+    */
+   private static final int AUTHENTICATION_TIMEOUT_MILLIS = (int) TimeUnit.SECONDS.toMillis(10);
+
+   private static final Charset UTF_8 = Charset.forName("UTF-8");
+   private static final Logger log = Logger.getLogger(DaemonServer.class.getName());
+
+   private final Furnace furnace;
+   private final int port;
+   private final String token = new BigInteger(130, new SecureRandom()).toString(32);
+   private final ExecutorService executor = Executors.newCachedThreadPool(new ThreadFactory()
+   {
+      private final AtomicInteger count = new AtomicInteger();
+
+      @Override
+      public Thread newThread(Runnable r)
+      {
+         Thread thread = new Thread(r, "Forge Daemon " + count.incrementAndGet());
+         thread.setDaemon(true);
+         return thread;
+      }
+   });
+   private ServerSocket serverSocket;
+
+   /**
+    * @param port the port to listen to, or <code>0</code> to use any free port
+    */
+   public DaemonServer(Furnace furnace, int port)
+   {
+      this.furnace = furnace;
+      this.port = port;
+   }
+
+   /**
+    * Starts listening for clients on the loopback interface and publishes the daemon file
+    */
+   public void start() throws IOException
+   {
+      serverSocket = new ServerSocket(port, 50, InetAddress.getByName(null));
+      DaemonProtocol.writeDaemonFile(serverSocket.getLocalPort(), token);
+      executor.submit(new Runnable()
+      {
+         @Override
+         public void run()
+         {
+            while (!serverSocket.isClosed())
+            {
+               try
+               {
+                  final Socket socket = serverSocket.accept();
+                  executor.submit(new Runnable()
+                  {
+                     @Override
+                     public void run()
+                     {
+                        handle(socket);
+                     }
+                  });
+               }
+               catch (IOException e)
+               {
+                  if (!serverSocket.isClosed())
+                     log.log(Level.WARNING, "Error while accepting daemon client", e);
+               }
+            }
+         }
+      });
+      log.info("Forge daemon listening on port " + serverSocket.getLocalPort());
+   }
+
+   /**
+    * @return the port this daemon listens to, once started
+    */
+   public int getPort()
+   {
+      return serverSocket.getLocalPort();
+   }
+
+   /**
+    * Stops listening for clients and removes the daemon file
+    */
+   public void stop()
+   {
+      try
+      {
+         serverSocket.close();
+      }
+      catch (IOException ignore)
+      {
+         log.log(Level.FINE, "Error while closing daemon socket", ignore);
+      }
+      DaemonProtocol.getDaemonFile().delete();
+      executor.shutdown();
+   }
+
+   private void handle(Socket socket)
+   {
+      try (Socket s = socket;
+               DataInputStream in = new DataInputStream(new BufferedInputStream(s.getInputStream()));
+               DataOutputStream out = new DataOutputStream(new BufferedOutputStream(s.getOutputStream())))
+      {
+         s.setSoTimeout(AUTHENTICATION_TIMEOUT_MILLIS);
+         String clientToken = DaemonProtocol.readString(in, DaemonProtocol.MAX_TOKEN_LENGTH);
+         if (!MessageDigest.isEqual(token.getBytes(UTF_8), clientToken.getBytes(UTF_8)))
+         {
+            log.warning("Rejected daemon client with an invalid token");
+            return;
+         }
+         s.setSoTimeout(0);
+         String command = DaemonProtocol.readString(in, DaemonProtocol.MAX_TOKEN_LENGTH);
+         if (DaemonProtocol.EXECUTE.equals(command))
+         {
+            execute(in, out);
+         }
+         else if (DaemonProtocol.HEALTH.equals(command))
+         {
+            health(out);
+         }
+         else if (DaemonProtocol.SHUTDOWN.equals(command))
+         {
+            message(out, DaemonProtocol.OUT, "Forge daemon is shutting down.");
+            stop();
+            furnace.stop();
+            DaemonProtocol.writeExit(out, 0);
+         }
+         else
+         {
+            message(out, DaemonProtocol.ERR, "Unknown daemon command: " + command);
+            DaemonProtocol.writeExit(out, 2);
+         }
+      }
+      catch (ProtocolException e)
+      {
+         log.log(Level.WARNING, "Rejected invalid daemon request: " + e.getMessage());
+      }
+      catch (IOException e)
+      {
+         log.log(Level.FINE, "Daemon client disconnected", e);
+      }
+   }
+
+   private void execute(DataInputStream in, DataOutputStream out) throws IOException
+   {
+      File workingDir = new File(DaemonProtocol.readString(in, DaemonProtocol.MAX_STRING_LENGTH));
+      Map<String, String> environment = new HashMap<>();
+      for (int i = DaemonProtocol.readLength(in, DaemonProtocol.MAX_COUNT); i > 0; i--)
+      {
+         environment.put(DaemonProtocol.readString(in, DaemonProtocol.MAX_STRING_LENGTH),
+                  DaemonProtocol.readString(in, DaemonProtocol.MAX_STRING_LENGTH));
+      }
+      List<String> lines = new ArrayList<>();
+      for (int i = DaemonProtocol.readLength(in, DaemonProtocol.MAX_COUNT); i > 0; i--)
+      {
+         lines.add(DaemonProtocol.readString(in, DaemonProtocol.MAX_STRING_LENGTH));
+      }
+
+      PrintStream stdout = new PrintStream(new FrameOutputStream(out, DaemonProtocol.OUT), true, UTF_8.name());
+      PrintStream stderr = new PrintStream(new FrameOutputStream(out, DaemonProtocol.ERR), true, UTF_8.name());
+      int exitCode;
+      Imported<Object> services = awaitExecutor();
+      if (services == null)
+      {
+         stderr.println("Forge daemon is not ready: no " + EXECUTOR_TYPE + " service available.");
+         exitCode = 1;
+      }
+      else
+      {
+         Object service = services.get();
+         try
+         {
+            Method method = service.getClass().getMethod("execute", List.class, File.class, Map.class,
+                     PrintStream.class, PrintStream.class);
+            exitCode = (Integer) method.invoke(service, lines, workingDir, environment, stdout, stderr);
+         }
+         catch (InvocationTargetException e)
+         {
+            e.getCause().printStackTrace(stderr);
+            exitCode = 1;
+         }
+         catch (Exception e)
+         {
+            e.printStackTrace(stderr);
+            exitCode = 1;
+         }
+         finally
+         {
+            services.release(service);
+         }
+      }
+      stdout.flush();
+      stderr.flush();
+      DaemonProtocol.writeExit(out, exitCode);
+   }
+
+   private Imported<Object> awaitExecutor()
+   {
+      long deadline = System.currentTimeMillis() + STARTUP_TIMEOUT_MILLIS;
+      while (System.currentTimeMillis() < deadline)
+      {
+         if (furnace.getStatus().isStarted())
+         {
+            Imported<Object> services = furnace.getAddonRegistry().getServices(EXECUTOR_TYPE);
+            if (!services.isUnsatisfied() && !services.isAmbiguous())
+            {
+               return services;
+            }
+         }
+         try
+         {
+            Thread.sleep(100);
+         }
+         catch (InterruptedException e)
+         {
+            Thread.currentThread().interrupt();
+            break;
+         }
+      }
+      return null;
+   }
+
+   private void health(DataOutputStream out) throws IOException
+   {
+      if (furnace.getStatus().isStarted())
+      {
+         message(out, DaemonProtocol.OUT, "Forge " + furnace.getVersion() + " daemon is running with "
+                  + furnace.getAddonRegistry().getAddons().size() + " addons.");
+         DaemonProtocol.writeExit(out, 0);
+      }
+      else
+      {
+         message(out, DaemonProtocol.ERR, "Forge daemon is " + furnace.getStatus() + ".");
+         DaemonProtocol.writeExit(out, 1);
+      }
+   }
+
+   private static void message(DataOutputStream out, byte type, String message) throws IOException
+   {
+      byte[] bytes = (message + System.getProperty("line.separator")).getBytes(UTF_8);
+      DaemonProtocol.writeFrame(out, type, bytes, 0, bytes.length);
+   }
+
+   /**
+    * Writes everything as frames of the given type
+    */
+   private static class FrameOutputStream extends OutputStream
+   {
+      private final DataOutputStream out;
+      private final byte type;
+
+      FrameOutputStream(DataOutputStream out, byte type)
+      {
+         this.out = out;
+         this.type = type;
+      }
+
+      @Override
+      public void write(int b) throws IOException
+      {
+         write(new byte[] { (byte) b }, 0, 1);
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException
+      {
+         if (len > 0)
+            DaemonProtocol.writeFrame(out, type, b, off, len);
+      }
+   }
+}
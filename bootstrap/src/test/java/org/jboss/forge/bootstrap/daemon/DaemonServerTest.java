@@ -0,0 +1,257 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.bootstrap.daemon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.InetAddress;
+import java.net.ProtocolException;
+import java.net.Socket;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jboss.forge.furnace.Furnace;
+import org.jboss.forge.furnace.addons.AddonRegistry;
+import org.jboss.forge.furnace.services.Imported;
+import org.jboss.forge.furnace.versions.SingleVersion;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DaemonServerTest
+{
+   private final AtomicBoolean furnaceStopped = new AtomicBoolean();
+   private File daemonFile;
+   private DaemonServer server;
+   private ByteArrayOutputStream out;
+   private ByteArrayOutputStream err;
+
+   @Before
+   public void startServer() throws IOException
+   {
+      daemonFile = File.createTempFile("forge-daemon", ".properties");
+      daemonFile.delete();
+      System.setProperty("org.jboss.forge.daemon.file", daemonFile.getAbsolutePath());
+      server = new DaemonServer(createFurnace(), 0);
+      server.start();
+      out = new ByteArrayOutputStream();
+      err = new ByteArrayOutputStream();
+   }
+
+   @After
+   public void stopServer()
+   {
+      server.stop();
+      System.clearProperty("org.jboss.forge.daemon.file");
+   }
+
+   @Test
+   public void testExecute() throws Exception
+   {
+      int exitCode = DaemonClient.run(new String[] { "first", "second" }, new ByteArrayInputStream(new byte[0]),
+               new PrintStream(out), new PrintStream(err));
+      Assert.assertEquals(0, exitCode);
+      Assert.assertEquals("first|second|", out.toString("UTF-8"));
+      Assert.assertEquals("", err.toString("UTF-8"));
+   }
+
+   @Test
+   public void testExecuteReadsLinesFromInput() throws Exception
+   {
+      int exitCode = DaemonClient.run(new String[0], new ByteArrayInputStream("first\nfail\n".getBytes("UTF-8")),
+               new PrintStream(out), new PrintStream(err));
+      Assert.assertEquals(1, exitCode);
+      Assert.assertEquals("first|", out.toString("UTF-8"));
+      Assert.assertEquals("fail|", err.toString("UTF-8"));
+   }
+
+   @Test
+   public void testHealth() throws Exception
+   {
+      int exitCode = DaemonClient.run(new String[] { "--health" }, new ByteArrayInputStream(new byte[0]),
+               new PrintStream(out), new PrintStream(err));
+      Assert.assertEquals(0, exitCode);
+      Assert.assertTrue(out.toString("UTF-8"), out.toString("UTF-8").contains("daemon is running"));
+   }
+
+   @Test
+   public void testShutdown() throws Exception
+   {
+      int exitCode = DaemonClient.run(new String[] { "--shutdown" }, new ByteArrayInputStream(new byte[0]),
+               new PrintStream(out), new PrintStream(err));
+      Assert.assertEquals(0, exitCode);
+      Assert.assertTrue(furnaceStopped.get());
+      Assert.assertFalse(daemonFile.exists());
+   }
+
+   @Test
+   public void testInvalidTokenIsRejected() throws Exception
+   {
+      try (Socket socket = connect())
+      {
+         DataOutputStream request = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+         DaemonProtocol.writeString(request, "not the token");
+         request.flush();
+         Assert.assertEquals(-1, socket.getInputStream().read());
+      }
+      Assert.assertFalse(furnaceStopped.get());
+      Assert.assertTrue(daemonFile.exists());
+   }
+
+   @Test
+   public void testOversizedTokenIsRejected() throws Exception
+   {
+      try (Socket socket = connect())
+      {
+         DataOutputStream request = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+         request.writeInt(Integer.MAX_VALUE);
+         request.flush();
+         Assert.assertEquals(-1, socket.getInputStream().read());
+      }
+      Assert.assertFalse(furnaceStopped.get());
+   }
+
+   @Test
+   public void testReadStringRejectsInvalidLengths() throws Exception
+   {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      DataOutputStream data = new DataOutputStream(bytes);
+      DaemonProtocol.writeString(data, "12345");
+      data.writeInt(-1);
+      data.flush();
+      DataInputStream in = new DataInputStream(new BufferedInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+      try
+      {
+         DaemonProtocol.readString(in, 4);
+         Assert.fail("A string longer than the maximum length should be rejected");
+      }
+      catch (ProtocolException expected)
+      {
+      }
+      in.skipBytes(5);
+      try
+      {
+         DaemonProtocol.readString(in, 4);
+         Assert.fail("A negative length should be rejected");
+      }
+      catch (ProtocolException expected)
+      {
+      }
+   }
+
+   private Socket connect() throws IOException
+   {
+      Properties properties = DaemonProtocol.readDaemonFile();
+      Socket socket = new Socket(InetAddress.getByName(null), Integer.parseInt(properties.getProperty(
+               DaemonProtocol.PORT_PROPERTY)));
+      socket.setSoTimeout(5000);
+      return socket;
+   }
+
+   private Furnace createFurnace()
+   {
+      final Imported<?> executors = stub(Imported.class, new InvocationHandler()
+      {
+         private final LineExecutor executor = new LineExecutor();
+
+         @Override
+         public Object invoke(Object proxy, Method method, Object[] args)
+         {
+            switch (method.getName())
+            {
+            case "get":
+               return executor;
+            case "isUnsatisfied":
+            case "isAmbiguous":
+               return false;
+            default:
+               return null;
+            }
+         }
+      });
+      final AddonRegistry registry = stub(AddonRegistry.class, new InvocationHandler()
+      {
+         @Override
+         public Object invoke(Object proxy, Method method, Object[] args)
+         {
+            switch (method.getName())
+            {
+            case "getServices":
+               return DaemonServer.EXECUTOR_TYPE.equals(args[0]) ? executors : null;
+            case "getAddons":
+               return Collections.emptySet();
+            default:
+               return null;
+            }
+         }
+      });
+      return stub(Furnace.class, new InvocationHandler()
+      {
+         @Override
+         @SuppressWarnings({ "unchecked", "rawtypes" })
+         public Object invoke(Object proxy, Method method, Object[] args)
+         {
+            switch (method.getName())
+            {
+            case "getStatus":
+               return Enum.valueOf((Class) method.getReturnType(), "STARTED");
+            case "getVersion":
+               return new SingleVersion("2.0.0.Final");
+            case "getAddonRegistry":
+               return registry;
+            case "stop":
+               furnaceStopped.set(true);
+               return null;
+            default:
+               return null;
+            }
+         }
+      });
+   }
+
+   private static <T> T stub(Class<T> type, InvocationHandler handler)
+   {
+      return type.cast(Proxy.newProxyInstance(DaemonServerTest.class.getClassLoader(), new Class<?>[] { type },
+               handler));
+   }
+
+   /**
+    * Stands for the CommandLineExecutor of the shell addon: echoes each line, and fails on the line "fail"
+    */
+   public static class LineExecutor
+   {
+      public int execute(List<String> lines, File workingDir, Map<String, String> variables, PrintStream out,
+               PrintStream err)
+      {
+         for (String line : lines)
+         {
+            if ("fail".equals(line))
+            {
+               err.print(line + "|");
+               return 1;
+            }
+            out.print(line + "|");
+         }
+         return 0;
+      }
+   }
+}
@@ -7,6 +7,10 @@
 
 package org.jboss.forge.addon.convert.impl;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -20,12 +24,76 @@ import org.jboss.forge.furnace.services.Imported;
 @Singleton
 public class ConverterFactoryImpl implements ConverterFactory
 {
+   /**
+    * Cached in place of a {@link Converter} for source and target pairs that cannot be converted
+    */
+   private static final Object NOT_FOUND = new Object();
+
    @Inject
    private AddonRegistry registry;
 
+   private final AtomicReference<CacheGeneration> generation = new AtomicReference<>(new CacheGeneration(-1));
+
+   public ConverterFactoryImpl()
+   {
+   }
+
+   ConverterFactoryImpl(AddonRegistry registry)
+   {
+      this.registry = registry;
+   }
+
    @Override
    @SuppressWarnings({ "unchecked" })
    public <S, T> Converter<S, T> getConverter(Class<S> source, Class<T> target)
+   {
+      ConcurrentMap<ConverterKey, Object> cache = getCache(registry.getVersion());
+      ConverterKey key = new ConverterKey(source, target);
+      Object cached = cache.get(key);
+      if (cached == null)
+      {
+         try
+         {
+            cached = createConverter(source, target);
+         }
+         catch (ConverterNotFoundException e)
+         {
+            cached = NOT_FOUND;
+         }
+         Object previous = cache.putIfAbsent(key, cached);
+         if (previous != null)
+            cached = previous;
+      }
+
+      if (cached == NOT_FOUND)
+         throw new ConverterNotFoundException(source, target);
+      return (Converter<S, T>) cached;
+   }
+
+   /**
+    * Returns the cache of the given registry version, replacing the cache of an older version. A converter resolved
+    * while the version changes is stored in the cache it was looked up in, which is discarded with its version.
+    */
+   private ConcurrentMap<ConverterKey, Object> getCache(long registryVersion)
+   {
+      CacheGeneration current = generation.get();
+      while (current.version < registryVersion)
+      {
+         CacheGeneration next = new CacheGeneration(registryVersion);
+         if (generation.compareAndSet(current, next))
+            return next.converters;
+         current = generation.get();
+      }
+      if (current.version > registryVersion)
+      {
+         // The registry changed since its version was read: do not mix converters of both versions
+         return new CacheGeneration(registryVersion).converters;
+      }
+      return current.converters;
+   }
+
+   @SuppressWarnings({ "unchecked" })
+   private <S, T> Converter<S, T> createConverter(Class<S> source, Class<T> target)
    {
       Converter<S, T> result = null;
       Imported<ConverterGenerator> instances = registry.getServices(ConverterGenerator.class);
@@ -74,4 +142,44 @@ public class ConverterFactoryImpl implements ConverterFactory
       }
       return result;
    }
-}
\ No newline at end of file
+
+   private static final class CacheGeneration
+   {
+      private final long version;
+      private final ConcurrentMap<ConverterKey, Object> converters = new ConcurrentHashMap<>();
+
+      CacheGeneration(long version)
+      {
+         this.version = version;
+      }
+   }
+
+   private static final class ConverterKey
+   {
+      private final Class<?> source;
+      private final Class<?> target;
+
+      ConverterKey(Class<?> source, Class<?> target)
+      {
+         this.source = source;
+         this.target = target;
+      }
+
+      @Override
+      public int hashCode()
+      {
+         return 31 * source.hashCode() + target.hashCode();
+      }
+
+      @Override
+      public boolean equals(Object obj)
+      {
+         if (this == obj)
+            return true;
+         if (!(obj instanceof ConverterKey))
+            return false;
+         ConverterKey other = (ConverterKey) obj;
+         return source.equals(other.source) && target.equals(other.target);
+      }
+   }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.convert.impl;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.forge.addon.convert.Converter;
+import org.jboss.forge.addon.convert.exception.ConverterNotFoundException;
+import org.jboss.forge.furnace.addons.AddonRegistry;
+import org.jboss.forge.furnace.services.Imported;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ConverterFactoryImplTest
+{
+   private final AtomicLong version = new AtomicLong();
+   private final AtomicInteger lookups = new AtomicInteger();
+   private ConverterFactoryImpl factory;
+
+   @Before
+   public void setUp()
+   {
+      factory = new ConverterFactoryImpl(newRegistry());
+   }
+
+   @Test
+   public void testConverterIsCachedForTheSameRegistryVersion()
+   {
+      Converter<String, Integer> converter = factory.getConverter(String.class, Integer.class);
+      Assert.assertSame(converter, factory.getConverter(String.class, Integer.class));
+      Assert.assertEquals(1, lookups.get());
+   }
+
+   @Test
+   public void testCacheIsReplacedWhenRegistryVersionChanges()
+   {
+      Converter<String, Integer> converter = factory.getConverter(String.class, Integer.class);
+      version.incrementAndGet();
+      Converter<String, Integer> newConverter = factory.getConverter(String.class, Integer.class);
+      Assert.assertNotSame(converter, newConverter);
+      Assert.assertSame(newConverter, factory.getConverter(String.class, Integer.class));
+      Assert.assertEquals(2, lookups.get());
+   }
+
+   @Test
+   public void testMissingConverterIsCached()
+   {
+      for (int i = 0; i < 2; i++)
+      {
+         try
+         {
+            factory.getConverter(Integer.class, Thread.class);
+            Assert.fail("No converter expected from Integer to Thread");
+         }
+         catch (ConverterNotFoundException expected)
+         {
+         }
+      }
+      Assert.assertEquals(1, lookups.get());
+   }
+
+   @Test
+   public void testConcurrentLookupsShareOneConverter() throws Exception
+   {
+      final Converter<?, ?>[] converters = new Converter<?, ?>[8];
+      Thread[] threads = new Thread[converters.length];
+      for (int i = 0; i < threads.length; i++)
+      {
+         final int index = i;
+         threads[i] = new Thread()
+         {
+            @Override
+            public void run()
+            {
+               converters[index] = factory.getConverter(String.class, Long.class);
+            }
+         };
+         threads[i].start();
+      }
+      for (Thread thread : threads)
+      {
+         thread.join();
+      }
+      for (Converter<?, ?> converter : converters)
+      {
+         Assert.assertSame(converters[0], converter);
+      }
+   }
+
+   /**
+    * A registry without any {@link org.jboss.forge.addon.convert.ConverterGenerator} or service, counting the
+    * generator lookups
+    */
+   private AddonRegistry newRegistry()
+   {
+      final Imported<?> noServices = (Imported<?>) Proxy.newProxyInstance(getClass().getClassLoader(),
+               new Class<?>[] { Imported.class }, new InvocationHandler()
+               {
+                  @Override
+                  public Object invoke(Object proxy, Method method, Object[] args)
+                  {
+                     if ("iterator".equals(method.getName()))
+                        return Collections.emptyList().iterator();
+                     if ("isUnsatisfied".equals(method.getName()))
+                        return true;
+                     return method.getReturnType() == boolean.class ? Boolean.FALSE : null;
+                  }
+               });
+      return (AddonRegistry) Proxy.newProxyInstance(getClass().getClassLoader(),
+               new Class<?>[] { AddonRegistry.class }, new InvocationHandler()
+               {
+                  @Override
+                  public Object invoke(Object proxy, Method method, Object[] args)
+                  {
+                     if ("getVersion".equals(method.getName()))
+                        return version.get();
+                     if ("getServices".equals(method.getName()))
+                     {
+                        if (args[0] == org.jboss.forge.addon.convert.ConverterGenerator.class)
+                           lookups.incrementAndGet();
+                        return noServices;
+                     }
+                     throw new UnsupportedOperationException(method.getName());
+                  }
+               });
+   }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.convert.impl;
+
+import org.jboss.forge.addon.convert.exception.ConversionException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ReflectiveConvertersTest
+{
+   @Test
+   public void testStaticMethodConverter() throws Exception
+   {
+      MethodConverter<String, Integer> converter = new MethodConverter<>(String.class, Integer.class, null,
+               Integer.class.getMethod("valueOf", String.class));
+      Assert.assertEquals(Integer.valueOf(42), converter.convert("42"));
+   }
+
+   @Test
+   public void testInstanceMethodConverter() throws Exception
+   {
+      MethodConverter<String, String> converter = new MethodConverter<>(String.class, String.class, "prefix-",
+               String.class.getMethod("concat", String.class));
+      Assert.assertEquals("prefix-value", converter.convert("value"));
+   }
+
+   @Test
+   public void testConstructorConverter() throws Exception
+   {
+      ConstructorConverter<String, StringBuilder> converter = new ConstructorConverter<>(String.class,
+               StringBuilder.class, StringBuilder.class.getConstructor(String.class));
+      Assert.assertEquals("value", converter.convert("value").toString());
+   }
+
+   @Test(expected = ConversionException.class)
+   public void testMethodConverterWrapsFailures() throws Exception
+   {
+      MethodConverter<String, Integer> converter = new MethodConverter<>(String.class, Integer.class, null,
+               Integer.class.getMethod("valueOf", String.class));
+      converter.convert("not a number");
+   }
+
+   @Test(expected = ConversionException.class)
+   public void testConstructorConverterWrapsFailures() throws Exception
+   {
+      ConstructorConverter<String, Integer> converter = new ConstructorConverter<>(String.class, Integer.class,
+               Integer.class.getConstructor(String.class));
+      converter.convert("not a number");
+   }
+}
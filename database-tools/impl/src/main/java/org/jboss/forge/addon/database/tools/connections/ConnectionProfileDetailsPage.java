@@ -3,7 +3,6 @@ package org.jboss.forge.addon.database.tools.connections;
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
-import java.net.URLClassLoader;
 import java.sql.Driver;
 import java.util.ArrayList;
 import java.util.Enumeration;
@@ -16,6 +15,8 @@ import java.util.jar.JarFile;
 import javax.inject.Inject;
 
 import org.jboss.forge.addon.convert.Converter;
+import org.jboss.forge.addon.database.tools.util.DriverClassLoaderCache;
+import org.jboss.forge.addon.database.tools.util.DriverClassLoaderCache.DriverClassLoader;
 import org.jboss.forge.addon.resource.FileResource;
 import org.jboss.forge.addon.ui.context.UIBuilder;
 import org.jboss.forge.addon.ui.context.UIValidationContext;
@@ -69,6 +70,9 @@ public class ConnectionProfileDetailsPage
             description = "The class name of the JDBC driver",
             required = true)
    protected UISelectOne<String> driverClass;
+
+   @Inject
+   private DriverClassLoaderCache classLoaderCache;
    
    public void initializeUI(UIBuilder builder) throws Exception
    {
@@ -125,10 +129,12 @@ public class ConnectionProfileDetailsPage
       FileResource<?> resource = driverLocation.getValue();
       if (resource != null && resource.exists()) {
     	 JarFile jarFile = null;
+    	 DriverClassLoader driverClassLoader = null;
          try {
             File file = (File)resource.getUnderlyingResourceObject();
             URL[] urls = new URL[] { file.toURI().toURL() };
-            URLClassLoader classLoader = URLClassLoader.newInstance(urls);
+            driverClassLoader = classLoaderCache.acquire(urls);
+            ClassLoader classLoader = driverClassLoader.getClassLoader();
             Class<?> driverClass = classLoader.loadClass(Driver.class.getName());
             jarFile = new JarFile(file);
             Enumeration<JarEntry> iter = jarFile.entries();
@@ -153,6 +159,9 @@ public class ConnectionProfileDetailsPage
          } catch (Exception e) {
             // ignore and return an empty list
          } finally {
+        	 if (driverClassLoader != null) {
+        		 driverClassLoader.close();
+        	 }
         	 if (jarFile != null) {
         		 try {
 					jarFile.close();
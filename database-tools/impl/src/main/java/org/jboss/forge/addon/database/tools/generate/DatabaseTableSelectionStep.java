@@ -1,10 +1,15 @@
 package org.jboss.forge.addon.database.tools.generate;
 
-import java.util.ArrayList;
+import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.Callable;
 
 import javax.inject.Inject;
 
@@ -12,6 +17,7 @@ import org.hibernate.cfg.JDBCMetaDataConfiguration;
 import org.hibernate.cfg.reveng.DefaultReverseEngineeringStrategy;
 import org.hibernate.cfg.reveng.ReverseEngineeringSettings;
 import org.hibernate.cfg.reveng.ReverseEngineeringStrategy;
+import org.hibernate.cfg.reveng.TableIdentifier;
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.mapping.Property;
 import org.hibernate.mapping.Table;
@@ -27,6 +33,7 @@ import org.jboss.forge.addon.ui.context.UIContext;
 import org.jboss.forge.addon.ui.context.UIExecutionContext;
 import org.jboss.forge.addon.ui.context.UINavigationContext;
 import org.jboss.forge.addon.ui.context.UIValidationContext;
+import org.jboss.forge.addon.ui.input.UIInput;
 import org.jboss.forge.addon.ui.input.UISelectMany;
 import org.jboss.forge.addon.ui.metadata.UICommandMetadata;
 import org.jboss.forge.addon.ui.metadata.WithAttributes;
@@ -42,6 +49,13 @@ public class DatabaseTableSelectionStep implements UIWizardStep
    private static String NAME = "Database Table Selection";
    private static String DESCRIPTION = "Select the database tables for which you want to generate entities";
 
+   @Inject
+   @WithAttributes(
+            label = "Table Name Pattern",
+            description = "The pattern of the database tables to list, where % matches any characters",
+            defaultValue = "%")
+   private UIInput<String> tableNamePattern;
+
    @Inject
    @WithAttributes(
             label = "Database Tables",
@@ -74,29 +88,57 @@ public class DatabaseTableSelectionStep implements UIWizardStep
    
    @Inject
    private HibernateToolsHelper helper;
-   
-   private JDBCMetaDataConfiguration jmdc;
 
-   @SuppressWarnings("unchecked")
+   private String listedPattern;
+   private List<String> listedTables = Collections.emptyList();
+   private SQLException listError;
+   
    @Override
    public void initializeUI(UIBuilder builder) throws Exception
    {
-      jmdc = new JDBCMetaDataConfiguration();
-      jmdc.setProperties(descriptor.connectionProperties);
-      jmdc.setReverseEngineeringStrategy(createReverseEngineeringStrategy());
-      helper.buildMappings(descriptor.urls, descriptor.driverClass, jmdc);
-      Iterator<Object> iterator = jmdc.getTableMappings();
-      ArrayList<String> tables = new ArrayList<String>();
-      while (iterator.hasNext()) {
-         Object mapping = iterator.next();
-         if (mapping instanceof Table) {
-            Table table = (Table)mapping;
-            tables.add(table.getName());
+      Callable<Iterable<String>> tables = new Callable<Iterable<String>>()
+      {
+         @Override
+         public Iterable<String> call()
+         {
+            return getTableNames();
          }
-      }
+      };
       databaseTables.setValueChoices(tables);
       databaseTables.setDefaultValue(tables);
-      builder.add(databaseTables);
+      builder.add(tableNamePattern).add(databaseTables);
+   }
+
+   /**
+    * Lists the tables matching the table name pattern. Only the table names are read here: the reverse engineering
+    * model is built for the selected tables on execution. The database is only read again when the pattern changes.
+    */
+   private List<String> getTableNames()
+   {
+      String pattern = tableNamePattern.getValue();
+      if (pattern == null || pattern.isEmpty())
+      {
+         pattern = "%";
+      }
+      if (!pattern.equals(listedPattern))
+      {
+         listedPattern = pattern;
+         try
+         {
+            listedTables = helper.getTableNames(
+                     descriptor.urls,
+                     descriptor.driverClass,
+                     descriptor.connectionProperties,
+                     pattern);
+            listError = null;
+         }
+         catch (SQLException e)
+         {
+            listedTables = Collections.emptyList();
+            listError = e;
+         }
+      }
+      return listedTables;
    }
 
    @Override
@@ -109,6 +151,11 @@ public class DatabaseTableSelectionStep implements UIWizardStep
    @Override
    public void validate(UIValidationContext context)
    {
+      getTableNames();
+      if (listError != null)
+      {
+         context.addValidationError(databaseTables, "Could not list the database tables: " + listError.getMessage());
+      }
    }
    
    private boolean isSelected(Collection<String> selection, POJOClass element) {
@@ -147,7 +194,7 @@ public class DatabaseTableSelectionStep implements UIWizardStep
    }
    
    private Collection<String> getSelectedTableNames() {
-      ArrayList<String> result = new ArrayList<String>();
+      Set<String> result = new HashSet<String>();
       Iterator<String> iterator = databaseTables.getValue().iterator();
       while (iterator.hasNext()) {
          result.add(iterator.next());
@@ -158,6 +205,10 @@ public class DatabaseTableSelectionStep implements UIWizardStep
    private void exportSelectedEntities()
    {     
       final Collection<String> selectedTableNames = getSelectedTableNames();     
+      JDBCMetaDataConfiguration jmdc = new JDBCMetaDataConfiguration();
+      jmdc.setProperties(descriptor.connectionProperties);
+      jmdc.setReverseEngineeringStrategy(createReverseEngineeringStrategy(selectedTableNames));
+      helper.buildMappings(descriptor.urls, descriptor.driverClass, jmdc);
       JavaSourceFacet java = descriptor.selectedProject.getFacet(JavaSourceFacet.class);
       POJOExporter pj = new POJOExporter(jmdc, java.getSourceDirectory()
                .getUnderlyingResourceObject()) {
@@ -177,9 +228,17 @@ public class DatabaseTableSelectionStep implements UIWizardStep
       pj.start();
    }
 
-   private ReverseEngineeringStrategy createReverseEngineeringStrategy()
+   ReverseEngineeringStrategy createReverseEngineeringStrategy(final Collection<String> selectedTableNames)
    {
-      ReverseEngineeringStrategy strategy = new DefaultReverseEngineeringStrategy();
+      ReverseEngineeringStrategy strategy = new DefaultReverseEngineeringStrategy()
+      {
+         @Override
+         public boolean excludeTable(TableIdentifier ti)
+         {
+            // Do not read the columns and keys of the tables that are not exported
+            return !selectedTableNames.contains(ti.getName());
+         }
+      };
       ReverseEngineeringSettings revengsettings =
                new ReverseEngineeringSettings(strategy)
                         .setDefaultPackageName(descriptor.targetPackage)
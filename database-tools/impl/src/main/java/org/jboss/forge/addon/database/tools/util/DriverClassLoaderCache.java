@@ -0,0 +1,235 @@
+package org.jboss.forge.addon.database.tools.util;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Singleton;
+
+/**
+ * Caches the class loaders of the JDBC driver JARs, so that the driver classes are loaded and verified once and the
+ * JAR files are not left open by each connection, table listing or entity generation.
+ *
+ * A class loader is shared by all the callers using the same JARs, as long as the JARs are not modified. Callers
+ * {@link #acquire(URL[])} a {@link DriverClassLoader} and close it when done. A class loader replaced by a newer one is
+ * closed once its last user closed it, and all the class loaders are closed with {@link #close()}.
+ *
+ * Class loaders unused for {@value #DEFAULT_IDLE_TIMEOUT_MINUTES} minutes are closed, and at most
+ * {@value #DEFAULT_MAX_ENTRIES} class loaders are cached, unless more are in use at the same time: the least recently
+ * used ones are closed first. Both limits are applied when a class loader is acquired.
+ *
+ * Closing a class loader releases its JAR files. JDBC drivers register themselves with the
+ * {@link java.sql.DriverManager} when their class is initialized, and only code loaded by the same class loader may
+ * deregister them, so the driver classes a class loader loaded stay referenced by the {@link java.sql.DriverManager}.
+ */
+@Singleton
+public class DriverClassLoaderCache
+{
+   private static final Logger log = Logger.getLogger(DriverClassLoaderCache.class.getName());
+
+   static final int DEFAULT_MAX_ENTRIES = 4;
+   static final long DEFAULT_IDLE_TIMEOUT_MINUTES = 10;
+
+   private final Map<List<String>, Entry> entries = new HashMap<List<String>, Entry>();
+   private final int maxEntries;
+   private final long idleTimeoutNanos;
+
+   public DriverClassLoaderCache()
+   {
+      this(DEFAULT_MAX_ENTRIES, DEFAULT_IDLE_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+   }
+
+   DriverClassLoaderCache(int maxEntries, long idleTimeout, TimeUnit unit)
+   {
+      this.maxEntries = maxEntries;
+      this.idleTimeoutNanos = unit.toNanos(idleTimeout);
+   }
+
+   /**
+    * Returns a class loader over the given driver JARs. The returned {@link DriverClassLoader} must be closed by the
+    * caller.
+    */
+   public synchronized DriverClassLoader acquire(URL[] urls)
+   {
+      List<String> key = new ArrayList<String>(urls.length);
+      for (URL url : urls)
+      {
+         key.add(url.toExternalForm());
+      }
+      List<Long> lastModified = getLastModified(urls);
+      Entry entry = entries.remove(key);
+      if (entry != null && !entry.lastModified.equals(lastModified))
+      {
+         // The JARs changed: close the stale class loader once it is not used anymore
+         retire(entry);
+         entry = null;
+      }
+      evictUnused();
+      if (entry == null)
+      {
+         entry = new Entry(new URLClassLoader(urls, getClass().getClassLoader()), lastModified);
+      }
+      entries.put(key, entry);
+      entry.references++;
+      return new DriverClassLoader(entry);
+   }
+
+   /**
+    * Closes the unused class loaders idle for longer than the idle timeout, then the least recently used unused ones
+    * until there is room for one more entry. Class loaders in use are never closed.
+    */
+   private void evictUnused()
+   {
+      long now = System.nanoTime();
+      for (Iterator<Entry> iterator = entries.values().iterator(); iterator.hasNext();)
+      {
+         Entry entry = iterator.next();
+         if (entry.references == 0 && now - entry.lastUsed >= idleTimeoutNanos)
+         {
+            iterator.remove();
+            retire(entry);
+         }
+      }
+      while (entries.size() >= maxEntries)
+      {
+         Map.Entry<List<String>, Entry> leastRecentlyUsed = null;
+         for (Map.Entry<List<String>, Entry> candidate : entries.entrySet())
+         {
+            Entry entry = candidate.getValue();
+            if (entry.references == 0
+                     && (leastRecentlyUsed == null || entry.lastUsed - leastRecentlyUsed.getValue().lastUsed < 0))
+            {
+               leastRecentlyUsed = candidate;
+            }
+         }
+         if (leastRecentlyUsed == null)
+         {
+            // All the class loaders are in use
+            return;
+         }
+         entries.remove(leastRecentlyUsed.getKey());
+         retire(leastRecentlyUsed.getValue());
+      }
+   }
+
+   /**
+    * Closes all the cached class loaders. Class loaders still in use are closed when their last user releases them.
+    */
+   @PreDestroy
+   public synchronized void close()
+   {
+      for (Entry entry : entries.values())
+      {
+         retire(entry);
+      }
+      entries.clear();
+   }
+
+   private synchronized void release(Entry entry)
+   {
+      entry.references--;
+      entry.lastUsed = System.nanoTime();
+      closeIfUnused(entry);
+   }
+
+   private static void retire(Entry entry)
+   {
+      entry.retired = true;
+      closeIfUnused(entry);
+   }
+
+   private static void closeIfUnused(Entry entry)
+   {
+      if (entry.retired && entry.references == 0)
+      {
+         try
+         {
+            entry.classLoader.close();
+         }
+         catch (IOException e)
+         {
+            log.log(Level.WARNING, "Could not close the class loader of the JDBC driver JARs", e);
+         }
+      }
+   }
+
+   private static List<Long> getLastModified(URL[] urls)
+   {
+      List<Long> result = new ArrayList<Long>(urls.length);
+      for (URL url : urls)
+      {
+         long lastModified = 0;
+         if ("file".equals(url.getProtocol()))
+         {
+            try
+            {
+               lastModified = new File(url.toURI()).lastModified();
+            }
+            catch (URISyntaxException e)
+            {
+               // not a local file: cached as is
+            }
+         }
+         result.add(lastModified);
+      }
+      return result;
+   }
+
+   private static class Entry
+   {
+      private final URLClassLoader classLoader;
+      private final List<Long> lastModified;
+      private int references;
+      private boolean retired;
+      private long lastUsed;
+
+      Entry(URLClassLoader classLoader, List<Long> lastModified)
+      {
+         this.classLoader = classLoader;
+         this.lastModified = lastModified;
+         this.lastUsed = System.nanoTime();
+      }
+   }
+
+   /**
+    * A class loader of JDBC driver JARs in use. Closing it releases the class loader to the
+    * {@link DriverClassLoaderCache}.
+    */
+   public class DriverClassLoader implements Closeable
+   {
+      private final Entry entry;
+      private boolean closed;
+
+      private DriverClassLoader(Entry entry)
+      {
+         this.entry = entry;
+      }
+
+      public ClassLoader getClassLoader()
+      {
+         return entry.classLoader;
+      }
+
+      @Override
+      public void close()
+      {
+         if (!closed)
+         {
+            closed = true;
+            release(entry);
+         }
+      }
+   }
+}
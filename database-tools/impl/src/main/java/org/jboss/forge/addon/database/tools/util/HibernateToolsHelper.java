@@ -3,22 +3,40 @@ package org.jboss.forge.addon.database.tools.util;
 import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.Driver;
 import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+import javax.inject.Inject;
 
 import org.hibernate.cfg.JDBCMetaDataConfiguration;
+import org.jboss.forge.addon.database.tools.util.DriverClassLoaderCache.DriverClassLoader;
 import org.jboss.forge.addon.resource.FileResource;
 
 public class HibernateToolsHelper
 {
-      
+   /**
+    * The types of the tables read by the Hibernate reverse engineering
+    */
+   private static final String[] TABLE_TYPES = { "TABLE", "VIEW" };
+
+   @Inject
+   private DriverClassLoaderCache classLoaderCache;
+
    public void buildMappings(
             URL[] urls, 
             final String driverName, 
             final JDBCMetaDataConfiguration result)
    {
-      UrlClassLoaderExecutor.execute(urls, new Runnable() {
+      execute(urls, new Runnable() {
          @Override
          public void run()
          {
@@ -28,9 +46,20 @@ public class HibernateToolsHelper
                         driverName,
                         true,
                         Thread.currentThread().getContextClassLoader()).newInstance();
-               DriverManager.registerDriver(new DelegatingDriver(driver));
-               result.readFromJDBC();
-               result.buildMappings();
+               // Hibernate gets its connections from DriverManager, which only hands out the drivers visible to
+               // the caller: the delegate is. Deregistered when done, so DriverManager does not keep the delegate.
+               // The driver class registers itself too when it is initialized, and that registration is kept
+               Driver delegatingDriver = new DelegatingDriver(driver);
+               DriverManager.registerDriver(delegatingDriver);
+               try
+               {
+                  result.readFromJDBC();
+                  result.buildMappings();
+               }
+               finally
+               {
+                  DriverManager.deregisterDriver(delegatingDriver);
+               }
             }
             catch (Exception e)
             {
@@ -40,6 +69,92 @@ public class HibernateToolsHelper
      });
    }
 
+   /**
+    * Lists the names of the tables matching the given pattern, reading only the JDBC metadata of the database. The
+    * tables are restricted to the <code>hibernate.default_catalog</code> and <code>hibernate.default_schema</code>
+    * connection properties, when set.
+    *
+    * @param tableNamePattern a {@link DatabaseMetaData} table name pattern, such as <code>%</code> for all the tables
+    * @throws SQLException if the driver cannot be loaded, or the database cannot be read
+    */
+   public List<String> getTableNames(
+            URL[] urls,
+            final String driverName,
+            final Properties connectionProperties,
+            final String tableNamePattern) throws SQLException
+   {
+      final Set<String> result = new LinkedHashSet<String>();
+      final SQLException[] error = new SQLException[1];
+      execute(urls, new Runnable() {
+         @Override
+         public void run()
+         {
+            try
+            {
+               Driver driver = (Driver) Class.forName(
+                        driverName,
+                        true,
+                        Thread.currentThread().getContextClassLoader()).newInstance();
+               String url = connectionProperties.getProperty("hibernate.connection.url");
+               Properties info = new Properties();
+               setIfNotNull(info, "user", connectionProperties.getProperty("hibernate.connection.username"));
+               setIfNotNull(info, "password", connectionProperties.getProperty("hibernate.connection.password"));
+               try (Connection connection = driver.connect(url, info))
+               {
+                  if (connection == null)
+                  {
+                     throw new SQLException("The driver " + driverName + " does not accept the URL " + url);
+                  }
+                  DatabaseMetaData metaData = connection.getMetaData();
+                  try (ResultSet tables = metaData.getTables(
+                           connectionProperties.getProperty("hibernate.default_catalog"),
+                           connectionProperties.getProperty("hibernate.default_schema"),
+                           tableNamePattern,
+                           TABLE_TYPES))
+                  {
+                     while (tables.next())
+                     {
+                        result.add(tables.getString("TABLE_NAME"));
+                     }
+                  }
+               }
+            }
+            catch (SQLException e)
+            {
+               error[0] = e;
+            }
+            catch (ReflectiveOperationException | ClassCastException e)
+            {
+               error[0] = new SQLException("Could not load the driver " + driverName, e);
+            }
+         }
+     });
+      if (error[0] != null)
+      {
+         throw error[0];
+      }
+      return new ArrayList<String>(result);
+   }
+
+   /**
+    * Runs the given {@link Runnable} with the cached class loader of the given driver JARs as context class loader
+    */
+   private void execute(URL[] urls, Runnable runnable)
+   {
+      try (DriverClassLoader classLoader = classLoaderCache.acquire(urls))
+      {
+         UrlClassLoaderExecutor.execute(classLoader.getClassLoader(), runnable);
+      }
+   }
+
+   private static void setIfNotNull(Properties properties, String key, String value)
+   {
+      if (value != null)
+      {
+         properties.setProperty(key, value);
+      }
+   }
+
    public URL[] getDriverUrls(FileResource<?> resource)
    {
       try {
@@ -0,0 +1,184 @@
+package org.jboss.forge.addon.database.tools.generate;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+
+import org.hibernate.cfg.JDBCMetaDataConfiguration;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Table;
+import org.jboss.forge.addon.database.tools.util.DriverClassLoaderCache;
+import org.jboss.forge.addon.database.tools.util.HibernateToolsHelper;
+import org.jboss.forge.addon.ui.context.UIValidationContext;
+import org.jboss.forge.addon.ui.input.UIInput;
+import org.jboss.forge.addon.ui.input.UISelectMany;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DatabaseTableSelectionStepTest
+{
+   private static final String DRIVER = "org.h2.Driver";
+   private static final String URL = "jdbc:h2:mem:selection";
+
+   private DriverClassLoaderCache cache;
+   private GenerateEntitiesCommandDescriptor descriptor;
+   private HibernateToolsHelper helper;
+   private DatabaseTableSelectionStep step;
+   private Connection connection;
+
+   @Before
+   public void setUp() throws Exception
+   {
+      Properties info = new Properties();
+      info.setProperty("user", "sa");
+      info.setProperty("password", "");
+      // The in-memory database lives until its last connection is closed
+      connection = new org.h2.Driver().connect(URL, info);
+      try (Statement statement = connection.createStatement())
+      {
+         statement.execute("CREATE TABLE CUSTOMER (ID INT PRIMARY KEY, NAME VARCHAR(255))");
+         statement.execute("CREATE TABLE ORDERS (ID INT PRIMARY KEY, CUSTOMER_ID INT REFERENCES CUSTOMER(ID))");
+      }
+
+      descriptor = new GenerateEntitiesCommandDescriptor();
+      descriptor.targetPackage = "org.example.model";
+      descriptor.urls = new URL[] { org.h2.Driver.class.getProtectionDomain().getCodeSource().getLocation() };
+      descriptor.driverClass = DRIVER;
+      descriptor.connectionProperties = new Properties();
+      descriptor.connectionProperties.setProperty("hibernate.connection.driver_class", DRIVER);
+      descriptor.connectionProperties.setProperty("hibernate.connection.url", URL);
+      descriptor.connectionProperties.setProperty("hibernate.connection.username", "sa");
+      descriptor.connectionProperties.setProperty("hibernate.connection.password", "");
+      descriptor.connectionProperties.setProperty("hibernate.default_schema", "PUBLIC");
+      descriptor.connectionProperties.setProperty("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+
+      cache = new DriverClassLoaderCache();
+      helper = new HibernateToolsHelper();
+      set(helper, "classLoaderCache", cache);
+
+      step = new DatabaseTableSelectionStep();
+      set(step, "descriptor", descriptor);
+      set(step, "helper", helper);
+      set(step, "tableNamePattern", input(UIInput.class, "%"));
+      set(step, "databaseTables", input(UISelectMany.class, null));
+   }
+
+   @After
+   public void tearDown() throws SQLException
+   {
+      connection.close();
+      cache.close();
+   }
+
+   @Test
+   public void testListedTablesAreValid()
+   {
+      Assert.assertEquals(new ArrayList<String>(), validate());
+   }
+
+   @Test
+   public void testListingErrorIsAValidationError()
+   {
+      descriptor.connectionProperties.setProperty("hibernate.connection.url", "jdbc:unknown:selection");
+
+      List<String> errors = validate();
+      Assert.assertEquals(1, errors.size());
+      Assert.assertTrue(errors.get(0), errors.get(0).startsWith("Could not list the database tables: "));
+   }
+
+   @Test
+   public void testOnlyTheSelectedTablesAreMapped()
+   {
+      JDBCMetaDataConfiguration configuration = new JDBCMetaDataConfiguration();
+      configuration.setProperties(descriptor.connectionProperties);
+      configuration.setReverseEngineeringStrategy(step.createReverseEngineeringStrategy(Arrays.asList("CUSTOMER")));
+      helper.buildMappings(descriptor.urls, DRIVER, configuration);
+
+      List<String> tables = new ArrayList<String>();
+      for (Iterator<?> iterator = configuration.getTableMappings(); iterator.hasNext();)
+      {
+         tables.add(((Table) iterator.next()).getName());
+      }
+      Assert.assertEquals(Arrays.asList("CUSTOMER"), tables);
+
+      Iterator<?> classes = configuration.getClassMappings();
+      PersistentClass customer = (PersistentClass) classes.next();
+      Assert.assertEquals("org.example.model.Customer", customer.getClassName());
+      Assert.assertFalse(classes.hasNext());
+   }
+
+   /**
+    * Validates the step
+    *
+    * @return the validation errors
+    */
+   private List<String> validate()
+   {
+      final List<String> errors = new ArrayList<String>();
+      UIValidationContext context = (UIValidationContext) Proxy.newProxyInstance(getClass().getClassLoader(),
+               new Class<?>[] { UIValidationContext.class }, new InvocationHandler()
+               {
+                  @Override
+                  public Object invoke(Object proxy, Method method, Object[] args)
+                  {
+                     if ("addValidationError".equals(method.getName()))
+                     {
+                        errors.add((String) args[1]);
+                     }
+                     return null;
+                  }
+               });
+      step.validate(context);
+      return errors;
+   }
+
+   /**
+    * @return an input of the given type, with the given value
+    */
+   private static Object input(Class<?> type, final Object value)
+   {
+      return Proxy.newProxyInstance(DatabaseTableSelectionStepTest.class.getClassLoader(), new Class<?>[] { type },
+               new InvocationHandler()
+               {
+                  @Override
+                  public Object invoke(Object proxy, Method method, Object[] args)
+                  {
+                     if ("getValue".equals(method.getName()))
+                     {
+                        return value;
+                     }
+                     if ("equals".equals(method.getName()))
+                     {
+                        return proxy == args[0];
+                     }
+                     if ("hashCode".equals(method.getName()))
+                     {
+                        return System.identityHashCode(proxy);
+                     }
+                     return null;
+                  }
+               });
+   }
+
+   /**
+    * Sets the given field, as CDI would inject it
+    */
+   private static void set(Object target, String name, Object value) throws ReflectiveOperationException
+   {
+      Field field = target.getClass().getDeclaredField(name);
+      field.setAccessible(true);
+      field.set(target, value);
+   }
+}
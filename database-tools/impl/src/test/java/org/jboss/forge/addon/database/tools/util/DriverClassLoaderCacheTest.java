@@ -0,0 +1,158 @@
+package org.jboss.forge.addon.database.tools.util;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.jboss.forge.addon.database.tools.util.DriverClassLoaderCache.DriverClassLoader;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DriverClassLoaderCacheTest
+{
+   private static final String RESOURCE = "driver-class-loader-cache-test.properties";
+
+   @Rule
+   public TemporaryFolder folder = new TemporaryFolder();
+
+   private URL[] first;
+   private URL[] second;
+
+   @Before
+   public void setUp() throws IOException
+   {
+      first = new URL[] { createJar("first.jar").toURI().toURL() };
+      second = new URL[] { createJar("second.jar").toURI().toURL() };
+   }
+
+   @Test
+   public void testClassLoaderIsSharedByTheUsersOfTheSameJars()
+   {
+      DriverClassLoaderCache cache = new DriverClassLoaderCache();
+      try (DriverClassLoader a = cache.acquire(first); DriverClassLoader b = cache.acquire(first))
+      {
+         Assert.assertSame(a.getClassLoader(), b.getClassLoader());
+         Assert.assertNotNull(a.getClassLoader().getResource(RESOURCE));
+      }
+      cache.close();
+   }
+
+   @Test
+   public void testClassLoaderIsClosedWhenItsLastUserReleasesIt()
+   {
+      DriverClassLoaderCache cache = new DriverClassLoaderCache();
+      DriverClassLoader a = cache.acquire(first);
+      DriverClassLoader b = cache.acquire(first);
+      cache.close();
+
+      a.close();
+      a.close();
+      Assert.assertTrue(isOpen(b));
+      b.close();
+      Assert.assertFalse(isOpen(b));
+   }
+
+   @Test
+   public void testModifiedJarsReplaceTheClassLoader() throws IOException
+   {
+      DriverClassLoaderCache cache = new DriverClassLoaderCache();
+      DriverClassLoader stale = cache.acquire(first);
+      File jar = new File(first[0].getPath());
+      Assert.assertTrue(jar.setLastModified(jar.lastModified() + 10000));
+
+      try (DriverClassLoader fresh = cache.acquire(first))
+      {
+         Assert.assertNotSame(stale.getClassLoader(), fresh.getClassLoader());
+         Assert.assertTrue(isOpen(stale));
+         stale.close();
+         Assert.assertFalse(isOpen(stale));
+         Assert.assertTrue(isOpen(fresh));
+      }
+      cache.close();
+   }
+
+   @Test
+   public void testCloseClosesTheUnusedClassLoaders()
+   {
+      DriverClassLoaderCache cache = new DriverClassLoaderCache();
+      DriverClassLoader a = cache.acquire(first);
+      a.close();
+      Assert.assertTrue(isOpen(a));
+
+      cache.close();
+      Assert.assertFalse(isOpen(a));
+   }
+
+   @Test
+   public void testIdleClassLoaderIsEvicted()
+   {
+      DriverClassLoaderCache cache = new DriverClassLoaderCache(10, 0, TimeUnit.MILLISECONDS);
+      DriverClassLoader a = cache.acquire(first);
+      a.close();
+      Assert.assertTrue(isOpen(a));
+
+      try (DriverClassLoader b = cache.acquire(second))
+      {
+         Assert.assertFalse(isOpen(a));
+      }
+      try (DriverClassLoader c = cache.acquire(first))
+      {
+         Assert.assertNotSame(a.getClassLoader(), c.getClassLoader());
+         Assert.assertTrue(isOpen(c));
+      }
+      cache.close();
+   }
+
+   @Test
+   public void testLeastRecentlyUsedClassLoaderIsEvicted()
+   {
+      DriverClassLoaderCache cache = new DriverClassLoaderCache(1, 1, TimeUnit.HOURS);
+      DriverClassLoader a = cache.acquire(first);
+      a.close();
+
+      DriverClassLoader b = cache.acquire(second);
+      Assert.assertFalse(isOpen(a));
+      b.close();
+      Assert.assertTrue(isOpen(b));
+      cache.close();
+   }
+
+   @Test
+   public void testClassLoaderInUseIsNotEvicted()
+   {
+      DriverClassLoaderCache cache = new DriverClassLoaderCache(1, 0, TimeUnit.MILLISECONDS);
+      try (DriverClassLoader a = cache.acquire(first); DriverClassLoader b = cache.acquire(second))
+      {
+         Assert.assertTrue(isOpen(a));
+         Assert.assertTrue(isOpen(b));
+      }
+      cache.close();
+   }
+
+   /**
+    * A closed {@link java.net.URLClassLoader} does not find the resources of its JARs anymore
+    */
+   private static boolean isOpen(DriverClassLoader classLoader)
+   {
+      return classLoader.getClassLoader().getResource(RESOURCE) != null;
+   }
+
+   private File createJar(String name) throws IOException
+   {
+      File jar = folder.newFile(name);
+      try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar)))
+      {
+         out.putNextEntry(new ZipEntry(RESOURCE));
+         out.write("name=".concat(name).getBytes("UTF-8"));
+         out.closeEntry();
+      }
+      return jar;
+   }
+}
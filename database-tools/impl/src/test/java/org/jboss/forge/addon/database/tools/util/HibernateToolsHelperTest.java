@@ -0,0 +1,128 @@
+package org.jboss.forge.addon.database.tools.util;
+
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HibernateToolsHelperTest
+{
+   private static final String DRIVER = "org.h2.Driver";
+   private static final String URL = "jdbc:h2:mem:tables";
+
+   private DriverClassLoaderCache cache;
+   private HibernateToolsHelper helper;
+   private URL[] urls;
+   private Connection connection;
+
+   @Before
+   public void setUp() throws Exception
+   {
+      cache = new DriverClassLoaderCache();
+      helper = createHelper(cache);
+      urls = new URL[] { org.h2.Driver.class.getProtectionDomain().getCodeSource().getLocation() };
+
+      // The in-memory database lives until its last connection is closed
+      Properties info = new Properties();
+      info.setProperty("user", "sa");
+      info.setProperty("password", "");
+      connection = new org.h2.Driver().connect(URL, info);
+      try (Statement statement = connection.createStatement())
+      {
+         statement.execute("CREATE TABLE CUSTOMER (ID INT PRIMARY KEY)");
+         statement.execute("CREATE TABLE CUSTOMER_ADDRESS (ID INT PRIMARY KEY)");
+         statement.execute("CREATE TABLE ORDERS (ID INT PRIMARY KEY)");
+         statement.execute("CREATE SCHEMA SALES");
+         statement.execute("CREATE TABLE SALES.INVOICE (ID INT PRIMARY KEY)");
+      }
+   }
+
+   @After
+   public void tearDown() throws SQLException
+   {
+      connection.close();
+      cache.close();
+   }
+
+   @Test
+   public void testTablesMatchThePattern() throws SQLException
+   {
+      Properties properties = connectionProperties(null, "PUBLIC");
+      Assert.assertEquals(Arrays.asList("CUSTOMER", "CUSTOMER_ADDRESS", "ORDERS"),
+               helper.getTableNames(urls, DRIVER, properties, "%"));
+      Assert.assertEquals(Arrays.asList("CUSTOMER", "CUSTOMER_ADDRESS"),
+               helper.getTableNames(urls, DRIVER, properties, "CUST%"));
+      Assert.assertEquals(Collections.emptyList(), helper.getTableNames(urls, DRIVER, properties, "PRODUCT%"));
+   }
+
+   @Test
+   public void testTablesAreRestrictedToTheDefaultSchema() throws SQLException
+   {
+      Assert.assertEquals(Arrays.asList("INVOICE"),
+               helper.getTableNames(urls, DRIVER, connectionProperties(null, "SALES"), "%"));
+      Assert.assertTrue(helper.getTableNames(urls, DRIVER, connectionProperties(null, null), "%")
+               .containsAll(Arrays.asList("CUSTOMER", "INVOICE")));
+   }
+
+   @Test
+   public void testTablesAreRestrictedToTheDefaultCatalog() throws SQLException
+   {
+      Assert.assertEquals(Arrays.asList("CUSTOMER", "CUSTOMER_ADDRESS", "ORDERS"),
+               helper.getTableNames(urls, DRIVER, connectionProperties("TABLES", "PUBLIC"), "%"));
+      Assert.assertEquals(Collections.emptyList(),
+               helper.getTableNames(urls, DRIVER, connectionProperties("OTHER", "PUBLIC"), "%"));
+   }
+
+   @Test(expected = SQLException.class)
+   public void testUnknownDriverIsReported() throws SQLException
+   {
+      helper.getTableNames(urls, "org.example.MissingDriver", connectionProperties(null, null), "%");
+   }
+
+   @Test(expected = SQLException.class)
+   public void testUnsupportedUrlIsReported() throws SQLException
+   {
+      Properties properties = connectionProperties(null, null);
+      properties.setProperty("hibernate.connection.url", "jdbc:unknown:tables");
+      helper.getTableNames(urls, DRIVER, properties, "%");
+   }
+
+   private static Properties connectionProperties(String catalog, String schema)
+   {
+      Properties properties = new Properties();
+      properties.setProperty("hibernate.connection.driver_class", DRIVER);
+      properties.setProperty("hibernate.connection.url", URL);
+      properties.setProperty("hibernate.connection.username", "sa");
+      properties.setProperty("hibernate.connection.password", "");
+      if (catalog != null)
+      {
+         properties.setProperty("hibernate.default_catalog", catalog);
+      }
+      if (schema != null)
+      {
+         properties.setProperty("hibernate.default_schema", schema);
+      }
+      return properties;
+   }
+
+   /**
+    * Creates a {@link HibernateToolsHelper} using the given cache, as CDI would inject it
+    */
+   private static HibernateToolsHelper createHelper(DriverClassLoaderCache cache) throws ReflectiveOperationException
+   {
+      HibernateToolsHelper helper = new HibernateToolsHelper();
+      Field field = HibernateToolsHelper.class.getDeclaredField("classLoaderCache");
+      field.setAccessible(true);
+      field.set(helper, cache);
+      return helper;
+   }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.facets.constraints;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.jboss.forge.addon.facets.Facet;
+import org.jboss.forge.furnace.util.Annotations;
+
+/**
+ * The {@link FacetConstraint} graph of a single inspected type. Direct constraints are read once when the graph is
+ * created, transitive closures and the circularity verdict are computed on first access. Instances are obtained
+ * through {@link #of(Class)} and are shared for the lifetime of the inspected {@link Class}.
+ */
+final class FacetConstraintGraph
+{
+   private static final ClassValue<FacetConstraintGraph> GRAPHS = new ClassValue<FacetConstraintGraph>()
+   {
+      @Override
+      protected FacetConstraintGraph computeValue(Class<?> type)
+      {
+         return new FacetConstraintGraph(type);
+      }
+   };
+
+   private final Set<Class<? extends Facet<?>>> required;
+   private final Set<Class<? extends Facet<?>>> optional;
+   private final Set<Class<? extends Facet<?>>> related;
+
+   /*
+    * Lazily computed, since computing them requires the graphs of other types. Racing threads compute equal values.
+    */
+   private volatile Set<Class<? extends Facet<?>>> allRequired;
+   private volatile Set<Class<? extends Facet<?>>> allOptional;
+   private volatile Set<Class<? extends Facet<?>>> allRelated;
+   private volatile Boolean circular;
+
+   private FacetConstraintGraph(Class<?> inspectedType)
+   {
+      this.required = readRelatedFacets(inspectedType, FacetConstraintType.REQUIRED);
+      this.optional = readRelatedFacets(inspectedType, FacetConstraintType.OPTIONAL);
+      this.related = readRelatedFacets(inspectedType);
+   }
+
+   static FacetConstraintGraph of(Class<?> inspectedType)
+   {
+      return GRAPHS.get(inspectedType);
+   }
+
+   Set<Class<? extends Facet<?>>> getRequired()
+   {
+      return required;
+   }
+
+   Set<Class<? extends Facet<?>>> getOptional()
+   {
+      return optional;
+   }
+
+   Set<Class<? extends Facet<?>>> getRelated()
+   {
+      return related;
+   }
+
+   Set<Class<? extends Facet<?>>> getAllRequired()
+   {
+      Set<Class<? extends Facet<?>>> result = allRequired;
+      if (result == null)
+      {
+         result = closure(new LinkedHashSet<Class<?>>(), this, FacetConstraintType.REQUIRED);
+         allRequired = result;
+      }
+      return result;
+   }
+
+   Set<Class<? extends Facet<?>>> getAllOptional()
+   {
+      Set<Class<? extends Facet<?>>> result = allOptional;
+      if (result == null)
+      {
+         result = closure(new LinkedHashSet<Class<?>>(), this, FacetConstraintType.OPTIONAL);
+         allOptional = result;
+      }
+      return result;
+   }
+
+   Set<Class<? extends Facet<?>>> getAllRelated()
+   {
+      Set<Class<? extends Facet<?>>> result = allRelated;
+      if (result == null)
+      {
+         result = closure(new LinkedHashSet<Class<?>>(), this, null);
+         allRelated = result;
+      }
+      return result;
+   }
+
+   boolean isCircular()
+   {
+      Boolean result = circular;
+      if (result == null)
+      {
+         result = Boolean.FALSE;
+         outer: for (Class<? extends Facet<?>> requirement : getAllRelated())
+         {
+            for (Class<? extends Facet<?>> subrequirement : of(requirement).getAllRelated())
+            {
+               if (subrequirement.isAssignableFrom(requirement))
+               {
+                  result = Boolean.TRUE;
+                  break outer;
+               }
+            }
+         }
+         circular = result;
+      }
+      return result;
+   }
+
+   private Set<Class<? extends Facet<?>>> getDirect(FacetConstraintType constraintType)
+   {
+      if (constraintType == null)
+         return related;
+      else if (constraintType == FacetConstraintType.REQUIRED)
+         return required;
+      else
+         return optional;
+   }
+
+   /**
+    * Depth-first traversal of the constraint tree, adding dependencies before the types that declare them.
+    */
+   private static Set<Class<? extends Facet<?>>> closure(Set<Class<?>> seen, FacetConstraintGraph graph,
+            FacetConstraintType constraintType)
+   {
+      Set<Class<? extends Facet<?>>> result = new LinkedHashSet<Class<? extends Facet<?>>>();
+      Set<Class<? extends Facet<?>>> direct = graph.getDirect(constraintType);
+
+      for (Class<? extends Facet<?>> relatedType : direct)
+      {
+         if (seen.add(relatedType))
+         {
+            result.addAll(closure(seen, of(relatedType), constraintType));
+         }
+      }
+
+      result.addAll(direct);
+      return Collections.unmodifiableSet(result);
+   }
+
+   @SuppressWarnings({ "unchecked", "rawtypes" })
+   private static Set<Class<? extends Facet<?>>> readRelatedFacets(final Class<?> inspectedType,
+            FacetConstraintType... constraintTypes)
+   {
+      Set<Class<? extends Facet<?>>> result = new LinkedHashSet<Class<? extends Facet<?>>>();
+
+      if (Annotations.isAnnotationPresent(inspectedType, FacetConstraints.class))
+      {
+         FacetConstraints constraints = Annotations.getAnnotation(inspectedType, FacetConstraints.class);
+         for (FacetConstraint constraint : constraints.value())
+         {
+            if (constraint.value() != null
+                     && (constraintTypes == null || constraintTypes.length == 0 || equalsAny(constraint.type(),
+                              constraintTypes)))
+            {
+               for (Class<? extends Facet> facetType : constraint.value())
+               {
+                  if (Facet.class.isAssignableFrom(facetType) && !facetType.isAssignableFrom(inspectedType))
+                     result.add((Class<? extends Facet<?>>) facetType);
+               }
+            }
+         }
+      }
+
+      if (Annotations.isAnnotationPresent(inspectedType, FacetConstraint.class))
+      {
+         FacetConstraint constraint = Annotations.getAnnotation(inspectedType, FacetConstraint.class);
+         if (constraint.value() != null
+                  && (constraintTypes == null || constraintTypes.length == 0 || equalsAny(constraint.type(),
+                           constraintTypes)))
+         {
+            for (Class<? extends Facet> facetType : constraint.value())
+            {
+               if (Facet.class.isAssignableFrom(facetType) && !facetType.isAssignableFrom(inspectedType))
+                  result.add((Class<? extends Facet<?>>) facetType);
+            }
+         }
+      }
+
+      return Collections.unmodifiableSet(result);
+   }
+
+   private static boolean equalsAny(FacetConstraintType type, FacetConstraintType... validTypes)
+   {
+      if (validTypes != null)
+      {
+         for (FacetConstraintType validType : validTypes)
+         {
+            if (validType.equals(type))
+               return true;
+         }
+      }
+      return false;
+   }
+}
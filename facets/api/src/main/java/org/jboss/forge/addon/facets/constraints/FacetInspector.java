@@ -7,15 +7,14 @@
 
 package org.jboss.forge.addon.facets.constraints;
 
-import java.util.LinkedHashSet;
 import java.util.Set;
 
 import org.jboss.forge.addon.facets.Facet;
 import org.jboss.forge.addon.facets.Faceted;
-import org.jboss.forge.furnace.util.Annotations;
 
 /**
- * Used to inspect types that may or may not depend on {@link Facet}s or packaging types.
+ * Used to inspect types that may or may not depend on {@link Facet}s or packaging types. Inspection results are
+ * computed once per inspected type and cached; returned {@link Set} instances are unmodifiable.
  * 
  * @author <a href="mailto:lincolnbaxter@gmail.com">Lincoln Baxter, III</a>
  */
@@ -46,16 +45,7 @@ public abstract class FacetInspector
    public static <FACETEDTYPE extends Faceted<?>, FACETTYPE extends Facet<FACETEDTYPE>> boolean hasCircularConstraints(
             Class<?> inspectedType)
    {
-      Set<Class<FACETTYPE>> allRelatedFacets = getAllRelatedFacets(inspectedType);
-      for (Class<? extends Facet<?>> requirement : allRelatedFacets)
-      {
-         for (Class<? extends Facet<?>> subrequirement : getAllRelatedFacets(requirement))
-         {
-            if (subrequirement.isAssignableFrom(requirement))
-               return true;
-         }
-      }
-      return false;
+      return FacetConstraintGraph.of(inspectedType).isCircular();
    }
 
    /**
@@ -63,7 +53,7 @@ public abstract class FacetInspector
     */
    public static <FACETTYPE extends Facet<?>> Set<Class<FACETTYPE>> getOptionalFacets(final Class<?> inspectedType)
    {
-      return getRelatedFacets(inspectedType, FacetConstraintType.OPTIONAL);
+      return cast(FacetConstraintGraph.of(inspectedType).getOptional());
    }
 
    /**
@@ -71,62 +61,7 @@ public abstract class FacetInspector
     */
    public static <FACETTYPE extends Facet<?>> Set<Class<FACETTYPE>> getRequiredFacets(final Class<?> inspectedType)
    {
-      return getRelatedFacets(inspectedType, FacetConstraintType.REQUIRED);
-   }
-
-   @SuppressWarnings({ "unchecked", "rawtypes" })
-   private static <FACETTYPE extends Facet<?>> Set<Class<FACETTYPE>> getRelatedFacets(final Class<?> inspectedType,
-            FacetConstraintType... constraintTypes)
-   {
-      Set<Class<FACETTYPE>> result = new LinkedHashSet<Class<FACETTYPE>>();
-
-      if (Annotations.isAnnotationPresent(inspectedType, FacetConstraints.class))
-      {
-         FacetConstraints constraints = Annotations.getAnnotation(inspectedType, FacetConstraints.class);
-         for (FacetConstraint constraint : constraints.value())
-         {
-            if (constraint.value() != null
-                     && (constraintTypes == null || constraintTypes.length == 0 || equalsAny(constraint.type(),
-                              constraintTypes)))
-            {
-               for (Class<? extends Facet> facetType : constraint.value())
-               {
-                  if (Facet.class.isAssignableFrom(facetType) && !facetType.isAssignableFrom(inspectedType))
-                     result.add((Class<FACETTYPE>) facetType);
-               }
-            }
-         }
-      }
-
-      if (Annotations.isAnnotationPresent(inspectedType, FacetConstraint.class))
-      {
-         FacetConstraint constraint = Annotations.getAnnotation(inspectedType, FacetConstraint.class);
-         if (constraint.value() != null
-                  && (constraintTypes == null || constraintTypes.length == 0 || equalsAny(constraint.type(),
-                           constraintTypes)))
-         {
-            for (Class<? extends Facet> facetType : constraint.value())
-            {
-               if (Facet.class.isAssignableFrom(facetType) && !facetType.isAssignableFrom(inspectedType))
-                  result.add((Class<FACETTYPE>) facetType);
-            }
-         }
-      }
-
-      return result;
-   }
-
-   private static boolean equalsAny(FacetConstraintType type, FacetConstraintType... validTypes)
-   {
-      if (validTypes != null)
-      {
-         for (FacetConstraintType validType : validTypes)
-         {
-            if (validType.equals(type))
-               return true;
-         }
-      }
-      return false;
+      return cast(FacetConstraintGraph.of(inspectedType).getRequired());
    }
 
    /**
@@ -136,19 +71,18 @@ public abstract class FacetInspector
    public static <FACETEDTYPE extends Faceted<FACETTYPE>, FACETTYPE extends Facet<FACETEDTYPE>> Set<Class<FACETTYPE>> getAllOptionalFacets(
             final Class<FACETTYPE> inspectedType)
    {
-      Set<Class<FACETTYPE>> seen = new LinkedHashSet<Class<FACETTYPE>>();
-      return getAllRelatedFacets(seen, inspectedType, FacetConstraintType.OPTIONAL);
+      return cast(FacetConstraintGraph.of(inspectedType).getAllOptional());
    }
 
    /**
     * Inspect the given {@link Class} for all {@link FacetConstraintType#REQUIRED} dependency {@link Facet} types. This
-    * method inspects the entire constraint tree.
+    * method inspects the entire constraint tree. The result is ordered such that every type appears after the types
+    * it requires, and may therefore be used as an installation order.
     */
    public static <FACETEDTYPE extends Faceted<FACETTYPE>, FACETTYPE extends Facet<FACETEDTYPE>> Set<Class<FACETTYPE>> getAllRequiredFacets(
             final Class<FACETTYPE> inspectedType)
    {
-      Set<Class<FACETTYPE>> seen = new LinkedHashSet<Class<FACETTYPE>>();
-      return getAllRelatedFacets(seen, inspectedType, FacetConstraintType.REQUIRED);
+      return cast(FacetConstraintGraph.of(inspectedType).getAllRequired());
    }
 
    /**
@@ -157,26 +91,12 @@ public abstract class FacetInspector
     */
    public static <FACETTYPE extends Facet<?>> Set<Class<FACETTYPE>> getAllRelatedFacets(final Class<?> inspectedType)
    {
-      Set<Class<FACETTYPE>> seen = new LinkedHashSet<Class<FACETTYPE>>();
-      return getAllRelatedFacets(seen, inspectedType);
+      return cast(FacetConstraintGraph.of(inspectedType).getAllRelated());
    }
 
-   private static <FACETTYPE extends Facet<?>> Set<Class<FACETTYPE>> getAllRelatedFacets(
-            Set<Class<FACETTYPE>> seen, final Class<?> inspectedType, FacetConstraintType... constraintTypes)
+   @SuppressWarnings({ "unchecked", "rawtypes" })
+   private static <FACETTYPE extends Facet<?>> Set<Class<FACETTYPE>> cast(Set<Class<? extends Facet<?>>> types)
    {
-      Set<Class<FACETTYPE>> result = new LinkedHashSet<Class<FACETTYPE>>();
-      Set<Class<FACETTYPE>> related = getRelatedFacets(inspectedType, constraintTypes);
-
-      for (Class<FACETTYPE> relatedType : related)
-      {
-         if (!seen.contains(relatedType))
-         {
-            seen.add(relatedType);
-            result.addAll(getAllRelatedFacets(seen, relatedType, constraintTypes));
-         }
-      }
-
-      result.addAll(related);
-      return result;
+      return (Set) types;
    }
-}
\ No newline at end of file
+}
@@ -6,10 +6,14 @@
  */
 package test.org.jboss.forge.addon.facets.constraints;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Set;
 
 import org.jboss.forge.addon.facets.AbstractFacet;
 import org.jboss.forge.addon.facets.AbstractFaceted;
+import org.jboss.forge.addon.facets.constraints.FacetConstraint;
+import org.jboss.forge.addon.facets.constraints.FacetConstraintType;
 import org.jboss.forge.addon.facets.constraints.FacetInspector;
 import org.junit.Assert;
 import org.junit.Test;
@@ -27,6 +31,71 @@ public class FacetInspectorTest
       Assert.assertTrue("Facet list should have been empty", facets.isEmpty());
    }
 
+   @Test
+   public void testAllRequiredFacetsAreInInstallationOrder()
+   {
+      Set<Class<FacetA>> facets = FacetInspector.getAllRequiredFacets(FacetA.class);
+      Assert.assertEquals(Arrays.<Class<?>> asList(FacetC.class, FacetB.class), new ArrayList<Class<?>>(facets));
+      Assert.assertFalse(FacetInspector.hasCircularConstraints(FacetA.class));
+   }
+
+   @Test
+   public void testOptionalFacetsAreNotRequired()
+   {
+      Assert.assertTrue(FacetInspector.getRequiredFacets(FacetC.class).isEmpty());
+      Assert.assertEquals(1, FacetInspector.getOptionalFacets(FacetC.class).size());
+      Assert.assertEquals(1, FacetInspector.getAllRelatedFacets(FacetC.class).size());
+   }
+
+   @Test
+   public void testCircularConstraints()
+   {
+      Assert.assertTrue(FacetInspector.hasCircularConstraints(FacetX.class));
+      Assert.assertTrue(FacetInspector.hasCircularConstraints(FacetY.class));
+   }
+
+   @Test
+   public void testInspectionResultsAreCached()
+   {
+      Assert.assertSame(FacetInspector.getAllRelatedFacets(FacetA.class),
+               FacetInspector.getAllRelatedFacets(FacetA.class));
+   }
+
+   @Test(expected = UnsupportedOperationException.class)
+   public void testInspectionResultsAreUnmodifiable()
+   {
+      FacetInspector.getRequiredFacets(FacetA.class).clear();
+   }
+
+   @FacetConstraint(FacetB.class)
+   public class FacetA extends FacetZ
+   {
+   }
+
+   @FacetConstraint(FacetC.class)
+   public class FacetB extends FacetZ
+   {
+   }
+
+   @FacetConstraint(value = FacetD.class, type = FacetConstraintType.OPTIONAL)
+   public class FacetC extends FacetZ
+   {
+   }
+
+   public class FacetD extends FacetZ
+   {
+   }
+
+   @FacetConstraint(FacetY.class)
+   public class FacetX extends FacetZ
+   {
+   }
+
+   @FacetConstraint(FacetX.class)
+   public class FacetY extends FacetZ
+   {
+   }
+
    public class FacetZ extends AbstractFacet<AbstractFaceted<FacetZ>>
    {
       @Override
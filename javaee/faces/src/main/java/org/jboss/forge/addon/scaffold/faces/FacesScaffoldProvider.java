@@ -8,11 +8,13 @@ import java.io.IOException;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
 import javax.inject.Inject;
 import javax.persistence.CascadeType;
@@ -45,6 +47,8 @@ import org.jboss.forge.addon.resource.Resource;
 import org.jboss.forge.addon.resource.ResourceFilter;
 import org.jboss.forge.addon.scaffold.faces.freemarker.FreemarkerTemplateProcessor;
 import org.jboss.forge.addon.scaffold.faces.metawidget.config.ForgeConfigReader;
+import org.jboss.forge.addon.scaffold.faces.metawidget.inspector.propertystyle.ForgeInspectionCache;
+import org.jboss.forge.addon.scaffold.util.ScaffoldManifest;
 import org.jboss.forge.addon.scaffold.util.ScaffoldUtil;
 import org.jboss.forge.addon.scaffold.spi.AccessStrategy;
 import org.jboss.forge.addon.scaffold.spi.ScaffoldGenerationContext;
@@ -55,6 +59,7 @@ import org.jboss.forge.addon.ui.command.UICommand;
 import org.jboss.forge.addon.ui.result.NavigationResult;
 import org.jboss.forge.addon.ui.result.navigation.NavigationResultBuilder;
 import org.jboss.forge.addon.ui.util.Metadata;
+import org.jboss.forge.furnace.util.Streams;
 import org.jboss.forge.parser.JavaParser;
 import org.jboss.forge.parser.java.*;
 import org.jboss.shrinkwrap.descriptor.api.javaee6.ParamValueType;
@@ -147,6 +152,7 @@ public class FacesScaffoldProvider implements ScaffoldProvider
 
    private Configuration config;
    private Project project;
+   private ScaffoldManifest manifest;
 
    @Inject
    public FacesScaffoldProvider(final Configuration config, final FreemarkerTemplateProcessor templateProcessor)
@@ -158,7 +164,7 @@ public class FacesScaffoldProvider implements ScaffoldProvider
    public void setProject(Project project)
    {
       this.project = project;
-      resetMetaWidgets();
+      this.manifest = ScaffoldManifest.load(project, getName());
    }
 
    @Override
@@ -181,6 +187,7 @@ public class FacesScaffoldProvider implements ScaffoldProvider
       boolean overwrite = setupContext.isOverwrite();
       Resource<?> template = null;
       List<Resource<?>> resources = generateIndex(targetDir, template, overwrite);
+      this.manifest.save();
       setupWebXML();
 
       return resources;
@@ -204,7 +211,7 @@ public class FacesScaffoldProvider implements ScaffoldProvider
    public List<Resource<?>> generateFrom(Project project, ScaffoldGenerationContext generationContext)
    {
       setProject(project);
-      List<Resource<?>> generatedResources = new ArrayList<Resource<?>>();
+      List<JavaClass> entities = new ArrayList<JavaClass>();
       Collection<?> resources = generationContext.getResources();
       for (Object resource : resources)
       {
@@ -225,23 +232,20 @@ public class FacesScaffoldProvider implements ScaffoldProvider
          {
             continue;
          }
-
-         JavaClass entity = (JavaClass) javaSource;
-         String targetDir = generationContext.getTargetDirectory();
-         targetDir = (targetDir == null) ? "" : targetDir;
-         Resource<?> template = (Resource<?>) generationContext.getAttribute("pageTemplate");
-         boolean overwrite = generationContext.isOverwrite();
-         List<Resource<?>> generatedResourcesForEntity = this
-                  .generateFromEntity(targetDir, template, entity, overwrite);
-
-         // TODO give plugins a chance to react to generated resources, use event bus?
-         // if (!generatedResources.isEmpty())
-         // {
-         // generatedEvent.fire(new ScaffoldGeneratedResources(provider, prepareResources(generatedResources)));
-         // }
-         generatedResources.addAll(generatedResourcesForEntity);
+         entities.add((JavaClass) javaSource);
       }
-      return generatedResources;
+
+      String targetDir = generationContext.getTargetDirectory();
+      targetDir = (targetDir == null) ? "" : targetDir;
+      Resource<?> template = (Resource<?>) generationContext.getAttribute("pageTemplate");
+      boolean overwrite = generationContext.isOverwrite();
+
+      // TODO give plugins a chance to react to generated resources, use event bus?
+      // if (!generatedResources.isEmpty())
+      // {
+      // generatedEvent.fire(new ScaffoldGeneratedResources(provider, prepareResources(generatedResources)));
+      // }
+      return generateFromEntities(targetDir, template, entities, overwrite);
    }
 
    @Override
@@ -310,45 +314,45 @@ public class FacesScaffoldProvider implements ScaffoldProvider
 
       // Basic pages
 
-      result.add(ScaffoldUtil.createOrOverwrite(web.getWebResource(targetDir + "/index.html"),
+      result.add(this.manifest.createOrOverwrite(web.getWebResource(targetDir + "/index.html"),
                this.templateProcessor.processTemplate(context, indexWelcomeTemplate), overwrite));
 
-      result.add(ScaffoldUtil.createOrOverwrite(web.getWebResource(targetDir + "/index.xhtml"),
+      result.add(this.manifest.createOrOverwrite(web.getWebResource(targetDir + "/index.xhtml"),
                this.templateProcessor.processTemplate(context, indexTemplate), overwrite));
 
-      result.add(ScaffoldUtil.createOrOverwrite(web.getWebResource(ERROR_XHTML),
+      result.add(this.manifest.createOrOverwrite(web.getWebResource(ERROR_XHTML),
                this.templateProcessor.processTemplate(context, errorTemplate), overwrite));
 
       // Static resources
 
-      result.add(ScaffoldUtil.createOrOverwrite(web.getWebResource(ADD_PNG),
+      result.add(this.manifest.createOrOverwrite(web.getWebResource(ADD_PNG),
                getClass().getResourceAsStream("/scaffold/faces/add.png"), overwrite));
 
-      result.add(ScaffoldUtil.createOrOverwrite(web.getWebResource(BOOTSTRAP_CSS),
+      result.add(this.manifest.createOrOverwrite(web.getWebResource(BOOTSTRAP_CSS),
                getClass().getResourceAsStream("/scaffold/faces/bootstrap.css"), overwrite));
 
-      result.add(ScaffoldUtil.createOrOverwrite(web.getWebResource(FALSE_PNG),
+      result.add(this.manifest.createOrOverwrite(web.getWebResource(FALSE_PNG),
                getClass().getResourceAsStream("/scaffold/faces/false.png"), overwrite));
 
-      result.add(ScaffoldUtil.createOrOverwrite(web.getWebResource(FAVICON_ICO),
+      result.add(this.manifest.createOrOverwrite(web.getWebResource(FAVICON_ICO),
                getClass().getResourceAsStream("/scaffold/faces/favicon.ico"), overwrite));
 
-      result.add(ScaffoldUtil.createOrOverwrite(web.getWebResource(FORGE_LOGO_PNG),
+      result.add(this.manifest.createOrOverwrite(web.getWebResource(FORGE_LOGO_PNG),
                getClass().getResourceAsStream("/scaffold/faces/forge-logo.png"), overwrite));
 
-      result.add(ScaffoldUtil.createOrOverwrite(web.getWebResource(FORGE_STYLE_CSS),
+      result.add(this.manifest.createOrOverwrite(web.getWebResource(FORGE_STYLE_CSS),
                getClass().getResourceAsStream("/scaffold/faces/forge-style.css"), overwrite));
 
-      result.add(ScaffoldUtil.createOrOverwrite(web.getWebResource(REMOVE_PNG),
+      result.add(this.manifest.createOrOverwrite(web.getWebResource(REMOVE_PNG),
                getClass().getResourceAsStream("/scaffold/faces/remove.png"), overwrite));
 
-      result.add(ScaffoldUtil.createOrOverwrite(web.getWebResource(SEARCH_PNG),
+      result.add(this.manifest.createOrOverwrite(web.getWebResource(SEARCH_PNG),
                getClass().getResourceAsStream("/scaffold/faces/search.png"), overwrite));
 
-      result.add(ScaffoldUtil.createOrOverwrite(web.getWebResource(TRUE_PNG),
+      result.add(this.manifest.createOrOverwrite(web.getWebResource(TRUE_PNG),
                getClass().getResourceAsStream("/scaffold/faces/true.png"), overwrite));
 
-      result.add(ScaffoldUtil.createOrOverwrite(web.getWebResource(JBOSS_COMMUNITY_PNG),
+      result.add(this.manifest.createOrOverwrite(web.getWebResource(JBOSS_COMMUNITY_PNG),
                getClass().getResourceAsStream("/scaffold/faces/jboss-community.png"), overwrite));
 
       return result;
@@ -373,7 +377,7 @@ public class FacesScaffoldProvider implements ScaffoldProvider
       {
          WebResourcesFacet web = this.project.getFacet(WebResourcesFacet.class);
 
-         result.add(ScaffoldUtil.createOrOverwrite(web.getWebResource("/resources/scaffold/paginator.xhtml"),
+         result.add(this.manifest.createOrOverwrite(web.getWebResource("/resources/scaffold/paginator.xhtml"),
                   getClass().getResourceAsStream("/scaffold/faces/paginator.xhtml"), overwrite));
 
          result.add(generateNavigation(targetDir, overwrite));
@@ -592,7 +596,7 @@ public class FacesScaffoldProvider implements ScaffoldProvider
 
       try
       {
-         return ScaffoldUtil.createOrOverwrite((FileResource<?>) getTemplateStrategy()
+         return this.manifest.createOrOverwrite((FileResource<?>) getTemplateStrategy()
                   .getDefaultTemplate(),
                   this.templateProcessor.processTemplate(context, navigationTemplate),
                   true);
@@ -652,9 +656,9 @@ public class FacesScaffoldProvider implements ScaffoldProvider
       return indent;
    }
 
-   private void resetMetaWidgets()
+   private void resetMetaWidgets(final ForgeInspectionCache inspectionCache)
    {
-      ForgeConfigReader configReader = new ForgeConfigReader(this.config, this.project);
+      ForgeConfigReader configReader = new ForgeConfigReader(this.config, this.project, inspectionCache);
 
       this.entityMetawidget = new StaticHtmlMetawidget();
       this.entityMetawidget.setConfigReader(configReader);
@@ -677,11 +681,20 @@ public class FacesScaffoldProvider implements ScaffoldProvider
       this.rmEntityMetawidget.setConfig("scaffold/faces/metawidget-remove-entity.xml");
    }
 
-   private List<Resource<?>> generateFromEntity(String targetDir, final Resource<?> template, final JavaClass entity,
-            final boolean overwrite)
+   /**
+    * Generates the scaffold of the given entities.
+    * <p>
+    * The entities are generated one after the other: the backing bean first, as the search page inspects its
+    * <tt>pageItems</tt> in the project, then the create, view and search pages. The navigation, <tt>ViewUtils</tt> and
+    * <tt>forge.taglib.xml</tt>, shared by all the entities, are generated once, last.
+    * <p>
+    * An entity that fails does not prevent the others from being written: the errors are reported once the generation
+    * is complete. The initializers are added to the entities last, so every entity is inspected as it was before the
+    * generation.
+    */
+   private List<Resource<?>> generateFromEntities(final String targetDir, final Resource<?> template,
+            final List<JavaClass> entities, final boolean overwrite)
    {
-      resetMetaWidgets();
-
       // FORGE-460: setupRichFaces during generateFromEntity, not during setup, as generally 'richfaces setup' is called
       // *after* 'scaffold setup'
       // TODO: Decide on whether to support Richfaces via the Faces scaffold
@@ -690,6 +703,12 @@ public class FacesScaffoldProvider implements ScaffoldProvider
       // Track the list of resources generated
 
       List<Resource<?>> result = new ArrayList<Resource<?>>();
+      if (entities.isEmpty())
+      {
+         return result;
+      }
+      List<String> errors = new ArrayList<String>();
+      Throwable firstError = null;
       try
       {
          JavaSourceFacet java = this.project.getFacet(JavaSourceFacet.class);
@@ -697,111 +716,241 @@ public class FacesScaffoldProvider implements ScaffoldProvider
          JPAFacet<PersistenceCommonDescriptor> jpa = this.project.getFacet(JPAFacet.class);
 
          loadTemplates();
-         Map<Object, Object> context = CollectionUtils.newHashMap();
-         context.put("entity", entity);
-         String ccEntity = StringUtils.decapitalize(entity.getName());
-         context.put("ccEntity", ccEntity);
-         context.put("rmEntity", ccEntity + "ToDelete");
-         setPrimaryKeyMetaData(context, entity);
-
-         // Prepare qbeMetawidget
-         this.qbeMetawidget.setPath(entity.getQualifiedName());
-         StringWriter stringWriter = new StringWriter();
-         this.qbeMetawidget.write(stringWriter, this.backingBeanTemplateQbeMetawidgetIndent);
-         context.put("qbeMetawidget", stringWriter.toString().trim());
-
-         // Prepare removeEntityMetawidget
-         this.rmEntityMetawidget.setPath(entity.getQualifiedName());
-         stringWriter = new StringWriter();
-         this.rmEntityMetawidget.write(stringWriter, this.backingBeanTemplateRmEntityMetawidgetIndent);
-         context.put("rmEntityMetawidget", stringWriter.toString().trim());
-
-         // Prepare Java imports
-         Set<String> qbeMetawidgetImports = this.qbeMetawidget.getImports();
-         Set<String> rmEntityMetawidgetImports = this.rmEntityMetawidget.getImports();
-         Set<String> metawidgetImports = CollectionUtils.newHashSet();
-         metawidgetImports.addAll(qbeMetawidgetImports);
-         metawidgetImports.addAll(rmEntityMetawidgetImports);
-         metawidgetImports.remove(entity.getQualifiedName());
-         context.put("metawidgetImports",
-                  CollectionUtils.toString(metawidgetImports, ";\r\nimport ", true, false));
-
-         // Prepare JPA Persistence Unit
-         context.put("persistenceUnitName", jpa.getConfig().getOrCreatePersistenceUnit().getName());
-
-         // Create the Backing Bean for this entity
-         JavaClass viewBean = JavaParser.parse(JavaClass.class,
-                  this.templateProcessor.processTemplate(context, this.backingBeanTemplate));
-         viewBean.setPackage(java.getBasePackage() + ".view");
-         result.add(ScaffoldUtil.createOrOverwrite(java.getJavaResource(viewBean), viewBean.toString(),
-                  overwrite));
-
-         // Set new context for view generation
-         context = getTemplateContext(targetDir, template);
-         String beanName = StringUtils.decapitalize(viewBean.getName());
-         context.put("beanName", beanName);
-         context.put("ccEntity", ccEntity);
-         context.put("entityName", StringUtils.uncamelCase(entity.getName()));
-         setPrimaryKeyMetaData(context, entity);
-
-         // Prepare entityMetawidget
-         this.entityMetawidget.setValue(StaticFacesUtils.wrapExpression(beanName + "." + ccEntity));
-         this.entityMetawidget.setPath(entity.getQualifiedName());
-         this.entityMetawidget.setReadOnly(false);
-         this.entityMetawidget.setStyle(null);
-
-         // Generate create
-         writeEntityMetawidget(context, this.createTemplateEntityMetawidgetIndent, this.createTemplateNamespaces);
-
-         result.add(ScaffoldUtil.createOrOverwrite(
-                  web.getWebResource(targetDir + "/" + ccEntity + "/create.xhtml"),
-                  this.templateProcessor.processTemplate(context, this.createTemplate),
-                  overwrite));
-
-         // Generate view
-         this.entityMetawidget.setReadOnly(true);
-         writeEntityMetawidget(context, this.viewTemplateEntityMetawidgetIndent, this.viewTemplateNamespaces);
-
-         result.add(ScaffoldUtil.createOrOverwrite(
-                  web.getWebResource(targetDir + "/" + ccEntity + "/view.xhtml"),
-                  this.templateProcessor.processTemplate(context, this.viewTemplate), overwrite));
-
-         // Generate search
-         this.searchMetawidget.setValue(StaticFacesUtils.wrapExpression(beanName + ".example"));
-         this.searchMetawidget.setPath(entity.getQualifiedName());
-         this.beanMetawidget.setValue(StaticFacesUtils.wrapExpression(beanName + ".pageItems"));
-         this.beanMetawidget.setPath(viewBean.getQualifiedName() + "/pageItems");
-         writeSearchAndBeanMetawidget(context, this.searchTemplateSearchMetawidgetIndent,
-                  this.searchTemplateBeanMetawidgetIndent, this.searchTemplateNamespaces);
-
-         result.add(ScaffoldUtil.createOrOverwrite(
-                  web.getWebResource(targetDir + "/" + ccEntity + "/search.xhtml"),
-                  this.templateProcessor.processTemplate(context, this.searchTemplate), overwrite));
+         String viewPackage = java.getBasePackage() + ".view";
+         String persistenceUnitName = jpa.getConfig().getOrCreatePersistenceUnit().getName();
+         Map<Object, Object> viewContext = getTemplateContext(targetDir, template);
+         ForgeInspectionCache inspectionCache = new ForgeInspectionCache();
+
+         // Only generate the entities whose generated files are missing, were modified, or were generated from other
+         // inputs. Forced generations generate every entity, but still leave the files with the same contents untouched
+         String generatorInputs = getGeneratorInputs(targetDir, template, viewPackage, persistenceUnitName);
+         for (JavaClass entity : entities)
+         {
+            JavaResource viewBeanResource = java.getJavaResource(viewPackage + "." + entity.getName() + "Bean");
+            List<FileResource<?>> pages = new ArrayList<FileResource<?>>();
+            for (String page : Arrays.asList("create", "view", "search"))
+            {
+               pages.add(web.getWebResource(getPagePath(targetDir, entity, page)));
+            }
+            try
+            {
+               String inputs = getEntityInputs(inspectionCache, generatorInputs, entity);
+               boolean upToDate = !overwrite && this.manifest.isUpToDate(viewBeanResource, inputs);
+               for (FileResource<?> page : pages)
+               {
+                  upToDate = upToDate && this.manifest.isUpToDate(page, inputs);
+               }
+               if (upToDate)
+               {
+                  result.add(viewBeanResource);
+                  result.addAll(pages);
+                  continue;
+               }
+
+               // Create the Backing Bean for this entity, before the search page inspects it
+               resetMetaWidgets(inspectionCache);
+               JavaClass viewBean = generateBackingBean(entity, persistenceUnitName);
+               viewBean.setPackage(viewPackage);
+               result.add(this.manifest.createOrOverwrite(java.getJavaResource(viewBean), inputs,
+                        viewBean.toString(), overwrite));
+
+               // Generate create, view and search
+               result.addAll(generatePages(viewContext, targetDir, entity, viewBean, inputs, overwrite));
+            }
+            catch (Exception e)
+            {
+               errors.add(entity.getQualifiedName() + ": " + e.getMessage());
+               firstError = (firstError == null) ? e : firstError;
+            }
+         }
 
          // Generate navigation
          result.add(generateNavigation(targetDir, overwrite));
 
          // Need ViewUtils and forge.taglib.xml for forgeview:asList
+         Map<Object, Object> context = new HashMap<Object, Object>(viewContext);
          JavaClass viewUtils = JavaParser.parse(JavaClass.class,
                   this.templateProcessor.processTemplate(context, this.viewUtilsTemplate));
-         viewUtils.setPackage(viewBean.getPackage());
-         result.add(ScaffoldUtil.createOrOverwrite(java.getJavaResource(viewUtils), viewUtils.toString(),
-                  true));
+         viewUtils.setPackage(viewPackage);
+         result.add(this.manifest.createOrOverwrite(java.getJavaResource(viewUtils), viewUtils.toString(), true));
 
-         context.put("viewPackage", viewBean.getPackage());
-         result.add(ScaffoldUtil.createOrOverwrite(
+         context.put("viewPackage", viewPackage);
+         result.add(this.manifest.createOrOverwrite(
                   web.getWebResource("WEB-INF/classes/META-INF/forge.taglib.xml"),
                   this.templateProcessor.processTemplate(context, this.taglibTemplate), true));
 
-         createInitializers(entity);
+         for (JavaClass entity : entities)
+         {
+            createInitializers(entity);
+         }
+         this.manifest.save();
       }
       catch (Exception e)
       {
          throw new RuntimeException("Error generating default scaffolding: " + e.getMessage(), e);
       }
+      if (!errors.isEmpty())
+      {
+         throw new RuntimeException("Error generating default scaffolding: " + errors, firstError);
+      }
       return result;
    }
 
+   /**
+    * Processes the Backing Bean template of the given entity with the current Metawidgets.
+    */
+   private JavaClass generateBackingBean(final JavaClass entity, final String persistenceUnitName)
+   {
+      Map<Object, Object> context = CollectionUtils.newHashMap();
+      context.put("entity", entity);
+      String ccEntity = StringUtils.decapitalize(entity.getName());
+      context.put("ccEntity", ccEntity);
+      context.put("rmEntity", ccEntity + "ToDelete");
+      setPrimaryKeyMetaData(context, entity);
+
+      // Prepare qbeMetawidget
+      this.qbeMetawidget.setPath(entity.getQualifiedName());
+      StringWriter stringWriter = new StringWriter();
+      this.qbeMetawidget.write(stringWriter, this.backingBeanTemplateQbeMetawidgetIndent);
+      context.put("qbeMetawidget", stringWriter.toString().trim());
+
+      // Prepare removeEntityMetawidget
+      this.rmEntityMetawidget.setPath(entity.getQualifiedName());
+      stringWriter = new StringWriter();
+      this.rmEntityMetawidget.write(stringWriter, this.backingBeanTemplateRmEntityMetawidgetIndent);
+      context.put("rmEntityMetawidget", stringWriter.toString().trim());
+
+      // Prepare Java imports
+      Set<String> qbeMetawidgetImports = this.qbeMetawidget.getImports();
+      Set<String> rmEntityMetawidgetImports = this.rmEntityMetawidget.getImports();
+      Set<String> metawidgetImports = CollectionUtils.newHashSet();
+      metawidgetImports.addAll(qbeMetawidgetImports);
+      metawidgetImports.addAll(rmEntityMetawidgetImports);
+      metawidgetImports.remove(entity.getQualifiedName());
+      context.put("metawidgetImports",
+               CollectionUtils.toString(metawidgetImports, ";\r\nimport ", true, false));
+
+      // Prepare JPA Persistence Unit
+      context.put("persistenceUnitName", persistenceUnitName);
+
+      return JavaParser.parse(JavaClass.class,
+               this.templateProcessor.processTemplate(context, this.backingBeanTemplate));
+   }
+
+   /**
+    * Generates the create, view and search pages of the given entity with the current Metawidgets.
+    */
+   private List<Resource<?>> generatePages(final Map<Object, Object> viewContext, final String targetDir,
+            final JavaClass entity, final JavaClass viewBean, final String inputs, final boolean overwrite)
+   {
+      List<Resource<?>> result = new ArrayList<Resource<?>>();
+      WebResourcesFacet web = this.project.getFacet(WebResourcesFacet.class);
+
+      // Set new context for view generation
+      Map<Object, Object> context = new HashMap<Object, Object>(viewContext);
+      String ccEntity = StringUtils.decapitalize(entity.getName());
+      String beanName = StringUtils.decapitalize(viewBean.getName());
+      context.put("beanName", beanName);
+      context.put("ccEntity", ccEntity);
+      context.put("entityName", StringUtils.uncamelCase(entity.getName()));
+      setPrimaryKeyMetaData(context, entity);
+
+      // Prepare entityMetawidget
+      this.entityMetawidget.setValue(StaticFacesUtils.wrapExpression(beanName + "." + ccEntity));
+      this.entityMetawidget.setPath(entity.getQualifiedName());
+      this.entityMetawidget.setReadOnly(false);
+      this.entityMetawidget.setStyle(null);
+
+      // Generate create
+      writeEntityMetawidget(context, this.createTemplateEntityMetawidgetIndent, this.createTemplateNamespaces);
+
+      result.add(this.manifest.createOrOverwrite(web.getWebResource(getPagePath(targetDir, entity, "create")),
+               inputs, this.templateProcessor.processTemplate(context, this.createTemplate), overwrite));
+
+      // Generate view
+      this.entityMetawidget.setReadOnly(true);
+      writeEntityMetawidget(context, this.viewTemplateEntityMetawidgetIndent, this.viewTemplateNamespaces);
+
+      result.add(this.manifest.createOrOverwrite(web.getWebResource(getPagePath(targetDir, entity, "view")),
+               inputs, this.templateProcessor.processTemplate(context, this.viewTemplate), overwrite));
+
+      // Generate search
+      this.searchMetawidget.setValue(StaticFacesUtils.wrapExpression(beanName + ".example"));
+      this.searchMetawidget.setPath(entity.getQualifiedName());
+      this.beanMetawidget.setValue(StaticFacesUtils.wrapExpression(beanName + ".pageItems"));
+      this.beanMetawidget.setPath(viewBean.getQualifiedName() + "/pageItems");
+      writeSearchAndBeanMetawidget(context, this.searchTemplateSearchMetawidgetIndent,
+               this.searchTemplateBeanMetawidgetIndent, this.searchTemplateNamespaces);
+
+      result.add(this.manifest.createOrOverwrite(web.getWebResource(getPagePath(targetDir, entity, "search")),
+               inputs, this.templateProcessor.processTemplate(context, this.searchTemplate), overwrite));
+
+      return result;
+   }
+
+   /**
+    * @return the web resource path of the given page of the given entity
+    */
+   private String getPagePath(final String targetDir, final JavaClass entity, final String page)
+   {
+      return targetDir + "/" + StringUtils.decapitalize(entity.getName()) + "/" + page + ".xhtml";
+   }
+
+   /**
+    * @return the fingerprint of the inputs shared by all the entities: the templates, including the contents of the page
+    *         template, the Metawidget configurations and the generation options
+    */
+   private String getGeneratorInputs(final String targetDir, final Resource<?> template, final String viewPackage,
+            final String persistenceUnitName) throws IOException
+   {
+      StringBuilder inputs = new StringBuilder();
+      for (Template entityTemplate : Arrays.asList(this.backingBeanTemplate, this.createTemplate, this.viewTemplate,
+               this.searchTemplate))
+      {
+         inputs.append(entityTemplate.toString());
+      }
+      for (String config : Arrays.asList("entity", "search", "bean", "qbe", "remove-entity"))
+      {
+         inputs.append(Streams.toString(getClass().getResourceAsStream(
+                  "/scaffold/faces/metawidget-" + config + ".xml")));
+      }
+      inputs.append(targetDir).append(',');
+      inputs.append((template == null) ? null : Streams.toString(template.getResourceInputStream())).append(',');
+      inputs.append(viewPackage).append(',');
+      inputs.append(persistenceUnitName);
+      return ScaffoldUtil.fingerprint(inputs.toString());
+   }
+
+   /**
+    * @return the fingerprint of the inputs of the given entity: the shared inputs, and the sources of the entity, of its
+    *         super type and of the types of its fields
+    */
+   private String getEntityInputs(final ForgeInspectionCache inspectionCache, final String generatorInputs,
+            final JavaClass entity)
+   {
+      Set<String> types = new TreeSet<String>();
+      types.add(entity.getQualifiedName());
+      types.add(entity.getSuperType());
+      for (Field<JavaClass> field : entity.getFields())
+      {
+         types.add(field.getQualifiedType());
+
+         @SuppressWarnings({ "unchecked", "rawtypes" })
+         List<Type<?>> typeArguments = (List) field.getTypeInspector().getTypeArguments();
+         for (Type<?> typeArgument : typeArguments)
+         {
+            types.add(typeArgument.getQualifiedName());
+         }
+      }
+
+      StringBuilder inputs = new StringBuilder(generatorInputs);
+      for (String type : types)
+      {
+         inputs.append(',').append(type).append('=').append(inspectionCache.getFingerprint(this.project, type));
+      }
+      return ScaffoldUtil.fingerprint(inputs.toString());
+   }
+
    /**
     * Writes the entity Metawidget and its namespaces into the given context.
     */
@@ -8,6 +8,7 @@ package org.jboss.forge.addon.scaffold.faces.metawidget.config;
 
 import org.jboss.forge.addon.configuration.Configuration;
 import org.jboss.forge.addon.projects.Project;
+import org.jboss.forge.addon.scaffold.faces.metawidget.inspector.propertystyle.ForgeInspectionCache;
 import org.metawidget.config.impl.BaseConfigReader;
 
 /**
@@ -27,6 +28,8 @@ public class ForgeConfigReader
 
    private static final String PROJECT_ELEMENT_NAME = "forgeProject";
 
+   private static final String INSPECTION_CACHE_ELEMENT_NAME = "forgeInspectionCache";
+
    //
    // Private members
    //
@@ -35,14 +38,26 @@ public class ForgeConfigReader
 
    private Project project;
 
+   private ForgeInspectionCache inspectionCache;
+
    //
    // Constructor
    //
 
    public ForgeConfigReader(Configuration config, Project project)
+   {
+      this(config, project, new ForgeInspectionCache());
+   }
+
+   /**
+    * @param inspectionCache the cache of the inspected types, to be shared by the readers of a scaffold generation
+    */
+
+   public ForgeConfigReader(Configuration config, Project project, ForgeInspectionCache inspectionCache)
    {
       this.config = config;
       this.project = project;
+      this.inspectionCache = inspectionCache;
    }
 
    //
@@ -62,6 +77,11 @@ public class ForgeConfigReader
          return true;
       }
 
+      if (INSPECTION_CACHE_ELEMENT_NAME.equals(name))
+      {
+         return true;
+      }
+
       return super.isNative(name);
    }
 
@@ -78,6 +98,11 @@ public class ForgeConfigReader
          return this.config;
       }
 
+      if (INSPECTION_CACHE_ELEMENT_NAME.equals(name))
+      {
+         return this.inspectionCache;
+      }
+
       return super.createNative(name, namespace, recordedText);
    }
 }
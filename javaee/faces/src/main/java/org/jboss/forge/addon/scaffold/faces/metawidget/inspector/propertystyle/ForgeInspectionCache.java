@@ -0,0 +1,195 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.scaffold.faces.metawidget.inspector.propertystyle;
+
+import java.io.FileNotFoundException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.forge.addon.parser.java.facets.JavaSourceFacet;
+import org.jboss.forge.addon.parser.java.resources.JavaResource;
+import org.jboss.forge.addon.projects.Project;
+import org.jboss.forge.addon.resource.ResourceException;
+import org.jboss.forge.addon.scaffold.util.ScaffoldUtil;
+import org.jboss.forge.parser.JavaParser;
+import org.jboss.forge.parser.java.JavaSource;
+import org.metawidget.inspector.impl.propertystyle.Property;
+
+/**
+ * Caches the parsed sources and the inspected properties of the types of a project for the duration of a scaffold
+ * generation, so each type is parsed and inspected once however many pages and relationships refer to it.
+ * <p>
+ * Entries are keyed by type name. The source files are only read and fingerprinted again when their size or
+ * modification time changes, so a source changed during the generation is parsed again.
+ * <p>
+ * This cache is not thread-safe. It is shared by all the <tt>ForgePropertyStyle</tt>s of a generation, which all run on
+ * the thread generating the scaffold: the parsed sources it hands out are not thread-safe either.
+ */
+
+public class ForgeInspectionCache
+{
+   //
+   // Private members
+   //
+
+   private final Map<String, CachedSource> sources = new HashMap<String, CachedSource>();
+
+   private final Map<String, CachedProperties> properties = new HashMap<String, CachedProperties>();
+
+   //
+   // Public methods
+   //
+
+   /**
+    * @return the source of the given type, or null if the project has no source for this type
+    */
+
+   public JavaSource<?> getJavaSource(final Project project, final String type)
+   {
+      CachedSource source = getSource(project, type);
+      return (source == null) ? null : source.javaSource;
+   }
+
+   /**
+    * @return the fingerprint of the source of the given type, or null if the project has no source for this type
+    */
+
+   public String getFingerprint(final Project project, final String type)
+   {
+      CachedSource source = getSource(project, type);
+      return (source == null) ? null : source.fingerprint;
+   }
+
+   /**
+    * Removes all the entries of this cache.
+    */
+
+   public void clear()
+   {
+      this.sources.clear();
+      this.properties.clear();
+   }
+
+   //
+   // Package private methods
+   //
+
+   /**
+    * @return the source of the given type with its fingerprint, or null if the project has no source for this type
+    */
+
+   CachedSource getSource(final Project project, final String type)
+   {
+      CachedSource source = this.sources.get(type);
+      String contents;
+      long lastModified;
+      long size;
+
+      try
+      {
+         JavaResource resource = project.getFacet(JavaSourceFacet.class).getJavaResource(type);
+
+         if (!resource.exists())
+         {
+            return null;
+         }
+
+         lastModified = resource.getLastModified();
+         size = resource.getSize();
+
+         if (source != null && source.lastModified == lastModified && source.size == size)
+         {
+            return source;
+         }
+
+         contents = resource.getContents();
+      }
+      catch (FileNotFoundException e)
+      {
+         // Not a Forge-based type
+
+         return null;
+      }
+      catch (ResourceException e)
+      {
+         // Not a Forge-based type
+
+         return null;
+      }
+
+      String fingerprint = ScaffoldUtil.fingerprint(contents);
+
+      if (source == null || !source.fingerprint.equals(fingerprint))
+      {
+         source = new CachedSource(fingerprint, JavaParser.parse(contents), lastModified, size);
+      }
+      else
+      {
+         source = new CachedSource(fingerprint, source.javaSource, lastModified, size);
+      }
+
+      this.sources.put(type, source);
+      return source;
+   }
+
+   /**
+    * @return the properties cached under the given key for the given fingerprint, or null
+    */
+
+   Map<String, Property> getProperties(final String key, final String fingerprint)
+   {
+      CachedProperties cached = this.properties.get(key);
+
+      if (cached == null || !cached.fingerprint.equals(fingerprint))
+      {
+         return null;
+      }
+
+      return cached.properties;
+   }
+
+   void putProperties(final String key, final String fingerprint, final Map<String, Property> properties)
+   {
+      this.properties.put(key, new CachedProperties(fingerprint, properties));
+   }
+
+   //
+   // Inner classes
+   //
+
+   static class CachedSource
+   {
+      final String fingerprint;
+
+      final JavaSource<?> javaSource;
+
+      final long lastModified;
+
+      final long size;
+
+      CachedSource(final String fingerprint, final JavaSource<?> javaSource, final long lastModified, final long size)
+      {
+         this.fingerprint = fingerprint;
+         this.javaSource = javaSource;
+         this.lastModified = lastModified;
+         this.size = size;
+      }
+   }
+
+   private static class CachedProperties
+   {
+      final String fingerprint;
+
+      final Map<String, Property> properties;
+
+      CachedProperties(final String fingerprint, final Map<String, Property> properties)
+      {
+         this.fingerprint = fingerprint;
+         this.properties = properties;
+      }
+   }
+}
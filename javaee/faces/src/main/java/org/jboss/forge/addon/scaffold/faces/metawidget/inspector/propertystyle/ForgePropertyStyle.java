@@ -11,10 +11,10 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationHandler;
 import java.text.MessageFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
-import org.jboss.forge.parser.JavaParser;
 import org.jboss.forge.parser.java.EnumConstant;
 import org.jboss.forge.parser.java.Field;
 import org.jboss.forge.parser.java.FieldHolder;
@@ -54,6 +54,8 @@ public class ForgePropertyStyle
 
    private final MessageFormat privateFieldConvention;
 
+   private final ForgeInspectionCache inspectionCache;
+
    //
    // Constructor
    //
@@ -64,6 +66,7 @@ public class ForgePropertyStyle
 
       this.project = config.getProject();
       this.privateFieldConvention = config.getPrivateFieldConvention();
+      this.inspectionCache = config.getInspectionCache();
    }
 
    //
@@ -126,6 +129,24 @@ public class ForgePropertyStyle
    {
       try
       {
+         // Properties of the same sources may have been inspected already during this generation
+
+         String key = null;
+         String fingerprint = null;
+
+         if (this.inspectionCache != null)
+         {
+            key = (this.privateFieldConvention == null) ? type : type + '#'
+                     + this.privateFieldConvention.toPattern();
+            fingerprint = hierarchyFingerprint(type);
+            Map<String, Property> cached = this.inspectionCache.getProperties(key, fingerprint);
+
+            if (cached != null)
+            {
+               return new LinkedHashMap<String, Property>(cached);
+            }
+         }
+
          // LinkedHashMap so that returns ordered properties
 
          Map<String, Property> properties = CollectionUtils.newLinkedHashMap();
@@ -134,6 +155,11 @@ public class ForgePropertyStyle
 
          inspectClassProperties(type, properties);
 
+         if (this.inspectionCache != null)
+         {
+            this.inspectionCache.putProperties(key, fingerprint, new LinkedHashMap<String, Property>(properties));
+         }
+
          return properties;
       }
       catch (Exception e)
@@ -149,7 +175,7 @@ public class ForgePropertyStyle
             Map<String, Property> properties)
    {
 
-      JavaSource<?> clazz = sourceForName(this.project, type);
+      JavaSource<?> clazz = sourceForName(this.project, this.inspectionCache, type);
 
       if (clazz instanceof MethodHolder<?>)
       {
@@ -158,8 +184,7 @@ public class ForgePropertyStyle
 
          if (clazz instanceof JavaClass)
          {
-            JavaClass source = JavaParser.parse(JavaClass.class,
-                     clazz.toString());
+            JavaClass source = (JavaClass) clazz;
             if (!source.getSuperType().equals("java.lang.Object"))
             {
                inspectClassProperties(source.getSuperType(), properties);
@@ -168,6 +193,41 @@ public class ForgePropertyStyle
       }
    }
 
+   /**
+    * @return the fingerprints of the sources of the given type and of its superclasses. The cache only reads a source
+    *         again when its file changed, so this is cheap for the types already inspected
+    */
+   private String hierarchyFingerprint(final String type)
+   {
+      StringBuilder fingerprint = new StringBuilder();
+      String superType = type;
+
+      while (superType != null)
+      {
+         ForgeInspectionCache.CachedSource source = this.inspectionCache.getSource(this.project, superType);
+
+         if (source == null)
+         {
+            break;
+         }
+
+         fingerprint.append(source.fingerprint).append(';');
+         superType = null;
+
+         if (source.javaSource instanceof JavaClass)
+         {
+            String next = ((JavaClass) source.javaSource).getSuperType();
+
+            if (!"java.lang.Object".equals(next))
+            {
+               superType = next;
+            }
+         }
+      }
+
+      return fingerprint.toString();
+   }
+
    /**
     * Lookup getter-based properties.
     * <p>
@@ -225,7 +285,8 @@ public class ForgePropertyStyle
 
          properties
                   .put(propertyName,
-                           new ForgeProperty(propertyName, returnType, method, null, privateField, this.project));
+                           new ForgeProperty(propertyName, returnType, method, null, privateField, this.project,
+                                    this.inspectionCache));
       }
    }
 
@@ -333,7 +394,7 @@ public class ForgePropertyStyle
                      propertyName,
                      new ForgeProperty(propertyName, existingForgeProperty.getType(),
                               existingForgeProperty.getReadMethod(), method, getPrivateField((FieldHolder<?>) clazz,
-                                       propertyName), this.project));
+                                       propertyName), this.project, this.inspectionCache));
             continue;
          }
 
@@ -346,7 +407,8 @@ public class ForgePropertyStyle
 
          properties
                   .put(propertyName,
-                           new ForgeProperty(propertyName, type, null, method, privateField, this.project));
+                           new ForgeProperty(propertyName, type, null, method, privateField, this.project,
+                                    this.inspectionCache));
       }
    }
 
@@ -415,6 +477,19 @@ public class ForgePropertyStyle
 
    /*package private*/
 
+   static JavaSource<?> sourceForName(final Project project, final ForgeInspectionCache inspectionCache,
+            final String type)
+   {
+      if (inspectionCache != null)
+      {
+         return inspectionCache.getJavaSource(project, type);
+      }
+
+      return sourceForName(project, type);
+   }
+
+   /*package private*/
+
    static JavaSource<?> sourceForName(final Project project, final String type)
    {
       try
@@ -455,6 +530,8 @@ public class ForgePropertyStyle
 
       private final Project project;
 
+      private final ForgeInspectionCache inspectionCache;
+
       //
       // Constructor
       //
@@ -463,6 +540,15 @@ public class ForgePropertyStyle
                final Method<?> writeMethod,
                final Field<?> privateField,
                final Project project)
+      {
+         this(name, type, readMethod, writeMethod, privateField, project, null);
+      }
+
+      public ForgeProperty(final String name, final String type, final Method<?> readMethod,
+               final Method<?> writeMethod,
+               final Field<?> privateField,
+               final Project project,
+               final ForgeInspectionCache inspectionCache)
       {
          super(name, type);
 
@@ -478,6 +564,7 @@ public class ForgePropertyStyle
 
          this.privateField = privateField;
          this.project = project;
+         this.inspectionCache = inspectionCache;
       }
 
       //
@@ -536,7 +623,7 @@ public class ForgePropertyStyle
 
       public List<EnumConstant<JavaEnum>> getEnumConstants()
       {
-         JavaSource<?> source = sourceForName( this.project, getType() );
+         JavaSource<?> source = sourceForName( this.project, this.inspectionCache, getType() );
 
          if ( source instanceof JavaEnum ) {
             return ((JavaEnum) source).getEnumConstants();
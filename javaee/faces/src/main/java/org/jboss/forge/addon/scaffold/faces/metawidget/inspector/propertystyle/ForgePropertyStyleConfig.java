@@ -28,6 +28,8 @@ public class ForgePropertyStyleConfig
 
    private Project project;
 
+   private ForgeInspectionCache inspectionCache;
+
    //
    // Public methods
    //
@@ -38,6 +40,18 @@ public class ForgePropertyStyleConfig
       return this;
    }
 
+   /**
+    * Sets the cache shared by all the <tt>ForgePropertyStyle</tt>s of a scaffold generation.
+    *
+    * @return this, as part of a fluent interface
+    */
+
+   public ForgePropertyStyleConfig setInspectionCache(ForgeInspectionCache inspectionCache)
+   {
+      this.inspectionCache = inspectionCache;
+      return this;
+   }
+
    /**
     * Overridden to use covariant return type.
     *
@@ -70,6 +84,11 @@ public class ForgePropertyStyleConfig
          return false;
       }
 
+      if (this.inspectionCache != ((ForgePropertyStyleConfig) that).inspectionCache)
+      {
+         return false;
+      }
+
       return super.equals(that);
    }
 
@@ -79,6 +98,7 @@ public class ForgePropertyStyleConfig
 
       int hashCode = super.hashCode();
       hashCode = 31 * hashCode + ObjectUtils.nullSafeHashCode(this.project);
+      hashCode = 31 * hashCode + ObjectUtils.nullSafeHashCode(this.inspectionCache);
 
       return hashCode;
    }
@@ -92,6 +112,11 @@ public class ForgePropertyStyleConfig
       return this.project;
    }
 
+   protected ForgeInspectionCache getInspectionCache()
+   {
+      return this.inspectionCache;
+   }
+
    /**
     * Overridden so that is exposed to ForgePropertyStyle.
     */
@@ -14,7 +14,6 @@ import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
 
 import org.jboss.forge.addon.javaee.rest.generation.RestGenerationContext;
-import org.jboss.forge.addon.parser.java.facets.JavaSourceFacet;
 import org.jboss.forge.addon.projects.Project;
 import org.jboss.forge.roaster.model.Annotation;
 import org.jboss.forge.roaster.model.Field;
@@ -37,29 +36,23 @@ public class ResourceGeneratorUtil
       Project project = context.getProject();
       String proposedQualifiedClassName = packageName + "." + entityTable + "Endpoint";
       String proposedResourcePath = "/" + context.getInflector().pluralize(entityTable.toLowerCase());
-      RestResourceTypeVisitor resourceTypeVisitor = new RestResourceTypeVisitor();
-      resourceTypeVisitor.setFound(false);
-      resourceTypeVisitor.setProposedPath(proposedResourcePath);
-      JavaSourceFacet facet = project.getFacet(JavaSourceFacet.class);
-      while (true)
+      RestResourceRouteTable routeTable = (context instanceof RestGenerationContextImpl)
+               ? ((RestGenerationContextImpl) context).getRouteTable() : RestResourceRouteTable.of(project);
+      synchronized (routeTable)
       {
-         facet.visitJavaSources(resourceTypeVisitor);
-         if (resourceTypeVisitor.isFound())
+         while (true)
          {
-            if (proposedQualifiedClassName.equals(resourceTypeVisitor.getQualifiedClassNameForMatch()))
+            String type = routeTable.getType(proposedResourcePath);
+            if (type == null || proposedQualifiedClassName.equals(type))
             {
-               // The class might be overwritten later, so break out
+               // A matching class might be overwritten later, so break out
                break;
             }
             proposedResourcePath = proposedResourcePath.startsWith("/") ? "forge" + proposedResourcePath : "forge/"
                      + proposedResourcePath;
-            resourceTypeVisitor.setProposedPath(proposedResourcePath);
-            resourceTypeVisitor.setFound(false);
-         }
-         else
-         {
-            break;
          }
+         // Reserve the path for the endpoint about to be generated
+         routeTable.add(proposedResourcePath, proposedQualifiedClassName);
       }
       return proposedResourcePath;
    }
@@ -8,6 +8,7 @@
 package org.jboss.forge.addon.javaee.rest.generator;
 
 import org.jboss.forge.addon.javaee.rest.generation.RestGenerationContext;
+import org.jboss.forge.addon.javaee.rest.generator.dto.DTOCache;
 import org.jboss.forge.addon.projects.Project;
 import org.jboss.forge.addon.text.Inflector;
 import org.jboss.forge.roaster.model.source.JavaClassSource;
@@ -24,6 +25,8 @@ public class RestGenerationContextImpl implements RestGenerationContext
    private String contentType;
    private String persistenceUnitName;
    private Inflector inflector;
+   private RestResourceRouteTable routeTable;
+   private DTOCache dtoCache = new DTOCache();
 
    /**
     * @return the project
@@ -105,4 +108,43 @@ public class RestGenerationContextImpl implements RestGenerationContext
    {
       this.inflector = inflector;
    }
+
+   /**
+    * @return the JAX-RS routes of the project, built on first use and shared by all the endpoints generated with this
+    *         context
+    */
+   public RestResourceRouteTable getRouteTable()
+   {
+      if (routeTable == null)
+      {
+         routeTable = RestResourceRouteTable.of(project);
+      }
+      return routeTable;
+   }
+
+   /**
+    * @return the DTOs created for the entities, shared by all the endpoints generated with this context
+    */
+   public DTOCache getDTOCache()
+   {
+      return dtoCache;
+   }
+
+   /**
+    * Creates a context for generating the endpoint of the given entity, with the settings of this context. The route
+    * table and the DTOs are shared with this context, so contexts for several entities can be used concurrently.
+    */
+   public RestGenerationContextImpl copyFor(JavaClassSource entity)
+   {
+      RestGenerationContextImpl copy = new RestGenerationContextImpl();
+      copy.setProject(project);
+      copy.setEntity(entity);
+      copy.setTargetPackageName(targetPackageName);
+      copy.setContentType(contentType);
+      copy.setPersistenceUnitName(persistenceUnitName);
+      copy.setInflector(inflector);
+      copy.routeTable = getRouteTable();
+      copy.dtoCache = dtoCache;
+      return copy;
+   }
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.javaee.rest.generator;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.forge.addon.parser.java.facets.JavaSourceFacet;
+import org.jboss.forge.addon.projects.Project;
+
+/**
+ * The <code>@Path</code> values of the JAX-RS resources of a project, and the types they belong to.
+ *
+ * Built with a single visit of the project sources, and kept up to date with the endpoints generated afterwards, so
+ * that proposed paths can be checked for conflicts without parsing the sources again. This class is thread-safe;
+ * callers checking a path before adding it should synchronize on the table.
+ */
+public class RestResourceRouteTable
+{
+   private final Map<String, String> routes = new HashMap<>();
+
+   /**
+    * Creates a route table holding the JAX-RS resources of the given project
+    */
+   public static RestResourceRouteTable of(Project project)
+   {
+      RestResourceRouteTable routeTable = new RestResourceRouteTable();
+      project.getFacet(JavaSourceFacet.class).visitJavaSources(new RestResourceTypeVisitor(routeTable));
+      return routeTable;
+   }
+
+   /**
+    * @return the qualified name of the type mapped to the given path, or <code>null</code> if the path is free
+    */
+   public synchronized String getType(String path)
+   {
+      return routes.get(path);
+   }
+
+   /**
+    * Maps the given path to the given type, replacing any previous mapping
+    */
+   public synchronized void add(String path, String qualifiedClassName)
+   {
+      routes.put(path, qualifiedClassName);
+   }
+
+   /**
+    * Maps the given path to the given type, unless the path is already mapped
+    */
+   synchronized void addIfAbsent(String path, String qualifiedClassName)
+   {
+      if (!routes.containsKey(path))
+      {
+         routes.put(path, qualifiedClassName);
+      }
+   }
+}
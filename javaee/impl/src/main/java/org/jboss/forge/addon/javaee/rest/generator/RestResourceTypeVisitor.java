@@ -11,61 +11,38 @@ import java.io.FileNotFoundException;
 import org.jboss.forge.addon.parser.java.resources.JavaResource;
 import org.jboss.forge.addon.parser.java.resources.JavaResourceVisitor;
 import org.jboss.forge.addon.resource.visit.VisitContext;
+import org.jboss.forge.parser.java.Annotation;
 import org.jboss.forge.parser.java.JavaSource;
 
+/**
+ * Registers the <code>@Path</code> of every visited JAX-RS resource in a {@link RestResourceRouteTable}
+ */
 class RestResourceTypeVisitor extends JavaResourceVisitor
 {
-   private String proposedPath;
-   private boolean found;
-   private JavaSource<?> javaSource;
+   private final RestResourceRouteTable routeTable;
 
-   public void setProposedPath(String proposedPath)
+   public RestResourceTypeVisitor(RestResourceRouteTable routeTable)
    {
-      this.proposedPath = proposedPath;
-   }
-
-   public String getQualifiedClassNameForMatch()
-   {
-      if (javaSource != null)
-      {
-         return javaSource.getQualifiedName();
-      }
-      return null;
-   }
-
-   public boolean isFound()
-   {
-      return found;
-   }
-
-   public void setFound(boolean found)
-   {
-      this.found = found;
+      this.routeTable = routeTable;
    }
 
    @Override
    public void visit(VisitContext context, JavaResource javaResource)
    {
-      if (!found)
+      try
       {
-         try
+         JavaSource<?> javaSource = javaResource.getJavaSource();
+         Annotation<?> pathAnnotation = javaSource.getAnnotation("javax.ws.rs.Path");
+         if (pathAnnotation != null)
          {
-            if (javaResource.getJavaSource().getAnnotation("javax.ws.rs.Path") != null)
-            {
-               String path = javaResource.getJavaSource().getAnnotation("javax.ws.rs.Path")
-                        .getStringValue();
-               String absolutePath = path.endsWith("/") ? path.substring(0, path.lastIndexOf('/')) : path;
-               if (absolutePath.equals(proposedPath))
-               {
-                  javaSource = javaResource.getJavaSource();
-                  found = true;
-               }
-            }
-         }
-         catch (FileNotFoundException e)
-         {
-            throw new RuntimeException(e);
+            String path = pathAnnotation.getStringValue();
+            String absolutePath = path.endsWith("/") ? path.substring(0, path.lastIndexOf('/')) : path;
+            routeTable.addIfAbsent(absolutePath, javaSource.getQualifiedName());
          }
       }
+      catch (FileNotFoundException e)
+      {
+         throw new RuntimeException(e);
+      }
    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.javaee.rest.generator.dto;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jboss.forge.roaster.model.JavaClass;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+
+/**
+ * The DTOs created during a REST endpoint generation, shared by all the generated endpoints so that the DTOs of the JPA
+ * entities referenced by several entities are only created once. Unlike a {@link DTOCollection}, entities are
+ * identified by their qualified name, and this class is thread-safe.
+ */
+public class DTOCache
+{
+   private final ConcurrentMap<String, JavaClassSource> dtos = new ConcurrentHashMap<>();
+
+   /**
+    * Retrieves the DTO created for the JPA entity in the given package
+    *
+    * @param entity The JPA entity for which the DTO may have been created
+    * @param dtoPackage The Java package of the DTO
+    * @param root True, if the root/toplevel DTO should be returned. False if nested DTOs are to be returned.
+    * @return The root or nested DTO created for the JPA entity. <code>null</code> if no DTO was found.
+    */
+   public JavaClassSource get(JavaClass<?> entity, String dtoPackage, boolean root)
+   {
+      return dtos.get(key(entity, dtoPackage, root));
+   }
+
+   /**
+    * Registers the DTO created for the JPA entity in the given package, unless another thread registered one first.
+    *
+    * @return The DTO registered for the JPA entity: the given DTO, or the one registered first
+    */
+   public JavaClassSource putIfAbsent(JavaClass<?> entity, String dtoPackage, boolean root, JavaClassSource dto)
+   {
+      JavaClassSource existing = dtos.putIfAbsent(key(entity, dtoPackage, root), dto);
+      return existing == null ? dto : existing;
+   }
+
+   private static String key(JavaClass<?> entity, String dtoPackage, boolean root)
+   {
+      return (root ? "root:" : "nested:") + dtoPackage + ":" + entity.getQualifiedName();
+   }
+}
@@ -27,6 +27,8 @@ import javax.persistence.Transient;
 import org.jboss.forge.addon.javaee.rest.generation.RestGenerationContext;
 import org.jboss.forge.addon.javaee.rest.generation.RestResourceGenerator;
 import org.jboss.forge.addon.javaee.rest.generator.ResourceGeneratorUtil;
+import org.jboss.forge.addon.javaee.rest.generator.RestGenerationContextImpl;
+import org.jboss.forge.addon.javaee.rest.generator.dto.DTOCache;
 import org.jboss.forge.addon.javaee.rest.generator.dto.DTOClassBuilder;
 import org.jboss.forge.addon.javaee.rest.generator.dto.DTOCollection;
 import org.jboss.forge.addon.parser.java.facets.JavaSourceFacet;
@@ -79,7 +81,9 @@ public class RootAndNestedDTOResourceGenerator implements RestResourceGenerator
                ResourceGeneratorUtil.getJpqlEntityVariable(entityTable));
       String resourcePath = ResourceGeneratorUtil.getResourcePath(context);
 
-      DTOCollection createdDtos = from(project, entity, context.getTargetPackageName() + ".dto");
+      DTOCache dtoCache = (context instanceof RestGenerationContextImpl)
+               ? ((RestGenerationContextImpl) context).getDTOCache() : new DTOCache();
+      DTOCollection createdDtos = from(project, entity, context.getTargetPackageName() + ".dto", dtoCache);
       JavaClassSource rootDto = createdDtos.getDTOFor(entity, true);
 
       Map<Object, Object> map = new HashMap<>();
@@ -116,25 +120,46 @@ public class RootAndNestedDTOResourceGenerator implements RestResourceGenerator
     * @return The {@link DTOCollection} containing the DTOs created for the JPA entity.
     */
    public DTOCollection from(Project project, JavaClass<?> entity, String dtoPackage)
+   {
+      return from(project, entity, dtoPackage, new DTOCache());
+   }
+
+   /**
+    * Creates a collection of DTOs for the provided JPA entity, and any JPA entities referenced in the JPA entity,
+    * reusing the DTOs found in the given {@link DTOCache}.
+    *
+    * @param entity The JPA entity for which DTOs are to be generated
+    * @param dtoPackage The Java package in which the DTOs are to be created
+    * @param dtoCache The DTOs created for other JPA entities, to which the created DTOs are added
+    * @return The {@link DTOCollection} containing the DTOs created for the JPA entity.
+    */
+   public DTOCollection from(Project project, JavaClass<?> entity, String dtoPackage, DTOCache dtoCache)
    {
       DTOCollection dtoCollection = new DTOCollection();
       if (entity == null)
       {
          throw new IllegalArgumentException("The argument entity was null.");
       }
-      generatedDTOGraphForEntity(project, entity, dtoPackage, true, false, dtoCollection);
+      generatedDTOGraphForEntity(project, entity, dtoPackage, true, false, dtoCollection, dtoCache);
       return dtoCollection;
    }
 
    private JavaClassSource generatedDTOGraphForEntity(Project project, JavaClass<?> entity, String dtoPackage,
             boolean topLevel,
-            boolean isEmbeddedType, DTOCollection dtoCollection)
+            boolean isEmbeddedType, DTOCollection dtoCollection, DTOCache dtoCache)
    {
       if (dtoCollection.containsDTOFor(entity, topLevel))
       {
          return dtoCollection.getDTOFor(entity, topLevel);
       }
 
+      JavaClassSource cachedDTO = dtoCache.get(entity, dtoPackage, topLevel);
+      if (cachedDTO != null)
+      {
+         addDTO(entity, topLevel, cachedDTO, dtoCollection);
+         return cachedDTO;
+      }
+
       Property<?> idProperty = parseIdPropertyForJPAEntity(entity);
 
       DTOClassBuilder dtoClassBuilder = new DTOClassBuilder(entity, idProperty, topLevel, processorFactory,
@@ -206,7 +231,7 @@ public class RootAndNestedDTOResourceGenerator implements RestResourceGenerator
             }
 
             JavaClassSource nestedDTOClass = generatedDTOGraphForEntity(project, parameterizedClass, dtoPackage, false,
-                     false, dtoCollection);
+                     false, dtoCollection, dtoCache);
             // Then update the DTO for the collection field
             Property<?> nestedDtoId = parseIdPropertyForJPAEntity(parameterizedClass);
             dtoClassBuilder.updateForCollectionProperty(property, nestedDTOClass, type, nestedDtoId);
@@ -231,7 +256,7 @@ public class RootAndNestedDTOResourceGenerator implements RestResourceGenerator
 
             JavaClassSource nestedDTOClass = generatedDTOGraphForEntity(project, associatedClass, dtoPackage, false,
                      false,
-                     dtoCollection);
+                     dtoCollection, dtoCache);
             dtoClassBuilder.updateForReferencedProperty(property, nestedDTOClass);
          }
          else if (isEmbedded)
@@ -239,7 +264,7 @@ public class RootAndNestedDTOResourceGenerator implements RestResourceGenerator
             // Create another DTO for the @Embedded type, if it does not exist
             JavaClassSource dtoForEmbeddedType = generatedDTOGraphForEntity(project, propertyClass, dtoPackage, true,
                      true,
-                     dtoCollection);
+                     dtoCollection, dtoCache);
             dtoClassBuilder.updateForReferencedProperty(property, dtoForEmbeddedType);
          }
          else
@@ -248,7 +273,13 @@ public class RootAndNestedDTOResourceGenerator implements RestResourceGenerator
          }
       }
 
-      JavaClassSource dtoClass = dtoClassBuilder.createDTO();
+      JavaClassSource dtoClass = dtoCache.putIfAbsent(entity, dtoPackage, topLevel, dtoClassBuilder.createDTO());
+      addDTO(entity, topLevel, dtoClass, dtoCollection);
+      return dtoClass;
+   }
+
+   private void addDTO(JavaClass<?> entity, boolean topLevel, JavaClassSource dtoClass, DTOCollection dtoCollection)
+   {
       if (topLevel)
       {
          dtoCollection.addRootDTO(entity, dtoClass);
@@ -257,7 +288,6 @@ public class RootAndNestedDTOResourceGenerator implements RestResourceGenerator
       {
          dtoCollection.addNestedDTO(entity, dtoClass);
       }
-      return dtoClass;
    }
 
    private Property<?> parseIdPropertyForJPAEntity(JavaClass<?> bean)
@@ -9,9 +9,10 @@ package org.jboss.forge.addon.javaee.rest.ui;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.concurrent.Callable;
 
 import javax.inject.Inject;
 import javax.ws.rs.core.MediaType;
@@ -30,6 +31,9 @@ import org.jboss.forge.addon.javaee.ui.AbstractJavaEECommand;
 import org.jboss.forge.addon.parser.java.facets.JavaSourceFacet;
 import org.jboss.forge.addon.parser.java.resources.JavaResource;
 import org.jboss.forge.addon.projects.Project;
+import org.jboss.forge.addon.resource.ResourceFactory;
+import org.jboss.forge.addon.resource.transaction.ResourceTransaction;
+import org.jboss.forge.addon.resource.util.ResourceUtil;
 import org.jboss.forge.addon.text.Inflector;
 import org.jboss.forge.addon.ui.command.PrerequisiteCommandsProvider;
 import org.jboss.forge.addon.ui.context.UIBuilder;
@@ -46,6 +50,7 @@ import org.jboss.forge.addon.ui.result.Result;
 import org.jboss.forge.addon.ui.result.Results;
 import org.jboss.forge.addon.ui.result.navigation.NavigationResultBuilder;
 import org.jboss.forge.addon.ui.util.Categories;
+import org.jboss.forge.addon.ui.util.DaemonExecutors;
 import org.jboss.forge.addon.ui.util.Metadata;
 import org.jboss.forge.roaster.model.source.JavaClassSource;
 import org.jboss.shrinkwrap.descriptor.api.persistence.PersistenceCommonDescriptor;
@@ -58,6 +63,13 @@ import org.jboss.shrinkwrap.descriptor.api.persistence.PersistenceUnitCommon;
  */
 public class RestEndpointFromEntityCommand extends AbstractJavaEECommand implements PrerequisiteCommandsProvider
 {
+   /**
+    * The system property holding the number of threads formatting the generated endpoints
+    */
+   public static final String GENERATION_THREADS_PROPERTY = "org.jboss.forge.addon.javaee.rest.generationThreads";
+
+   private static final String GENERATION_THREAD_NAME = "Forge REST Generation";
+
    @Inject
    @WithAttributes(label = "Content Type", defaultValue = MediaType.APPLICATION_XML, required = true)
    private UISelectOne<String> contentType;
@@ -88,6 +100,9 @@ public class RestEndpointFromEntityCommand extends AbstractJavaEECommand impleme
    @Inject
    private Inflector inflector;
 
+   @Inject
+   private ResourceFactory resourceFactory;
+
    @Override
    public UICommandMetadata getMetadata(UIContext context)
    {
@@ -164,30 +179,92 @@ public class RestEndpointFromEntityCommand extends AbstractJavaEECommand impleme
    {
       UIContext uiContext = context.getUIContext();
       RestGenerationContextImpl generationContext = createContextFor(uiContext);
-      Set<JavaClassSource> endpoints = generateEndpoints(generationContext);
+      List<JavaClassSource> endpoints = generateEndpoints(generationContext);
       Project project = generationContext.getProject();
       JavaSourceFacet javaSourceFacet = project.getFacet(JavaSourceFacet.class);
-      List<JavaResource> selection = new ArrayList<>();
-
-      for (JavaClassSource javaClass : endpoints)
-      {
-         selection.add(javaSourceFacet.saveJavaSource(javaClass));
-      }
+      List<JavaResource> selection = saveJavaSources(javaSourceFacet, endpoints);
       uiContext.setSelection(selection);
       return Results.success("Endpoint created");
    }
 
-   private Set<JavaClassSource> generateEndpoints(RestGenerationContextImpl generationContext) throws Exception
+   /**
+    * Generates the endpoints of the targets on the calling thread. Generators read and write the sources of the project
+    * (eg. the entities they annotate, the types of the nested DTOs), so they are not run concurrently
+    *
+    * @return the generated classes, in the order of the targets. Classes generated for several targets, such as the DTOs
+    *         of shared entities, are only returned once
+    */
+   private List<JavaClassSource> generateEndpoints(final RestGenerationContextImpl generationContext) throws Exception
    {
       RestResourceGenerator selectedGenerator = generator.getValue();
-      Set<JavaClassSource> classes = new HashSet<>();
+      Map<String, JavaClassSource> classes = new LinkedHashMap<>();
       for (JavaClassSource target : targets.getValue())
       {
-         generationContext.setEntity(target);
-         List<JavaClassSource> artifacts = selectedGenerator.generateFrom(generationContext);
-         classes.addAll(artifacts);
+         List<JavaClassSource> targetArtifacts = selectedGenerator.generateFrom(generationContext.copyFor(target));
+         for (JavaClassSource artifact : targetArtifacts)
+         {
+            if (!classes.containsKey(artifact.getQualifiedName()))
+            {
+               classes.put(artifact.getQualifiedName(), artifact);
+            }
+         }
       }
-      return classes;
+      return new ArrayList<>(classes.values());
+   }
+
+   /**
+    * Formats the given classes concurrently, then writes them in one resource transaction on the calling thread.
+    * Formatting only works on the generated classes, which are not shared between tasks
+    */
+   private List<JavaResource> saveJavaSources(final JavaSourceFacet javaSourceFacet,
+            final List<JavaClassSource> sources) throws Exception
+   {
+      List<Callable<String>> tasks = new ArrayList<>();
+      for (final JavaClassSource source : sources)
+      {
+         tasks.add(new Callable<String>()
+         {
+            @Override
+            public String call()
+            {
+               return source.toString();
+            }
+         });
+      }
+      List<String> contents = DaemonExecutors.invokeAll(GENERATION_THREAD_NAME, getGenerationThreads(), tasks);
+      List<JavaResource> resources = new ArrayList<>();
+      ResourceTransaction transaction = ResourceUtil.beginTransaction(resourceFactory);
+      try
+      {
+         for (int i = 0; i < sources.size(); i++)
+         {
+            resources.add(javaSourceFacet.getJavaResource(sources.get(i).getQualifiedName()).setContents(
+                     contents.get(i)));
+         }
+         if (transaction != null)
+         {
+            transaction.commit();
+            transaction = null;
+         }
+      }
+      finally
+      {
+         if (transaction != null)
+         {
+            transaction.rollback();
+         }
+      }
+      return resources;
+   }
+
+   /**
+    * @return the number of threads formatting the generated endpoints, from the
+    *         <code>{@value #GENERATION_THREADS_PROPERTY}</code> system property. Defaults to the number of available
+    *         processors
+    */
+   protected int getGenerationThreads()
+   {
+      return Integer.getInteger(GENERATION_THREADS_PROPERTY, Runtime.getRuntime().availableProcessors());
    }
 
    @Override
@@ -229,5 +306,4 @@ public class RestEndpointFromEntityCommand extends AbstractJavaEECommand impleme
       }
       return builder.build();
    }
-
 }
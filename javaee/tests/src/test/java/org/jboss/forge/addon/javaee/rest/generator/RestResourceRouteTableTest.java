@@ -0,0 +1,115 @@
+/**
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.javaee.rest.generator;
+
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.forge.addon.javaee.ProjectHelper;
+import org.jboss.forge.addon.parser.java.facets.JavaSourceFacet;
+import org.jboss.forge.addon.projects.Project;
+import org.jboss.forge.addon.text.Inflector;
+import org.jboss.forge.arquillian.AddonDependency;
+import org.jboss.forge.arquillian.Dependencies;
+import org.jboss.forge.arquillian.archive.ForgeArchive;
+import org.jboss.forge.furnace.repositories.AddonDependencyEntry;
+import org.jboss.forge.parser.JavaParser;
+import org.jboss.forge.parser.java.JavaClass;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(Arquillian.class)
+public class RestResourceRouteTableTest
+{
+   @Deployment
+   @Dependencies({
+            @AddonDependency(name = "org.jboss.forge.addon:javaee"),
+            @AddonDependency(name = "org.jboss.forge.addon:maven")
+   })
+   public static ForgeArchive getDeployment()
+   {
+      return ShrinkWrap.create(ForgeArchive.class)
+               .addBeansXML()
+               .addClass(ProjectHelper.class)
+               .addAsAddonDependencies(
+                        AddonDependencyEntry.create("org.jboss.forge.furnace.container:cdi"),
+                        AddonDependencyEntry.create("org.jboss.forge.addon:projects"),
+                        AddonDependencyEntry.create("org.jboss.forge.addon:parser-java"),
+                        AddonDependencyEntry.create("org.jboss.forge.addon:text"),
+                        AddonDependencyEntry.create("org.jboss.forge.addon:maven"),
+                        AddonDependencyEntry.create("org.jboss.forge.addon:javaee")
+               );
+   }
+
+   @Inject
+   private ProjectHelper projectHelper;
+
+   private Project project;
+   private RestGenerationContextImpl context;
+
+   @Before
+   public void setUp() throws Exception
+   {
+      project = projectHelper.createWebProject();
+      projectHelper.installJPA_2_0(project);
+      JavaClass existing = JavaParser.parse(JavaClass.class,
+               "package com.example.rest; @javax.ws.rs.Path(\"/customers/\") public class CustomerResource {}");
+      project.getFacet(JavaSourceFacet.class).saveJavaSource(existing);
+
+      context = new RestGenerationContextImpl();
+      context.setProject(project);
+      context.setTargetPackageName("com.example.rest");
+      context.setInflector(new Inflector());
+   }
+
+   @Test
+   public void testRouteTableHoldsTheExistingResources() throws Exception
+   {
+      RestResourceRouteTable routeTable = RestResourceRouteTable.of(project);
+      Assert.assertEquals("com.example.rest.CustomerResource", routeTable.getType("/customers"));
+      Assert.assertNull(routeTable.getType("/products"));
+   }
+
+   @Test
+   public void testPathOfAnotherResourceIsNotReused() throws Exception
+   {
+      String path = ResourceGeneratorUtil.getResourcePath(context.copyFor(createEntity("Customer")));
+
+      Assert.assertEquals("forge/customers", path);
+      Assert.assertEquals("com.example.rest.CustomerEndpoint", context.getRouteTable().getType(path));
+   }
+
+   @Test
+   public void testFreePathIsReservedForLaterEndpoints() throws Exception
+   {
+      JavaClassSource product = createEntity("Product");
+      Assert.assertEquals("/products", ResourceGeneratorUtil.getResourcePath(context.copyFor(product)));
+
+      RestGenerationContextImpl otherPackage = context.copyFor(product);
+      otherPackage.setTargetPackageName("com.example.other");
+      Assert.assertEquals("forge/products", ResourceGeneratorUtil.getResourcePath(otherPackage));
+   }
+
+   @Test
+   public void testPathIsKeptWhenTheSameEndpointIsGeneratedAgain() throws Exception
+   {
+      JavaClassSource product = createEntity("Product");
+      String first = ResourceGeneratorUtil.getResourcePath(context.copyFor(product));
+      String second = ResourceGeneratorUtil.getResourcePath(context.copyFor(product));
+      Assert.assertEquals(first, second);
+   }
+
+   private JavaClassSource createEntity(String name) throws Exception
+   {
+      return projectHelper.createJPAEntity(project, name).getJavaType();
+   }
+}
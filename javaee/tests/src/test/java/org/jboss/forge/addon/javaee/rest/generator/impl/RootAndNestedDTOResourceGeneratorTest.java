@@ -0,0 +1,153 @@
+/**
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.javaee.rest.generator.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import javax.inject.Inject;
+import javax.persistence.CascadeType;
+import javax.persistence.FetchType;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.forge.addon.javaee.ProjectHelper;
+import org.jboss.forge.addon.javaee.jpa.JPAFieldOperations;
+import org.jboss.forge.addon.javaee.rest.generator.RestGenerationContextImpl;
+import org.jboss.forge.addon.parser.java.resources.JavaResource;
+import org.jboss.forge.addon.projects.Project;
+import org.jboss.forge.addon.text.Inflector;
+import org.jboss.forge.addon.ui.util.DaemonExecutors;
+import org.jboss.forge.arquillian.AddonDependency;
+import org.jboss.forge.arquillian.Dependencies;
+import org.jboss.forge.arquillian.archive.ForgeArchive;
+import org.jboss.forge.furnace.repositories.AddonDependencyEntry;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(Arquillian.class)
+public class RootAndNestedDTOResourceGeneratorTest
+{
+   private static final String DTO_PACKAGE = "com.example.rest.dto";
+
+   @Deployment
+   @Dependencies({
+            @AddonDependency(name = "org.jboss.forge.addon:javaee"),
+            @AddonDependency(name = "org.jboss.forge.addon:maven")
+   })
+   public static ForgeArchive getDeployment()
+   {
+      return ShrinkWrap.create(ForgeArchive.class)
+               .addBeansXML()
+               .addClass(ProjectHelper.class)
+               .addAsAddonDependencies(
+                        AddonDependencyEntry.create("org.jboss.forge.furnace.container:cdi"),
+                        AddonDependencyEntry.create("org.jboss.forge.addon:projects"),
+                        AddonDependencyEntry.create("org.jboss.forge.addon:parser-java"),
+                        AddonDependencyEntry.create("org.jboss.forge.addon:text"),
+                        AddonDependencyEntry.create("org.jboss.forge.addon:ui"),
+                        AddonDependencyEntry.create("org.jboss.forge.addon:maven"),
+                        AddonDependencyEntry.create("org.jboss.forge.addon:javaee")
+               );
+   }
+
+   @Inject
+   private ProjectHelper projectHelper;
+
+   @Inject
+   private JPAFieldOperations jpaFieldOperations;
+
+   @Inject
+   private RootAndNestedDTOResourceGenerator generator;
+
+   private Project project;
+   private RestGenerationContextImpl context;
+   private JavaClassSource address;
+   private List<JavaClassSource> entities;
+
+   @Before
+   public void setUp() throws Exception
+   {
+      project = projectHelper.createWebProject();
+      projectHelper.installJPA_2_0(project);
+      address = projectHelper.createJPAEntity(project, "Address").getJavaType();
+      entities = new ArrayList<>();
+      for (String name : new String[] { "Customer", "Supplier" })
+      {
+         JavaResource entity = projectHelper.createJPAEntity(project, name);
+         jpaFieldOperations.newManyToOneRelationship(project, entity, "address", address.getQualifiedName(), null,
+                  FetchType.LAZY, false, Collections.<CascadeType> emptyList());
+         entities.add(entity.<JavaClassSource> getJavaType());
+      }
+
+      context = new RestGenerationContextImpl();
+      context.setProject(project);
+      context.setTargetPackageName("com.example.rest");
+      context.setContentType("application/json");
+      context.setPersistenceUnitName("forge-default");
+      context.setInflector(new Inflector());
+   }
+
+   @Test
+   public void testSharedNestedDTOIsCreatedOnce() throws Exception
+   {
+      List<JavaClassSource> customerClasses = generator.generateFrom(context.copyFor(entities.get(0)));
+      List<JavaClassSource> supplierClasses = generator.generateFrom(context.copyFor(entities.get(1)));
+
+      JavaClassSource nestedAddress = context.getDTOCache().get(address, DTO_PACKAGE, false);
+      Assert.assertNotNull(nestedAddress);
+      Assert.assertEquals("NestedAddressDTO", nestedAddress.getName());
+      Assert.assertSame(nestedAddress, find(customerClasses, "NestedAddressDTO"));
+      Assert.assertSame(nestedAddress, find(supplierClasses, "NestedAddressDTO"));
+      Assert.assertEquals("CustomerDTO", find(customerClasses, "CustomerDTO").getName());
+      Assert.assertEquals("SupplierDTO", find(supplierClasses, "SupplierDTO").getName());
+   }
+
+   @Test
+   public void testSharedNestedDTOIsCreatedOnceConcurrently() throws Exception
+   {
+      List<Callable<List<JavaClassSource>>> tasks = new ArrayList<>();
+      for (final JavaClassSource entity : entities)
+      {
+         tasks.add(new Callable<List<JavaClassSource>>()
+         {
+            @Override
+            public List<JavaClassSource> call() throws Exception
+            {
+               return generator.generateFrom(context.copyFor(entity));
+            }
+         });
+      }
+      List<List<JavaClassSource>> results = DaemonExecutors.invokeAll("Test REST Generation", 2, tasks);
+
+      JavaClassSource nestedAddress = context.getDTOCache().get(address, DTO_PACKAGE, false);
+      Assert.assertNotNull(nestedAddress);
+      for (List<JavaClassSource> classes : results)
+      {
+         Assert.assertSame(nestedAddress, find(classes, "NestedAddressDTO"));
+      }
+   }
+
+   private JavaClassSource find(List<JavaClassSource> classes, String name)
+   {
+      for (JavaClassSource source : classes)
+      {
+         if (source.getName().equals(name))
+         {
+            return source;
+         }
+      }
+      Assert.fail(name + " was not generated");
+      return null;
+   }
+}
@@ -0,0 +1,135 @@
+/**
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.scaffold.faces;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.forge.addon.javaee.ProjectHelper;
+import org.jboss.forge.addon.projects.Project;
+import org.jboss.forge.addon.resource.FileResource;
+import org.jboss.forge.addon.resource.Resource;
+import org.jboss.forge.addon.scaffold.spi.ScaffoldGenerationContext;
+import org.jboss.forge.addon.scaffold.spi.ScaffoldSetupContext;
+import org.jboss.forge.arquillian.AddonDependency;
+import org.jboss.forge.arquillian.Dependencies;
+import org.jboss.forge.arquillian.archive.ForgeArchive;
+import org.jboss.forge.furnace.repositories.AddonDependencyEntry;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(Arquillian.class)
+public class FacesScaffoldProviderTest
+{
+   private static final List<String> ENTITIES = Arrays.asList("Customer", "Product", "Supplier", "Invoice");
+
+   @Deployment
+   @Dependencies({
+            @AddonDependency(name = "org.jboss.forge.addon:javaee"),
+            @AddonDependency(name = "org.jboss.forge.addon:scaffold"),
+            @AddonDependency(name = "org.jboss.forge.addon:maven")
+   })
+   public static ForgeArchive getDeployment()
+   {
+      return ShrinkWrap.create(ForgeArchive.class)
+               .addBeansXML()
+               .addClass(ProjectHelper.class)
+               .addAsAddonDependencies(
+                        AddonDependencyEntry.create("org.jboss.forge.furnace.container:cdi"),
+                        AddonDependencyEntry.create("org.jboss.forge.addon:projects"),
+                        AddonDependencyEntry.create("org.jboss.forge.addon:scaffold"),
+                        AddonDependencyEntry.create("org.jboss.forge.addon:maven"),
+                        AddonDependencyEntry.create("org.jboss.forge.addon:javaee")
+               );
+   }
+
+   @Inject
+   private FacesScaffoldProvider provider;
+
+   @Inject
+   private ProjectHelper projectHelper;
+
+   private Project project;
+   private List<Resource<?>> entities;
+
+   @Before
+   public void setUp() throws Exception
+   {
+      project = projectHelper.createWebProject();
+      projectHelper.installJPA_2_0(project);
+      projectHelper.installServlet_3_1(project);
+      projectHelper.installFaces_2_2(project);
+      projectHelper.installCDI_1_1(project);
+      projectHelper.installEJB_3_2(project);
+      entities = new ArrayList<Resource<?>>();
+      for (String entity : ENTITIES)
+      {
+         entities.add(projectHelper.createJPAEntity(project, entity));
+      }
+      provider.setup(project, new ScaffoldSetupContext("", true));
+   }
+
+   @Test
+   public void testRegenerationKeepsTheSameContents() throws Exception
+   {
+      Map<String, String> first = generate();
+      Map<String, String> second = generate();
+
+      Assert.assertEquals(new ArrayList<String>(first.keySet()), new ArrayList<String>(second.keySet()));
+      Assert.assertEquals(first, second);
+   }
+
+   @Test
+   public void testEntitiesAreGeneratedInOrder() throws Exception
+   {
+      List<String> paths = new ArrayList<String>(generate().keySet());
+
+      List<String> expected = new ArrayList<String>();
+      for (String entity : ENTITIES)
+      {
+         String ccEntity = Character.toLowerCase(entity.charAt(0)) + entity.substring(1);
+         expected.add(entity + "Bean.java");
+         expected.add(ccEntity + "/create.xhtml");
+         expected.add(ccEntity + "/view.xhtml");
+         expected.add(ccEntity + "/search.xhtml");
+      }
+      Assert.assertTrue(paths.size() > expected.size());
+      for (int i = 0; i < expected.size(); i++)
+      {
+         Assert.assertTrue(paths.get(i) + " should be " + expected.get(i), paths.get(i).endsWith(expected.get(i)));
+      }
+   }
+
+   /**
+    * Generates the scaffold of the entities
+    *
+    * @return the contents of the generated files, by path relative to the project root, in the generation order
+    */
+   private Map<String, String> generate()
+   {
+      List<Resource<?>> resources = provider.generateFrom(project, new ScaffoldGenerationContext("", false, entities));
+      String root = project.getRootDirectory().getFullyQualifiedName();
+      Map<String, String> result = new LinkedHashMap<String, String>();
+      for (Resource<?> resource : resources)
+      {
+         Assert.assertNotNull(resource);
+         String path = resource.getFullyQualifiedName().substring(root.length() + 1);
+         result.put(path, ((FileResource<?>) resource).getContents());
+      }
+      return result;
+   }
+}
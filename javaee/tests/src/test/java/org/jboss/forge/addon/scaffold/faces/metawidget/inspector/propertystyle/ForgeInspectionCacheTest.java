@@ -0,0 +1,101 @@
+/**
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.scaffold.faces.metawidget.inspector.propertystyle;
+
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.forge.addon.javaee.ProjectHelper;
+import org.jboss.forge.addon.parser.java.facets.JavaSourceFacet;
+import org.jboss.forge.addon.parser.java.resources.JavaResource;
+import org.jboss.forge.addon.projects.Project;
+import org.jboss.forge.arquillian.AddonDependency;
+import org.jboss.forge.arquillian.Dependencies;
+import org.jboss.forge.arquillian.archive.ForgeArchive;
+import org.jboss.forge.furnace.repositories.AddonDependencyEntry;
+import org.jboss.forge.parser.java.JavaClass;
+import org.jboss.forge.parser.java.JavaSource;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(Arquillian.class)
+public class ForgeInspectionCacheTest
+{
+   @Deployment
+   @Dependencies({
+            @AddonDependency(name = "org.jboss.forge.addon:javaee"),
+            @AddonDependency(name = "org.jboss.forge.addon:maven")
+   })
+   public static ForgeArchive getDeployment()
+   {
+      return ShrinkWrap.create(ForgeArchive.class)
+               .addBeansXML()
+               .addClass(ProjectHelper.class)
+               .addAsAddonDependencies(
+                        AddonDependencyEntry.create("org.jboss.forge.furnace.container:cdi"),
+                        AddonDependencyEntry.create("org.jboss.forge.addon:projects"),
+                        AddonDependencyEntry.create("org.jboss.forge.addon:maven"),
+                        AddonDependencyEntry.create("org.jboss.forge.addon:javaee")
+               );
+   }
+
+   @Inject
+   private ProjectHelper projectHelper;
+
+   private Project project;
+   private JavaResource customer;
+
+   @Before
+   public void setUp() throws Exception
+   {
+      project = projectHelper.createWebProject();
+      projectHelper.installJPA_2_0(project);
+      customer = projectHelper.createJPAEntity(project, "Customer");
+   }
+
+   @Test
+   public void testSharedTypeIsParsedOnce() throws Exception
+   {
+      ForgeInspectionCache cache = new ForgeInspectionCache();
+      String type = customer.getJavaSource().getQualifiedName();
+
+      JavaSource<?> first = cache.getJavaSource(project, type);
+      Assert.assertNotNull(first);
+      Assert.assertSame(first, cache.getJavaSource(project, type));
+      Assert.assertEquals(cache.getFingerprint(project, type), cache.getFingerprint(project, type));
+   }
+
+   @Test
+   public void testChangedSourceIsParsedAgain() throws Exception
+   {
+      ForgeInspectionCache cache = new ForgeInspectionCache();
+      String type = customer.getJavaSource().getQualifiedName();
+      JavaSource<?> first = cache.getJavaSource(project, type);
+      String fingerprint = cache.getFingerprint(project, type);
+
+      JavaClass changed = (JavaClass) customer.getJavaSource();
+      changed.addField("private String nickname;");
+      project.getFacet(JavaSourceFacet.class).saveJavaSource(changed);
+
+      JavaSource<?> second = cache.getJavaSource(project, type);
+      Assert.assertNotSame(first, second);
+      Assert.assertTrue(((JavaClass) second).hasField("nickname"));
+      Assert.assertFalse(fingerprint.equals(cache.getFingerprint(project, type)));
+   }
+
+   @Test
+   public void testMissingTypeIsNotCached() throws Exception
+   {
+      ForgeInspectionCache cache = new ForgeInspectionCache();
+      Assert.assertNull(cache.getJavaSource(project, "com.example.Missing"));
+      Assert.assertNull(cache.getFingerprint(project, "com.example.Missing"));
+   }
+}
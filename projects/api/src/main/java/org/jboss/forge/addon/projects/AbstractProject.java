@@ -11,6 +11,8 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.jboss.forge.addon.facets.AbstractFaceted;
+import org.jboss.forge.addon.facets.FacetNotFoundException;
+import org.jboss.forge.addon.ui.metrics.CommandCounters;
 
 /**
  * Convenience base class for {@link Project} implementations.
@@ -21,6 +23,20 @@ public abstract class AbstractProject extends AbstractFaceted<ProjectFacet> impl
 {
    private final Map<Object, Object> attributes = new HashMap<>();
 
+   @Override
+   public boolean hasFacet(Class<? extends ProjectFacet> type)
+   {
+      CommandCounters.increment(CommandCounters.FACET_LOOKUPS);
+      return super.hasFacet(type);
+   }
+
+   @Override
+   public <F extends ProjectFacet> F getFacet(Class<F> type) throws FacetNotFoundException
+   {
+      CommandCounters.increment(CommandCounters.FACET_LOOKUPS);
+      return super.getFacet(type);
+   }
+
    @Override
    public Object getAttribute(final Object key)
    {
@@ -35,6 +35,7 @@ import org.jboss.forge.addon.resource.ResourceFactory;
 import org.jboss.forge.addon.resource.events.ResourceEvent;
 import org.jboss.forge.addon.resource.monitor.ResourceListener;
 import org.jboss.forge.addon.resource.monitor.ResourceMonitor;
+import org.jboss.forge.addon.ui.metrics.CommandCounters;
 import org.jboss.forge.furnace.addons.AddonRegistry;
 import org.jboss.forge.furnace.container.cdi.events.Local;
 import org.jboss.forge.furnace.event.PreShutdown;
@@ -113,6 +114,7 @@ public class ProjectFactoryImpl implements ProjectFactory
    @Override
    public Project findProject(Resource<?> target, Predicate<Project> filter)
    {
+      CommandCounters.increment(CommandCounters.PROJECT_LOOKUPS);
       if (filter == null)
       {
          filter = acceptsAllProjects;
@@ -149,6 +151,7 @@ public class ProjectFactoryImpl implements ProjectFactory
    public Project findProject(Resource<?> target, ProjectProvider projectProvider, Predicate<Project> filter)
    {
       Assert.notNull(target, "Target cannot be null");
+      CommandCounters.increment(CommandCounters.PROJECT_LOOKUPS);
       if (filter == null)
       {
          filter = acceptsAllProjects;
@@ -13,7 +13,9 @@ import java.util.List;
 
 import org.jboss.forge.addon.resource.DirectoryResource;
 import org.jboss.forge.addon.resource.Resource;
+import org.jboss.forge.addon.resource.ResourceFactory;
 import org.jboss.forge.addon.resource.ResourceFilter;
+import org.jboss.forge.addon.resource.transaction.ResourceTransaction;
 import org.jboss.forge.furnace.util.Assert;
 
 /**
@@ -119,4 +121,29 @@ public class ResourceUtil
       }
       return false;
    }
+
+   /**
+    * Starts a transaction of the given {@link ResourceFactory}, unless one is already started or transactions are not
+    * supported.
+    * 
+    * @return the started transaction, to commit or roll back, or <code>null</code> if none was started
+    */
+   public static ResourceTransaction beginTransaction(final ResourceFactory factory)
+   {
+      ResourceTransaction transaction;
+      try
+      {
+         transaction = factory.getTransaction();
+      }
+      catch (UnsupportedOperationException e)
+      {
+         return null;
+      }
+      if (transaction.isStarted())
+      {
+         return null;
+      }
+      transaction.begin();
+      return transaction;
+   }
 }
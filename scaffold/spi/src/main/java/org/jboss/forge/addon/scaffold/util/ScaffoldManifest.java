@@ -0,0 +1,220 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.scaffold.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.Properties;
+
+import org.jboss.forge.addon.projects.Project;
+import org.jboss.forge.addon.resource.FileResource;
+import org.jboss.forge.addon.resource.Resource;
+import org.jboss.forge.addon.resource.ResourceException;
+
+/**
+ * Records, for each artifact generated by a scaffold provider, the fingerprint of the inputs it was generated from and
+ * the fingerprint of the generated contents. Stored in the <code>.forge_scaffold_&lt;provider&gt;</code> file of the
+ * project.
+ * <p>
+ * This lets a provider skip the artifacts whose inputs did not change since the last generation, and lets any
+ * generation skip writing the artifacts whose contents did not change. An artifact modified since it was generated is
+ * never overwritten unless the generation is forced.
+ * <p>
+ * Contents given as strings are written with the platform default charset, like
+ * {@link ScaffoldUtil#createOrOverwrite(FileResource, String, boolean)} and the template processors do.
+ */
+public class ScaffoldManifest
+{
+   private static final String MANIFEST_FILE_PREFIX = ".forge_scaffold_";
+
+   private final FileResource<?> location;
+   private final File rootDirectory;
+   private final Properties entries = new Properties();
+   private boolean dirty;
+
+   private ScaffoldManifest(Project project, String providerName)
+   {
+      this.rootDirectory = project.getRootDirectory().getUnderlyingResourceObject();
+      this.location = project.getRootDirectory().getChild(MANIFEST_FILE_PREFIX + providerName.toLowerCase())
+               .reify(FileResource.class);
+      if (location.exists())
+      {
+         try (InputStream is = location.getResourceInputStream())
+         {
+            entries.load(is);
+         }
+         catch (IOException e)
+         {
+            // A broken manifest only means that everything is generated again
+            entries.clear();
+         }
+      }
+   }
+
+   /**
+    * Loads the manifest of the given scaffold provider in the given project. Returns an empty manifest if none exists.
+    */
+   public static ScaffoldManifest load(Project project, String providerName)
+   {
+      return new ScaffoldManifest(project, providerName);
+   }
+
+   /**
+    * @return <code>true</code> if the given artifact exists, was generated from the given inputs and was not modified
+    *         since
+    */
+   public boolean isUpToDate(FileResource<?> artifact, String inputs)
+   {
+      String[] entry = getEntry(artifact);
+      return entry != null && entry[0].equals(inputs) && artifact.exists()
+               && entry[1].equals(ScaffoldUtil.fingerprint(read(artifact)));
+   }
+
+   /**
+    * Same as {@link ScaffoldUtil#createOrOverwrite(FileResource, String, boolean)}, except that the artifact is not
+    * written if it already has the given contents, and is overwritten when it was not modified since it was generated.
+    *
+    * @param inputs the fingerprint of the inputs of the contents
+    * @return the artifact if it holds the given contents, <code>null</code> if it was left untouched
+    */
+   public Resource<?> createOrOverwrite(FileResource<?> artifact, String inputs, String contents, boolean overwrite)
+   {
+      return createOrOverwrite(artifact, inputs, contents.getBytes(Charset.defaultCharset()), overwrite);
+   }
+
+   /**
+    * Same as {@link #createOrOverwrite(FileResource, String, String, boolean)}, with the contents as their own inputs
+    */
+   public Resource<?> createOrOverwrite(FileResource<?> artifact, String contents, boolean overwrite)
+   {
+      byte[] bytes = contents.getBytes(Charset.defaultCharset());
+      return createOrOverwrite(artifact, ScaffoldUtil.fingerprint(bytes), bytes, overwrite);
+   }
+
+   /**
+    * Same as {@link ScaffoldUtil#createOrOverwrite(FileResource, InputStream, boolean)}, except that the artifact is
+    * not written if it already has the given contents, and is overwritten when it was not modified since it was
+    * generated. The inputs of the contents are the contents themselves.
+    *
+    * @return the artifact if it holds the given contents, <code>null</code> if it was left untouched
+    */
+   public Resource<?> createOrOverwrite(FileResource<?> artifact, InputStream contents, boolean overwrite)
+   {
+      byte[] bytes = read(contents);
+      return createOrOverwrite(artifact, ScaffoldUtil.fingerprint(bytes), bytes, overwrite);
+   }
+
+   private Resource<?> createOrOverwrite(FileResource<?> artifact, String inputs, byte[] contents, boolean overwrite)
+   {
+      String output = ScaffoldUtil.fingerprint(contents);
+      if (artifact.exists())
+      {
+         String current = ScaffoldUtil.fingerprint(read(artifact));
+         if (!current.equals(output))
+         {
+            String[] entry = getEntry(artifact);
+            boolean unmodified = entry != null && entry[1].equals(current);
+            if (!overwrite && !unmodified)
+            {
+               return null;
+            }
+            artifact.setContents(new ByteArrayInputStream(contents));
+         }
+      }
+      else
+      {
+         artifact.createNewFile();
+         artifact.setContents(new ByteArrayInputStream(contents));
+      }
+      putEntry(artifact, inputs, output);
+      return artifact;
+   }
+
+   /**
+    * Writes this manifest to the project, if it changed since it was loaded
+    */
+   public void save()
+   {
+      if (dirty)
+      {
+         ByteArrayOutputStream out = new ByteArrayOutputStream();
+         try
+         {
+            entries.store(out, "Generated by Forge scaffolding: the fingerprints of the generated files");
+         }
+         catch (IOException e)
+         {
+            throw new ResourceException("Could not write " + location.getFullyQualifiedName(), e);
+         }
+         location.createNewFile();
+         location.setContents(new ByteArrayInputStream(out.toByteArray()));
+         dirty = false;
+      }
+   }
+
+   private String[] getEntry(FileResource<?> artifact)
+   {
+      String value = entries.getProperty(getKey(artifact));
+      if (value == null)
+      {
+         return null;
+      }
+      String[] entry = value.split(",");
+      return entry.length == 2 ? entry : null;
+   }
+
+   private void putEntry(FileResource<?> artifact, String inputs, String output)
+   {
+      Object previous = entries.setProperty(getKey(artifact), inputs + "," + output);
+      if (!(inputs + "," + output).equals(previous))
+      {
+         dirty = true;
+      }
+   }
+
+   /**
+    * @return the path of the given artifact relative to the project root
+    */
+   private String getKey(FileResource<?> artifact)
+   {
+      String root = rootDirectory.getAbsolutePath();
+      String path = artifact.getUnderlyingResourceObject().getAbsolutePath();
+      if (path.startsWith(root + File.separator))
+      {
+         path = path.substring(root.length() + 1);
+      }
+      return path.replace(File.separatorChar, '/');
+   }
+
+   private static byte[] read(FileResource<?> artifact)
+   {
+      return read(artifact.getResourceInputStream());
+   }
+
+   private static byte[] read(InputStream contents)
+   {
+      try (InputStream is = contents)
+      {
+         ByteArrayOutputStream out = new ByteArrayOutputStream();
+         byte[] buffer = new byte[8192];
+         int read;
+         while ((read = is.read(buffer)) != -1)
+         {
+            out.write(buffer, 0, read);
+         }
+         return out.toByteArray();
+      }
+      catch (IOException e)
+      {
+         throw new ResourceException("Could not read contents", e);
+      }
+   }
+}
@@ -7,6 +7,9 @@
 package org.jboss.forge.addon.scaffold.util;
 
 import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
 import org.jboss.forge.addon.resource.FileResource;
 import org.jboss.forge.addon.resource.Resource;
@@ -41,4 +44,34 @@ public class ScaffoldUtil
       return null;
    }
 
+   /**
+    * @return the SHA-1 hash of the given contents, as hexadecimal. Used to tell whether the inputs of generated
+    *         artifacts have changed
+    */
+   public static String fingerprint(final String contents)
+   {
+      return fingerprint(contents.getBytes(Charset.forName("UTF-8")));
+   }
+
+   /**
+    * @return the SHA-1 hash of the given bytes, as hexadecimal
+    */
+   public static String fingerprint(final byte[] bytes)
+   {
+      try
+      {
+         byte[] digest = MessageDigest.getInstance("SHA-1").digest(bytes);
+         StringBuilder sb = new StringBuilder(digest.length * 2);
+         for (byte b : digest)
+         {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+         }
+         return sb.toString();
+      }
+      catch (NoSuchAlgorithmException e)
+      {
+         throw new IllegalStateException("SHA-1 is not available", e);
+      }
+   }
+
 }
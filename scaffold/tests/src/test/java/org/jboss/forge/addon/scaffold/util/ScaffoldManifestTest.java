@@ -0,0 +1,144 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.scaffold.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.forge.addon.projects.Project;
+import org.jboss.forge.addon.resource.FileResource;
+import org.jboss.forge.addon.scaffold.ProjectHelper;
+import org.jboss.forge.arquillian.AddonDependency;
+import org.jboss.forge.arquillian.Dependencies;
+import org.jboss.forge.arquillian.archive.ForgeArchive;
+import org.jboss.forge.furnace.repositories.AddonDependencyEntry;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(Arquillian.class)
+public class ScaffoldManifestTest
+{
+   private static final String PROVIDER = "Test";
+
+   @Deployment
+   @Dependencies({
+            @AddonDependency(name = "org.jboss.forge.addon:projects"),
+            @AddonDependency(name = "org.jboss.forge.addon:scaffold"),
+            @AddonDependency(name = "org.jboss.forge.addon:maven"),
+            @AddonDependency(name = "org.jboss.forge.addon:parser-java"),
+            @AddonDependency(name = "org.jboss.forge.furnace.container:cdi")
+   })
+   public static ForgeArchive getDeployment()
+   {
+      return ShrinkWrap
+               .create(ForgeArchive.class)
+               .addClass(ProjectHelper.class)
+               .addBeansXML()
+               .addAsAddonDependencies(
+                        AddonDependencyEntry.create("org.jboss.forge.addon:projects"),
+                        AddonDependencyEntry.create("org.jboss.forge.addon:scaffold"),
+                        AddonDependencyEntry.create("org.jboss.forge.addon:maven"),
+                        AddonDependencyEntry.create("org.jboss.forge.addon:parser-java"),
+                        AddonDependencyEntry.create("org.jboss.forge.furnace.container:cdi")
+               );
+   }
+
+   @Inject
+   private ProjectHelper projectHelper;
+
+   private Project project;
+   private FileResource<?> artifact;
+
+   @Before
+   public void setUp()
+   {
+      project = projectHelper.createWebProject();
+      artifact = project.getRootDirectory().getChildDirectory("generated").getChild("Artifact.txt")
+               .reify(FileResource.class);
+   }
+
+   @Test
+   public void testArtifactIsUpToDateWithTheSameInputs()
+   {
+      ScaffoldManifest manifest = ScaffoldManifest.load(project, PROVIDER);
+      assertFalse(manifest.isUpToDate(artifact, "inputs"));
+
+      assertSame(artifact, manifest.createOrOverwrite(artifact, "inputs", "generated", false));
+      assertTrue(manifest.isUpToDate(artifact, "inputs"));
+      assertFalse(manifest.isUpToDate(artifact, "other inputs"));
+   }
+
+   @Test
+   public void testManifestIsSavedInTheProject()
+   {
+      ScaffoldManifest manifest = ScaffoldManifest.load(project, PROVIDER);
+      manifest.createOrOverwrite(artifact, "inputs", "generated", false);
+      manifest.save();
+
+      assertTrue(project.getRootDirectory().getChild(".forge_scaffold_test").exists());
+      assertTrue(ScaffoldManifest.load(project, PROVIDER).isUpToDate(artifact, "inputs"));
+   }
+
+   @Test
+   public void testUnchangedContentsAreNotWritten()
+   {
+      ScaffoldManifest manifest = ScaffoldManifest.load(project, PROVIDER);
+      manifest.createOrOverwrite(artifact, "inputs", "generated", false);
+      artifact.setLastModified(1000);
+
+      assertSame(artifact, manifest.createOrOverwrite(artifact, "other inputs", "generated", true));
+      assertEquals(1000, artifact.getLastModified());
+      assertTrue(manifest.isUpToDate(artifact, "other inputs"));
+   }
+
+   @Test
+   public void testUnmodifiedArtifactIsOverwrittenWithoutForce()
+   {
+      ScaffoldManifest manifest = ScaffoldManifest.load(project, PROVIDER);
+      manifest.createOrOverwrite(artifact, "inputs", "generated", false);
+
+      assertSame(artifact, manifest.createOrOverwrite(artifact, "new inputs", "generated again", false));
+      assertEquals("generated again", artifact.getContents());
+      assertTrue(manifest.isUpToDate(artifact, "new inputs"));
+   }
+
+   @Test
+   public void testUserModifiedArtifactIsKeptWithoutForce()
+   {
+      ScaffoldManifest manifest = ScaffoldManifest.load(project, PROVIDER);
+      manifest.createOrOverwrite(artifact, "inputs", "generated", false);
+      artifact.setContents("modified by the user");
+
+      assertFalse(manifest.isUpToDate(artifact, "inputs"));
+      assertNull(manifest.createOrOverwrite(artifact, "inputs", "generated again", false));
+      assertEquals("modified by the user", artifact.getContents());
+
+      assertSame(artifact, manifest.createOrOverwrite(artifact, "inputs", "generated again", true));
+      assertEquals("generated again", artifact.getContents());
+   }
+
+   @Test
+   public void testArtifactUnknownToTheManifestIsKeptWithoutForce()
+   {
+      artifact.createNewFile();
+      artifact.setContents("written by hand");
+      ScaffoldManifest manifest = ScaffoldManifest.load(project, PROVIDER);
+
+      assertNull(manifest.createOrOverwrite(artifact, "inputs", "generated", false));
+      assertEquals("written by hand", artifact.getContents());
+   }
+}
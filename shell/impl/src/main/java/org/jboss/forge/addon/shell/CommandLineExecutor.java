@@ -0,0 +1,86 @@
+/**
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.shell;
+
+import java.io.File;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Map;
+
+import javax.inject.Inject;
+
+import org.jboss.forge.addon.convert.ConverterFactory;
+import org.jboss.forge.addon.resource.Resource;
+import org.jboss.forge.addon.resource.ResourceFactory;
+import org.jboss.forge.addon.shell.aesh.ScriptExecutor;
+import org.jboss.forge.addon.ui.command.CommandFactory;
+import org.jboss.forge.addon.ui.context.UIContextListener;
+import org.jboss.forge.addon.ui.controller.CommandControllerFactory;
+import org.jboss.forge.addon.ui.result.Result;
+import org.jboss.forge.furnace.addons.AddonRegistry;
+import org.jboss.forge.furnace.util.Assert;
+
+/**
+ * Executes command lines without a terminal, writing their results to the given streams. Used by the Forge daemon,
+ * which calls it from outside of the addon container: its public methods only use JDK types.
+ *
+ * Command lines run in a {@link HeadlessShell}, without a terminal. The lines that need a console run in one reading
+ * from a pipe, see {@link ScriptExecutor}.
+ */
+public class CommandLineExecutor
+{
+   @Inject
+   private AddonRegistry addonRegistry;
+
+   @Inject
+   private ResourceFactory resourceFactory;
+
+   @Inject
+   private ShellFactory shellFactory;
+
+   @Inject
+   private CommandFactory commandFactory;
+
+   @Inject
+   private CommandControllerFactory controllerFactory;
+
+   @Inject
+   private ConverterFactory converterFactory;
+
+   /**
+    * Executes the given command lines in order, stopping at the first failure.
+    *
+    * @param lines the command lines to execute
+    * @param workingDir the initial resource of the commands
+    * @param variables the variables available to the executed commands, may be <code>null</code>
+    * @return the exit code: <code>0</code> if all commands succeeded, <code>1</code> otherwise
+    */
+   public int execute(List<String> lines, File workingDir, Map<String, String> variables, PrintStream out,
+            PrintStream err)
+   {
+      Assert.notNull(lines, "Command lines cannot be null");
+      Assert.notNull(workingDir, "Working directory cannot be null");
+      Resource<File> initialResource = resourceFactory.create(workingDir);
+      try (HeadlessShell shell = new HeadlessShell(initialResource, addonRegistry.getServices(UIContextListener.class),
+               out, err);
+               ScriptExecutor executor = new ScriptExecutor(shell, shellFactory, commandFactory, controllerFactory,
+                        converterFactory, initialResource))
+      {
+         executor.setVariables(variables);
+         for (String line : lines)
+         {
+            Result result = executor.execute(line);
+            if (result != null && ScriptExecutor.display(out, err, result))
+            {
+               return 1;
+            }
+         }
+         return 0;
+      }
+   }
+}
@@ -0,0 +1,144 @@
+/**
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.shell;
+
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.jboss.aesh.console.AeshConsole;
+import org.jboss.forge.addon.resource.Resource;
+import org.jboss.forge.addon.shell.ui.NonInteractiveUIPrompt;
+import org.jboss.forge.addon.shell.ui.ShellContextImpl;
+import org.jboss.forge.addon.ui.command.CommandExecutionListener;
+import org.jboss.forge.addon.ui.context.UIContext;
+import org.jboss.forge.addon.ui.context.UIContextListener;
+import org.jboss.forge.addon.ui.input.UIPrompt;
+import org.jboss.forge.addon.ui.output.UIOutput;
+import org.jboss.forge.addon.ui.progress.DefaultUIProgressMonitor;
+import org.jboss.forge.addon.ui.progress.UIProgressMonitor;
+import org.jboss.forge.furnace.spi.ListenerRegistration;
+import org.jboss.forge.furnace.util.Assert;
+
+/**
+ * A {@link ScriptShell} without a console, writing to the given streams. It is cheap to create, so a new one is used
+ * for each batch of command lines executed by the {@link CommandLineExecutor}.
+ *
+ * Commands cannot prompt for input: they are executed non-interactively.
+ */
+class HeadlessShell implements ScriptShell
+{
+   private final Iterable<UIContextListener> contextListeners;
+   private final List<CommandExecutionListener> executionListeners = new CopyOnWriteArrayList<>();
+   private final UIOutput output;
+   private Resource<?> currentResource;
+
+   HeadlessShell(Resource<?> initialResource, Iterable<UIContextListener> contextListeners, final PrintStream out,
+            final PrintStream err)
+   {
+      this.currentResource = initialResource;
+      this.contextListeners = contextListeners;
+      this.output = new UIOutput()
+      {
+         @Override
+         public PrintStream out()
+         {
+            return out;
+         }
+
+         @Override
+         public PrintStream err()
+         {
+            return err;
+         }
+      };
+   }
+
+   @Override
+   public ShellContextImpl createUIContext(Resource<?> initialResource)
+   {
+      ShellContextImpl context = new ShellContextImpl(this, initialResource, contextListeners);
+      for (CommandExecutionListener listener : executionListeners)
+      {
+         context.addCommandExecutionListener(listener);
+      }
+      return context;
+   }
+
+   @Override
+   public AeshConsole getConsole()
+   {
+      throw new UnsupportedOperationException("This command needs a terminal, and runs only in the Forge console");
+   }
+
+   @Override
+   public boolean hasConsole()
+   {
+      return false;
+   }
+
+   @Override
+   public void setCurrentResource(Resource<?> resource)
+   {
+      Assert.notNull(resource, "Current resource should not be null");
+      this.currentResource = resource;
+   }
+
+   @Override
+   public Resource<?> getCurrentResource()
+   {
+      return currentResource;
+   }
+
+   @Override
+   public ListenerRegistration<CommandExecutionListener> addCommandExecutionListener(
+            final CommandExecutionListener listener)
+   {
+      executionListeners.add(listener);
+      return new ListenerRegistration<CommandExecutionListener>()
+      {
+         @Override
+         public CommandExecutionListener removeListener()
+         {
+            executionListeners.remove(listener);
+            return listener;
+         }
+      };
+   }
+
+   @Override
+   public boolean isGUI()
+   {
+      return false;
+   }
+
+   @Override
+   public UIOutput getOutput()
+   {
+      return output;
+   }
+
+   @Override
+   public UIProgressMonitor createProgressMonitor(UIContext context)
+   {
+      return new DefaultUIProgressMonitor();
+   }
+
+   @Override
+   public UIPrompt createPrompt(UIContext context)
+   {
+      return new NonInteractiveUIPrompt();
+   }
+
+   @Override
+   public void close()
+   {
+      output.out().flush();
+      output.err().flush();
+   }
+}
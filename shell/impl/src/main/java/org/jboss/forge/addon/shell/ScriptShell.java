@@ -0,0 +1,30 @@
+/**
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.shell;
+
+import org.jboss.forge.addon.resource.Resource;
+import org.jboss.forge.addon.shell.aesh.ScriptExecutor;
+import org.jboss.forge.addon.shell.ui.ShellContextImpl;
+import org.jboss.forge.addon.ui.UIRuntime;
+
+/**
+ * A {@link Shell} able to run commands through a {@link ScriptExecutor}, with or without a console.
+ */
+public interface ScriptShell extends Shell, UIRuntime
+{
+   /**
+    * Creates a {@link ShellContextImpl} whose initial selection is the given {@link Resource}
+    */
+   ShellContextImpl createUIContext(Resource<?> initialResource);
+
+   /**
+    * @return <code>true</code> if {@link #getConsole()} returns the console of a terminal, <code>false</code> if it is
+    *         not supported
+    */
+   boolean hasConsole();
+}
@@ -11,6 +11,7 @@ import java.io.IOException;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -45,7 +46,6 @@ import org.jboss.forge.addon.shell.ui.ShellContext;
 import org.jboss.forge.addon.shell.ui.ShellContextImpl;
 import org.jboss.forge.addon.shell.ui.ShellUIOutputImpl;
 import org.jboss.forge.addon.shell.ui.ShellUIPromptImpl;
-import org.jboss.forge.addon.ui.UIRuntime;
 import org.jboss.forge.addon.ui.command.CommandExecutionListener;
 import org.jboss.forge.addon.ui.context.UIContext;
 import org.jboss.forge.addon.ui.context.UIContextListener;
@@ -65,14 +65,16 @@ import org.jboss.forge.furnace.util.OperatingSystemUtils;
  * @author <a href="mailto:lincolnbaxter@gmail.com">Lincoln Baxter, III</a>
  */
 @Vetoed
-public class ShellImpl implements Shell, UIRuntime
+public class ShellImpl implements ScriptShell
 {
    private Resource<?> currentResource;
 
    private final AddonRegistry addonRegistry;
    private final AeshConsole console;
+   private final ForgeCommandRegistry registry;
    private final UIOutput output;
    private final List<CommandExecutionListener> executionListeners = new LinkedList<>();
+   private volatile int revision;
 
    private final static Logger log = Logger.getLogger(ShellImpl.class.getName());
 
@@ -86,8 +88,7 @@ public class ShellImpl implements Shell, UIRuntime
       File history = new File(forgeHome, "history");
       File alias = new File(forgeHome, "alias");
       File export = new File(forgeHome, "export");
-      final ForgeCommandRegistry registry =
-               new ForgeCommandRegistry(this, addonRegistry);
+      this.registry = new ForgeCommandRegistry(this, addonRegistry);
       SettingsBuilder newSettings = new SettingsBuilder(settings)
                .historyFile(history)
                .aliasFile(alias)
@@ -167,6 +168,7 @@ public class ShellImpl implements Shell, UIRuntime
    {
       Assert.notNull(resource, "Current resource should not be null");
       this.currentResource = resource;
+      revision++;
 
       Resource<?> temp = resource;
       while (!(temp instanceof DirectoryResource) && temp != null)
@@ -198,16 +200,40 @@ public class ShellImpl implements Shell, UIRuntime
       return console;
    }
 
+   @Override
+   public boolean hasConsole()
+   {
+      return true;
+   }
+
    @Override
    public UIOutput getOutput()
    {
       return output;
    }
 
+   /**
+    * @return the names of the Forge and aesh commands this shell runs
+    */
+   public Set<String> getCommandNames()
+   {
+      return registry.getAllCommandNames();
+   }
+
    public ShellContextImpl createUIContext()
+   {
+      return createUIContext(currentResource);
+   }
+
+   /**
+    * Creates a {@link ShellContextImpl} whose initial selection is the given {@link Resource} instead of the current
+    * resource of this shell
+    */
+   @Override
+   public ShellContextImpl createUIContext(Resource<?> initialResource)
    {
       Imported<UIContextListener> listeners = addonRegistry.getServices(UIContextListener.class);
-      ShellContextImpl shellContextImpl = new ShellContextImpl(this, currentResource, listeners);
+      ShellContextImpl shellContextImpl = new ShellContextImpl(this, initialResource, listeners);
       for (CommandExecutionListener listener : executionListeners)
       {
          shellContextImpl.addCommandExecutionListener(listener);
@@ -230,17 +256,37 @@ public class ShellImpl implements Shell, UIRuntime
             final CommandExecutionListener listener)
    {
       executionListeners.add(listener);
+      revision++;
       return new ListenerRegistration<CommandExecutionListener>()
       {
          @Override
          public CommandExecutionListener removeListener()
          {
             executionListeners.remove(listener);
+            revision++;
             return listener;
          }
       };
    }
 
+   /**
+    * Returns a number that changes whenever the state captured by {@link #createUIContext()} changes, or a command has
+    * been executed in this shell. {@link UIContext} instances and controllers created with an older revision may be
+    * stale.
+    */
+   public int getRevision()
+   {
+      return revision;
+   }
+
+   /**
+    * Notifies this shell that a command has been executed
+    */
+   public void commandExecuted()
+   {
+      revision++;
+   }
+
    @Override
    public UIProgressMonitor createProgressMonitor(UIContext context)
    {
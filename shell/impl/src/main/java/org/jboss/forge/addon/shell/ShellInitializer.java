@@ -10,6 +10,7 @@ import javax.inject.Singleton;
 
 import org.jboss.aesh.console.settings.Settings;
 import org.jboss.aesh.console.settings.SettingsBuilder;
+import org.jboss.forge.addon.shell.aesh.completion.AsyncCompletions;
 import org.jboss.forge.furnace.container.cdi.events.Local;
 import org.jboss.forge.furnace.event.PostStartup;
 import org.jboss.forge.furnace.event.PreShutdown;
@@ -40,6 +41,7 @@ public class ShellInitializer
    public void shutdown(@Observes @Local PreShutdown preShutdown)
    {
       destroyShell();
+      AsyncCompletions.shutdown();
    }
 
    @PreDestroy
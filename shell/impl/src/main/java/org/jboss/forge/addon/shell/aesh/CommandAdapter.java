@@ -54,9 +54,21 @@ class CommandAdapter implements Command<CommandInvocation>
       return interaction.getController().validate();
    }
 
-   @SuppressWarnings("unchecked")
    @Override
    public CommandResult execute(CommandInvocation commandInvocation) throws IOException
+   {
+      try
+      {
+         return doExecute(commandInvocation);
+      }
+      finally
+      {
+         shell.commandExecuted();
+      }
+   }
+
+   @SuppressWarnings("unchecked")
+   private CommandResult doExecute(CommandInvocation commandInvocation)
    {
       Map<Object, Object> attributeMap = shellContext.getAttributeMap();
       attributeMap.put(CommandInvocation.class, commandInvocation);
@@ -20,14 +20,22 @@ import org.jboss.forge.addon.shell.ui.ShellContextImpl;
  */
 class ForgeCommandContainer implements CommandContainer
 {
-   private final ShellContextImpl context;
+   private final AutoCloseable closeable;
    private final CommandLineParser parser;
    private final Command<CommandInvocation> command;
 
    ForgeCommandContainer(ShellContextImpl context, CommandLineParser parser,
             Command<CommandInvocation> command)
    {
-      this.context = context;
+      this((AutoCloseable) context, parser, command);
+   }
+
+   /**
+    * @param closeable closed when this container is closed, instead of the context of the command
+    */
+   ForgeCommandContainer(AutoCloseable closeable, CommandLineParser parser, Command<CommandInvocation> command)
+   {
+      this.closeable = closeable;
       this.parser = parser;
       this.command = command;
    }
@@ -35,7 +43,7 @@ class ForgeCommandContainer implements CommandContainer
    @Override
    public void close() throws Exception
    {
-      context.close();
+      closeable.close();
    }
 
    @SuppressWarnings("rawtypes")
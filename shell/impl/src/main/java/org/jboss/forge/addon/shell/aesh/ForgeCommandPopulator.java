@@ -7,7 +7,9 @@
 
 package org.jboss.forge.addon.shell.aesh;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 
 import org.jboss.aesh.cl.CommandLine;
 import org.jboss.aesh.cl.exception.CommandLineParserException;
@@ -16,6 +18,8 @@ import org.jboss.aesh.cl.validator.OptionValidatorException;
 import org.jboss.aesh.console.AeshContext;
 import org.jboss.aesh.console.InvocationProviders;
 import org.jboss.forge.addon.ui.input.InputComponent;
+import org.jboss.forge.addon.ui.input.ManyValued;
+import org.jboss.forge.addon.ui.input.SingleValued;
 
 /**
  * Implementation of the {@link CommandPopulator} interface
@@ -26,6 +30,10 @@ public class ForgeCommandPopulator implements CommandPopulator<Object>
 {
    private final Map<String, InputComponent<?, ?>> inputs;
    private final CommandLineUtil commandLineUtil;
+   /**
+    * The values the inputs had before they were first populated, restored before populating them again
+    */
+   private Map<String, Object> initialValues;
 
    public ForgeCommandPopulator(CommandLineUtil commandLineUtil, Map<String, InputComponent<?, ?>> inputs)
    {
@@ -37,6 +45,38 @@ public class ForgeCommandPopulator implements CommandPopulator<Object>
    public void populateObject(Object instance, CommandLine line, InvocationProviders invocationProviders,
             AeshContext aeshContext, boolean validate) throws CommandLineParserException, OptionValidatorException
    {
+      if (initialValues == null)
+      {
+         initialValues = new HashMap<>();
+         for (Entry<String, InputComponent<?, ?>> entry : inputs.entrySet())
+         {
+            InputComponent<?, ?> input = entry.getValue();
+            initialValues.put(entry.getKey(), input.hasValue() ? input.getValue() : null);
+         }
+      }
+      else
+      {
+         // Options missing from this command line must not keep the values of a previous one
+         restoreInitialValues();
+      }
       commandLineUtil.populateUIInputs(line, inputs);
    }
+
+   @SuppressWarnings({ "unchecked", "rawtypes" })
+   private void restoreInitialValues()
+   {
+      for (Entry<String, InputComponent<?, ?>> entry : inputs.entrySet())
+      {
+         InputComponent<?, ?> input = entry.getValue();
+         Object initialValue = initialValues.get(entry.getKey());
+         if (input instanceof SingleValued)
+         {
+            ((SingleValued) input).setValue(initialValue);
+         }
+         else if (input instanceof ManyValued)
+         {
+            ((ManyValued) input).setValue((Iterable) initialValue);
+         }
+      }
+   }
 }
\ No newline at end of file
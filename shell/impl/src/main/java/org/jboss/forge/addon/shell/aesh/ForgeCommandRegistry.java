@@ -7,6 +7,9 @@
 
 package org.jboss.forge.addon.shell.aesh;
 
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -37,6 +40,13 @@ import org.jboss.forge.furnace.addons.AddonRegistry;
  *
  * It delegates to the Aesh commands if no command is found
  *
+ * Initialized single commands are kept with their {@link ShellContextImpl} and {@link CommandLineParser} between
+ * lookups, so completing the same command repeatedly does not create and initialize a new {@link CommandController}
+ * each time. The parser of a cached command restores its inputs before populating them from a new command line. A
+ * cached command is discarded once the shell revision changes (see {@link ShellImpl#getRevision()}) or addons are
+ * added or removed, and its context is closed when the last container using it is closed. Wizards build their UI from
+ * the values entered so far, and are never cached.
+ *
  * @author <a href="ggastald@redhat.com">George Gastaldi</a>
  * @author <a href="mailto:lincolnbaxter@gmail.com">Lincoln Baxter, III</a>
  */
@@ -49,10 +59,14 @@ public class ForgeCommandRegistry implements CommandRegistry
 
    private CommandLineUtil commandLineUtil;
    private final CommandControllerFactory commandControllerFactory;
+   private final AddonRegistry addonRegistry;
+
+   private final Map<String, CachedCommand> cachedCommands = new HashMap<>();
 
    public ForgeCommandRegistry(ShellImpl shell, AddonRegistry addonRegistry)
    {
       this.shell = shell;
+      this.addonRegistry = addonRegistry;
       this.commandFactory = addonRegistry.getServices(CommandFactory.class).get();
       this.commandControllerFactory = addonRegistry.getServices(CommandControllerFactory.class).get();
       this.converterFactory = addonRegistry.getServices(ConverterFactory.class).get();
@@ -71,6 +85,11 @@ public class ForgeCommandRegistry implements CommandRegistry
    @Override
    public CommandContainer getCommand(String name, String completeLine) throws CommandNotFoundException
    {
+      CommandContainer cachedContainer = getCachedContainer(name);
+      if (cachedContainer != null)
+      {
+         return cachedContainer;
+      }
       ShellContextImpl shellContext = shell.createUIContext();
       try
       {
@@ -107,8 +126,16 @@ public class ForgeCommandRegistry implements CommandRegistry
       }
       try
       {
+         int revision = shell.getRevision();
+         long registryVersion = addonRegistry.getVersion();
          CommandLineParser parser = cmd.getParser(shellContext, completeLine == null ? name : completeLine);
          CommandAdapter command = new CommandAdapter(shell, shellContext, cmd);
+         if (cmd instanceof ShellSingleCommand && parser instanceof ForgeCommandLineParser)
+         {
+            CachedCommand cached = new CachedCommand(name, shellContext, (ForgeCommandLineParser) parser, command,
+                     revision, registryVersion);
+            return putCachedCommand(name, cached);
+         }
          return new ForgeCommandContainer(shellContext, parser, command);
       }
       catch (RuntimeException e)
@@ -121,6 +148,48 @@ public class ForgeCommandRegistry implements CommandRegistry
       }
    }
 
+   /**
+    * @return a container of the cached command of the given name, or <code>null</code> if it is not cached
+    */
+   private CommandContainer getCachedContainer(String name)
+   {
+      synchronized (cachedCommands)
+      {
+         evictStaleCommands();
+         CachedCommand cached = cachedCommands.get(name);
+         return cached == null ? null : cached.newContainer();
+      }
+   }
+
+   /**
+    * Caches the given command, and returns a container of it
+    */
+   private CommandContainer putCachedCommand(String name, CachedCommand cached)
+   {
+      synchronized (cachedCommands)
+      {
+         CachedCommand previous = cachedCommands.put(name, cached);
+         if (previous != null)
+         {
+            previous.evicted();
+         }
+         return cached.newContainer();
+      }
+   }
+
+   private void evictStaleCommands()
+   {
+      for (Iterator<CachedCommand> it = cachedCommands.values().iterator(); it.hasNext();)
+      {
+         CachedCommand cached = it.next();
+         if (!cached.isValid())
+         {
+            it.remove();
+            cached.evicted();
+         }
+      }
+   }
+
    private AbstractShellInteraction findCommand(ShellContext shellContext, String commandName)
    {
       AbstractShellInteraction result = null;
@@ -172,4 +241,95 @@ public class ForgeCommandRegistry implements CommandRegistry
       }
    }
 
+   /**
+    * An initialized {@link ShellSingleCommand}, ready to be handed to Aesh again
+    */
+   private class CachedCommand
+   {
+      private final String name;
+      private final ShellContextImpl context;
+      private final ForgeCommandLineParser parser;
+      private final CommandAdapter command;
+      private final int revision;
+      private final long registryVersion;
+
+      private boolean evicted;
+      /**
+       * The number of containers of this command not closed yet
+       */
+      private int users;
+
+      CachedCommand(String name, ShellContextImpl context, ForgeCommandLineParser parser, CommandAdapter command,
+               int revision, long registryVersion)
+      {
+         this.name = name;
+         this.context = context;
+         this.parser = parser;
+         this.command = command;
+         this.revision = revision;
+         this.registryVersion = registryVersion;
+      }
+
+      boolean isValid()
+      {
+         return revision == shell.getRevision() && registryVersion == addonRegistry.getVersion();
+      }
+
+      /**
+       * Called with the cache lock held
+       */
+      ForgeCommandContainer newContainer()
+      {
+         users++;
+         return new ForgeCommandContainer(new AutoCloseable()
+         {
+            private boolean closed;
+
+            @Override
+            public void close()
+            {
+               synchronized (cachedCommands)
+               {
+                  if (!closed)
+                  {
+                     closed = true;
+                     released();
+                  }
+               }
+            }
+         }, parser, command);
+      }
+
+      /**
+       * Called with the cache lock held, when this command is no longer cached
+       */
+      void evicted()
+      {
+         evicted = true;
+         if (users == 0)
+         {
+            context.close();
+         }
+      }
+
+      /**
+       * Called with the cache lock held, when a container of this command is closed
+       */
+      private void released()
+      {
+         users--;
+         if (!evicted && !isValid())
+         {
+            if (cachedCommands.get(name) == this)
+            {
+               cachedCommands.remove(name);
+            }
+            evicted = true;
+         }
+         if (evicted && users == 0)
+         {
+            context.close();
+         }
+      }
+   }
 }
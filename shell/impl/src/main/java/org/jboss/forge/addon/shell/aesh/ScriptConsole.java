@@ -0,0 +1,224 @@
+/**
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.shell.aesh;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jboss.aesh.console.Prompt;
+import org.jboss.aesh.console.settings.Settings;
+import org.jboss.aesh.console.settings.SettingsBuilder;
+import org.jboss.forge.addon.resource.FileResource;
+import org.jboss.forge.addon.resource.Resource;
+import org.jboss.forge.addon.shell.Shell;
+import org.jboss.forge.addon.shell.ShellFactory;
+import org.jboss.forge.addon.shell.ShellImpl;
+import org.jboss.forge.addon.ui.command.AbstractCommandExecutionListener;
+import org.jboss.forge.addon.ui.command.CommandExecutionListener;
+import org.jboss.forge.addon.ui.command.UICommand;
+import org.jboss.forge.addon.ui.context.UIExecutionContext;
+import org.jboss.forge.addon.ui.result.Failed;
+import org.jboss.forge.addon.ui.result.Result;
+import org.jboss.forge.addon.ui.result.Results;
+import org.jboss.forge.furnace.spi.ListenerRegistration;
+import org.jboss.forge.furnace.util.OperatingSystemUtils;
+
+/**
+ * Runs the script lines a {@link ScriptExecutor} cannot run without a console (aesh commands such as man, grep, less
+ * and more, pipes and redirections) in a {@link Shell} reading its input from a pipe. The shell is created on first
+ * use, and writes to the given streams.
+ */
+class ScriptConsole implements AutoCloseable
+{
+   private static final Logger log = Logger.getLogger(ScriptConsole.class.getName());
+
+   private final ShellFactory shellFactory;
+   private final PrintStream out;
+   private final PrintStream err;
+   private Shell shell;
+   private Writer stdin;
+
+   ScriptConsole(ShellFactory shellFactory, PrintStream out, PrintStream err)
+   {
+      this.shellFactory = shellFactory;
+      this.out = out;
+      this.err = err;
+   }
+
+   /**
+    * Runs the given line from the given current resource, and waits until each of its commands is executed or one of
+    * them fails.
+    *
+    * @return the {@link Result} of the first failed command, or of the last executed command
+    */
+   Result execute(String commandLine, ScriptLine line, Resource<?> currentResource) throws IOException,
+            InterruptedException
+   {
+      Shell shell = getShell(currentResource);
+      if (shell instanceof ShellImpl)
+      {
+         Set<String> commandNames = ((ShellImpl) shell).getCommandNames();
+         for (String name : line.getCommandNames())
+         {
+            if (!commandNames.contains(name))
+            {
+               return Results.fail("No such command: " + name);
+            }
+         }
+      }
+      shell.setCurrentResource(currentResource);
+      LineListener listener = new LineListener(line.getCommandNames().size());
+      ListenerRegistration<CommandExecutionListener> registration = shell.addCommandExecutionListener(listener);
+      try
+      {
+         stdin.write(commandLine + OperatingSystemUtils.getLineSeparator());
+         stdin.flush();
+         return listener.await();
+      }
+      finally
+      {
+         registration.removeListener();
+      }
+   }
+
+   /**
+    * @return the current resource of the console, once the last line was executed
+    */
+   Resource<?> getCurrentResource()
+   {
+      return shell.getCurrentResource();
+   }
+
+   @Override
+   public void close()
+   {
+      if (shell != null)
+      {
+         try
+         {
+            stdin.close();
+         }
+         catch (IOException e)
+         {
+            log.log(Level.FINE, "Error while closing the script console input", e);
+         }
+         try
+         {
+            shell.close();
+         }
+         catch (Exception e)
+         {
+            log.log(Level.FINE, "Error while closing the script console", e);
+         }
+         shell = null;
+      }
+   }
+
+   private Shell getShell(Resource<?> currentResource) throws IOException
+   {
+      if (shell == null)
+      {
+         PipedOutputStream pipe = new PipedOutputStream();
+         Settings settings = new SettingsBuilder()
+                  .inputStream(new PipedInputStream(pipe))
+                  .outputStream(new UncloseablePrintStream(out))
+                  .outputStreamError(new UncloseablePrintStream(err))
+                  .create();
+         shell = shellFactory.createShell(getWorkingDir(currentResource), settings);
+         shell.getConsole().setPrompt(new Prompt(""));
+         stdin = new OutputStreamWriter(pipe);
+      }
+      return shell;
+   }
+
+   private static File getWorkingDir(Resource<?> resource)
+   {
+      Resource<?> temp = resource;
+      while (temp != null && !(temp instanceof FileResource))
+      {
+         temp = temp.getParent();
+      }
+      return temp == null ? OperatingSystemUtils.getWorkingDir() : ((FileResource<?>) temp)
+               .getUnderlyingResourceObject();
+   }
+
+   /**
+    * Counts down the executed commands of a line, and keeps the {@link Result} to report
+    */
+   private static class LineListener extends AbstractCommandExecutionListener
+   {
+      private final CountDownLatch pending;
+      private Result result;
+
+      LineListener(int commands)
+      {
+         this.pending = new CountDownLatch(commands);
+      }
+
+      @Override
+      public void postCommandExecuted(UICommand command, UIExecutionContext context, Result result)
+      {
+         executed(result);
+      }
+
+      @Override
+      public void postCommandFailure(UICommand command, UIExecutionContext context, Throwable failure)
+      {
+         executed(Results.fail("Error encountered during command execution.", failure));
+      }
+
+      private synchronized void executed(Result result)
+      {
+         if (!(this.result instanceof Failed))
+         {
+            this.result = result;
+         }
+         pending.countDown();
+         if (result instanceof Failed)
+         {
+            // The remaining commands of the line may not run
+            while (pending.getCount() > 0)
+            {
+               pending.countDown();
+            }
+         }
+      }
+
+      Result await() throws InterruptedException
+      {
+         pending.await();
+         synchronized (this)
+         {
+            return result;
+         }
+      }
+   }
+
+   private static class UncloseablePrintStream extends PrintStream
+   {
+      public UncloseablePrintStream(PrintStream stream)
+      {
+         super(stream, true);
+      }
+
+      @Override
+      public void close()
+      {
+         // Uncloseable
+      }
+   }
+}
@@ -0,0 +1,265 @@
+/**
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.shell.aesh;
+
+import java.io.PrintStream;
+import java.util.Collections;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jboss.aesh.cl.CommandLine;
+import org.jboss.aesh.cl.parser.CommandLineParser;
+import org.jboss.forge.addon.convert.ConverterFactory;
+import org.jboss.forge.addon.resource.Resource;
+import org.jboss.forge.addon.shell.ScriptShell;
+import org.jboss.forge.addon.shell.ShellFactory;
+import org.jboss.forge.addon.shell.ShellMessages;
+import org.jboss.forge.addon.shell.ui.NonInteractiveUIPrompt;
+import org.jboss.forge.addon.shell.ui.ShellContextImpl;
+import org.jboss.forge.addon.ui.UIRuntime;
+import org.jboss.forge.addon.ui.command.CommandFactory;
+import org.jboss.forge.addon.ui.command.UICommand;
+import org.jboss.forge.addon.ui.context.UIContext;
+import org.jboss.forge.addon.ui.controller.CommandController;
+import org.jboss.forge.addon.ui.controller.CommandControllerFactory;
+import org.jboss.forge.addon.ui.controller.WizardCommandController;
+import org.jboss.forge.addon.ui.input.UIPrompt;
+import org.jboss.forge.addon.ui.output.UIMessage;
+import org.jboss.forge.addon.ui.output.UIMessage.Severity;
+import org.jboss.forge.addon.ui.progress.UIProgressMonitor;
+import org.jboss.forge.addon.ui.result.CompositeResult;
+import org.jboss.forge.addon.ui.result.Failed;
+import org.jboss.forge.addon.ui.result.Result;
+import org.jboss.forge.addon.ui.result.Results;
+import org.jboss.forge.addon.ui.util.Commands;
+import org.jboss.forge.furnace.util.Strings;
+
+/**
+ * Executes script lines directly through {@link CommandController} instances, without a console. Each line is parsed
+ * with the same {@link CommandLineParser} the shell uses, and its {@link Result} is returned once the command
+ * finishes. Lines that need a console, because they run aesh commands (eg. man, grep, less, more) or commands disabled
+ * without one (eg. ls, clear), pipe commands or redirect their input or output, run in a {@link ScriptConsole} created
+ * on first use and closed by {@link #close()}.
+ *
+ * Commands run non-interactively. The current resource of the script starts at the given initial resource and follows
+ * the selection of each executed command, without changing the current resource of the {@link ScriptShell}.
+ */
+public class ScriptExecutor implements AutoCloseable
+{
+   private static final Logger log = Logger.getLogger(ScriptExecutor.class.getName());
+
+   private final ScriptShell shell;
+   private final CommandFactory commandFactory;
+   private final CommandControllerFactory controllerFactory;
+   private final CommandLineUtil commandLineUtil;
+   private final ShellFactory shellFactory;
+   private final UIRuntime runtime;
+   private ScriptConsole console;
+   private Resource<?> currentResource;
+   private Map<String, String> variables = Collections.emptyMap();
+
+   public ScriptExecutor(final ScriptShell shell, ShellFactory shellFactory, CommandFactory commandFactory,
+            CommandControllerFactory controllerFactory, ConverterFactory converterFactory, Resource<?> initialResource)
+   {
+      this.shell = shell;
+      this.shellFactory = shellFactory;
+      this.commandFactory = commandFactory;
+      this.controllerFactory = controllerFactory;
+      this.commandLineUtil = new CommandLineUtil(converterFactory);
+      this.currentResource = initialResource;
+      this.runtime = new UIRuntime()
+      {
+         @Override
+         public UIProgressMonitor createProgressMonitor(UIContext context)
+         {
+            return shell.createProgressMonitor(context);
+         }
+
+         @Override
+         public UIPrompt createPrompt(UIContext context)
+         {
+            return new NonInteractiveUIPrompt();
+         }
+      };
+   }
+
+   /**
+    * Executes the given script line.
+    *
+    * @return the {@link Result} of the executed command, or <code>null</code> if the line is blank
+    */
+   public Result execute(String line)
+   {
+      String commandLine = line == null ? "" : line.trim();
+      if (commandLine.isEmpty())
+      {
+         return null;
+      }
+      ScriptLine scriptLine = ScriptLine.parse(commandLine);
+      if (scriptLine.hasControlOperators())
+      {
+         return executeInConsole(commandLine, scriptLine);
+      }
+      String name = scriptLine.getCommandNames().get(0);
+
+      ShellContextImpl context = shell.createUIContext(currentResource);
+      context.getAttributeMap().putAll(variables);
+      context.getAttributeMap().put("INTERACTIVE", Boolean.FALSE.toString());
+      UICommand command = commandFactory.getCommandByName(context, name);
+      if (command == null || !Commands.isEnabled(command, context))
+      {
+         context.close();
+         return executeInConsole(commandLine, scriptLine);
+      }
+
+      try (CommandController controller = controllerFactory.createController(context, runtime, command))
+      {
+         AbstractShellInteraction interaction;
+         if (controller instanceof WizardCommandController)
+         {
+            interaction = new ShellWizard((WizardCommandController) controller, context, commandLineUtil);
+         }
+         else
+         {
+            interaction = new ShellSingleCommand(controller, context, commandLineUtil);
+         }
+         CommandLineParser parser = interaction.getParser(context, commandLine);
+         CommandLine parsedLine = parser.parse(commandLine, false);
+         if (parsedLine.hasParserError())
+         {
+            return Results.fail(name + ": " + parsedLine.getParserException().getMessage());
+         }
+         parser.getCommandPopulator().populateObject(null, parsedLine, null, null, false);
+         return execute(interaction, context);
+      }
+      catch (Exception e)
+      {
+         log.log(Level.SEVERE, "Failed to execute [" + commandLine + "] due to exception.", e);
+         return Results.fail(e.getMessage(), e);
+      }
+   }
+
+   private Result execute(AbstractShellInteraction interaction, ShellContextImpl context) throws Exception
+   {
+      CommandController controller = interaction.getController();
+      if (!controller.isValid())
+      {
+         StringBuilder errors = new StringBuilder();
+         for (UIMessage message : controller.validate())
+         {
+            if (message.getSeverity() == Severity.ERROR)
+            {
+               if (errors.length() > 0)
+                  errors.append(", ");
+               errors.append(message.getDescription());
+            }
+         }
+         return Results.fail(interaction.getName() + ": " + errors);
+      }
+      Result result = controller.execute();
+      Object selection = context.getSelection();
+      if (selection instanceof Iterable<?>)
+      {
+         for (Object item : (Iterable<?>) selection)
+         {
+            if (item instanceof Resource)
+            {
+               currentResource = (Resource<?>) item;
+               break;
+            }
+         }
+      }
+      else if (selection instanceof Resource)
+      {
+         currentResource = (Resource<?>) selection;
+      }
+      return result;
+   }
+
+   private Result executeInConsole(String commandLine, ScriptLine scriptLine)
+   {
+      if (console == null)
+      {
+         console = new ScriptConsole(shellFactory, shell.getOutput().out(), shell.getOutput().err());
+      }
+      try
+      {
+         Result result = console.execute(commandLine, scriptLine, currentResource);
+         currentResource = console.getCurrentResource();
+         return result;
+      }
+      catch (InterruptedException e)
+      {
+         Thread.currentThread().interrupt();
+         return Results.fail("Interrupted while executing [" + commandLine + "]");
+      }
+      catch (Exception e)
+      {
+         log.log(Level.SEVERE, "Failed to execute [" + commandLine + "] due to exception.", e);
+         return Results.fail(e.getMessage(), e);
+      }
+   }
+
+   /**
+    * Closes the console used by the lines that need one
+    */
+   @Override
+   public void close()
+   {
+      if (console != null)
+      {
+         console.close();
+         console = null;
+      }
+   }
+
+   /**
+    * Sets the variables available to the executed commands, in addition to the variables exported in the shell
+    */
+   public void setVariables(Map<String, String> variables)
+   {
+      this.variables = variables == null ? Collections.<String, String> emptyMap() : variables;
+   }
+
+   /**
+    * @return the current resource of the script
+    */
+   public Resource<?> getCurrentResource()
+   {
+      return currentResource;
+   }
+
+   /**
+    * Displays the given {@link Result} the way the shell does
+    * 
+    * @return <code>true</code> if the result is a failure
+    */
+   public static boolean display(PrintStream out, PrintStream err, Result result)
+   {
+      boolean failure = false;
+      if (result instanceof CompositeResult)
+      {
+         for (Result thisResult : ((CompositeResult) result).getResults())
+         {
+            failure |= display(out, err, thisResult);
+         }
+      }
+      else if (result instanceof Failed)
+      {
+         if (!Strings.isNullOrEmpty(result.getMessage()))
+            ShellMessages.error(err, result.getMessage());
+         failure = true;
+      }
+      else if (result != null && !Strings.isNullOrEmpty(result.getMessage()))
+      {
+         ShellMessages.success(out, result.getMessage());
+      }
+      return failure;
+   }
+}
@@ -0,0 +1,101 @@
+/**
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.shell.aesh;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The commands of a script line, split on the control operators the aesh console handles: pipes (<code>|</code>),
+ * command lists (<code>;</code>, <code>&amp;&amp;</code>, <code>||</code>, <code>&amp;</code>) and redirections (
+ * <code>&gt;</code>, <code>&gt;&gt;</code>, <code>&lt;</code>). Quoted and escaped characters are not operators.
+ */
+final class ScriptLine
+{
+   private final List<String> commandNames;
+   private final boolean redirected;
+
+   private ScriptLine(List<String> commandNames, boolean redirected)
+   {
+      this.commandNames = Collections.unmodifiableList(commandNames);
+      this.redirected = redirected;
+   }
+
+   static ScriptLine parse(String line)
+   {
+      List<String> commandNames = new ArrayList<>();
+      boolean redirected = false;
+      StringBuilder command = new StringBuilder();
+      char quote = 0;
+      for (int i = 0; i < line.length(); i++)
+      {
+         char c = line.charAt(i);
+         if (c == '\\' && i + 1 < line.length())
+         {
+            command.append(c).append(line.charAt(++i));
+         }
+         else if (quote != 0)
+         {
+            if (c == quote)
+               quote = 0;
+            command.append(c);
+         }
+         else if (c == '"' || c == '\'')
+         {
+            quote = c;
+            command.append(c);
+         }
+         else if (c == '|' || c == '&' || c == ';')
+         {
+            if ((c == '|' || c == '&') && i + 1 < line.length() && line.charAt(i + 1) == c)
+               i++;
+            addCommandName(commandNames, command);
+            command.setLength(0);
+         }
+         else if (c == '>' || c == '<')
+         {
+            redirected = true;
+            if (i + 1 < line.length() && line.charAt(i + 1) == '&')
+               i++;
+            command.append(' ');
+         }
+         else
+         {
+            command.append(c);
+         }
+      }
+      addCommandName(commandNames, command);
+      return new ScriptLine(commandNames, redirected);
+   }
+
+   private static void addCommandName(List<String> commandNames, StringBuilder command)
+   {
+      String trimmed = command.toString().trim();
+      if (!trimmed.isEmpty())
+      {
+         commandNames.add(trimmed.split("\\s+", 2)[0]);
+      }
+   }
+
+   /**
+    * @return the name of each command of this line, in order
+    */
+   List<String> getCommandNames()
+   {
+      return commandNames;
+   }
+
+   /**
+    * @return <code>true</code> if this line runs more than one command, or redirects the input or output of its command
+    */
+   boolean hasControlOperators()
+   {
+      return redirected || commandNames.size() > 1;
+   }
+}
@@ -27,6 +27,12 @@ public class ShellWizard extends AbstractShellInteraction
 {
    public ShellWizard(WizardCommandController wizardCommandController, ShellContext shellContext,
             CommandLineUtil commandLineUtil, ForgeCommandRegistry forgeCommandRegistry)
+   {
+      this(wizardCommandController, shellContext, commandLineUtil);
+   }
+
+   public ShellWizard(WizardCommandController wizardCommandController, ShellContext shellContext,
+            CommandLineUtil commandLineUtil)
    {
       super(wizardCommandController, shellContext, commandLineUtil);
    }
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.shell.aesh.completion;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jboss.forge.addon.shell.ui.ShellContext;
+import org.jboss.forge.addon.ui.input.InputComponent;
+import org.jboss.forge.addon.ui.input.UIAsyncCompleter;
+import org.jboss.forge.addon.ui.input.UICompletionRequest;
+import org.jboss.forge.addon.ui.util.DaemonExecutors;
+
+/**
+ * Runs {@link UIAsyncCompleter} instances off the aesh input thread, returning the proposals published within the
+ * completion time budget. A request still running when its budget elapses is cancelled and its thread interrupted.
+ * 
+ * The time budget defaults to {@value #DEFAULT_BUDGET_MILLIS}ms, and may be changed with the
+ * {@value #BUDGET_PROPERTY} system property. A budget of 0 or less completes synchronously on the calling thread.
+ * 
+ * The completion threads are created on first use, and are shut down by {@link #shutdown()} when the shell addon
+ * stops.
+ */
+public final class AsyncCompletions
+{
+   static final String BUDGET_PROPERTY = "org.jboss.forge.addon.shell.completionBudget";
+   static final long DEFAULT_BUDGET_MILLIS = 500;
+
+   private static final Logger log = Logger.getLogger(AsyncCompletions.class.getName());
+
+   private static ExecutorService executor;
+
+   private AsyncCompletions()
+   {
+   }
+
+   static <VALUETYPE> List<VALUETYPE> complete(ShellContext context, InputComponent<?, VALUETYPE> input,
+            String value, UIAsyncCompleter<VALUETYPE> completer)
+   {
+      return complete(context, input, value, completer, Long.getLong(BUDGET_PROPERTY, DEFAULT_BUDGET_MILLIS));
+   }
+
+   static <VALUETYPE> List<VALUETYPE> complete(final ShellContext context, final InputComponent<?, VALUETYPE> input,
+            final String value, final UIAsyncCompleter<VALUETYPE> completer, long budget)
+   {
+      if (budget <= 0)
+      {
+         return completeSynchronously(context, input, value, completer);
+      }
+      final UICompletionRequest<VALUETYPE> request = new UICompletionRequest<>(budget, TimeUnit.MILLISECONDS);
+      Future<?> future;
+      try
+      {
+         future = getExecutor().submit(new Runnable()
+         {
+            @Override
+            public void run()
+            {
+               completer.computeCompletionProposals(context, input, value, request);
+            }
+         });
+      }
+      catch (RejectedExecutionException e)
+      {
+         // The shell addon is stopping
+         return completeSynchronously(context, input, value, completer);
+      }
+      try
+      {
+         future.get(request.getRemainingTime(TimeUnit.MILLISECONDS), TimeUnit.MILLISECONDS);
+      }
+      catch (TimeoutException e)
+      {
+         log.log(Level.FINE, "Completion time budget elapsed for input [" + input.getName()
+                  + "], displaying partial results");
+         request.cancel();
+         future.cancel(true);
+      }
+      catch (InterruptedException e)
+      {
+         request.cancel();
+         future.cancel(true);
+         Thread.currentThread().interrupt();
+      }
+      catch (ExecutionException e)
+      {
+         log.log(Level.WARNING, "Error while computing completion proposals for input [" + input.getName() + "]",
+                  e.getCause());
+      }
+      return request.getProposals();
+   }
+
+   /**
+    * Shuts down the completion threads, interrupting the running completions. A later completion starts new threads.
+    */
+   public static synchronized void shutdown()
+   {
+      if (executor != null)
+      {
+         executor.shutdownNow();
+         executor = null;
+      }
+   }
+
+   private static synchronized ExecutorService getExecutor()
+   {
+      if (executor == null)
+      {
+         executor = DaemonExecutors.newCachedThreadPool("Forge Shell Completion");
+      }
+      return executor;
+   }
+
+   private static <VALUETYPE> List<VALUETYPE> completeSynchronously(ShellContext context,
+            InputComponent<?, VALUETYPE> input, String value, UIAsyncCompleter<VALUETYPE> completer)
+   {
+      UICompletionRequest<VALUETYPE> request = new UICompletionRequest<>();
+      completer.computeCompletionProposals(context, input, value, request);
+      return request.getProposals();
+   }
+}
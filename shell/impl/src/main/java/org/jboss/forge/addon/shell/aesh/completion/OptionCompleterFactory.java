@@ -46,7 +46,8 @@ public class OptionCompleterFactory
       }
       else if (component instanceof SelectComponent)
       {
-         strategy = new SelectComponentOptionCompleter((SelectComponent<?, Object>) component, converterFactory);
+         strategy = new SelectComponentOptionCompleter((SelectComponent<?, Object>) component, context,
+                  converterFactory);
       }
       else if (Resource.class.isAssignableFrom(component.getValueType()))
       {
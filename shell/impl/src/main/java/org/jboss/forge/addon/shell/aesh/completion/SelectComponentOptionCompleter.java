@@ -15,10 +15,13 @@ import org.jboss.aesh.cl.completer.OptionCompleter;
 import org.jboss.aesh.console.command.completer.CompleterInvocation;
 import org.jboss.forge.addon.convert.Converter;
 import org.jboss.forge.addon.convert.ConverterFactory;
+import org.jboss.forge.addon.shell.ui.ShellContext;
 import org.jboss.forge.addon.ui.input.ManyValued;
 import org.jboss.forge.addon.ui.input.SelectComponent;
 import org.jboss.forge.addon.ui.input.UISelectMany;
 import org.jboss.forge.addon.ui.input.UISelectOne;
+import org.jboss.forge.addon.ui.input.ValueChoicesProvider;
+import org.jboss.forge.addon.ui.input.ValueChoicesQuery;
 import org.jboss.forge.addon.ui.util.InputComponents;
 
 /**
@@ -28,14 +31,21 @@ import org.jboss.forge.addon.ui.util.InputComponents;
  */
 class SelectComponentOptionCompleter implements OptionCompleter<CompleterInvocation>
 {
+   /**
+    * Maximum number of value choices proposed per completion. The user is told when more choices match.
+    */
+   static final int MAX_PROPOSALS = 500;
+
    private final SelectComponent<?, Object> selectComponent;
+   private final ShellContext context;
    private final ConverterFactory converterFactory;
 
-   public SelectComponentOptionCompleter(SelectComponent<?, Object> selectComponent,
+   public SelectComponentOptionCompleter(SelectComponent<?, Object> selectComponent, ShellContext context,
             ConverterFactory converterFactory)
    {
       super();
       this.selectComponent = selectComponent;
+      this.context = context;
       this.converterFactory = converterFactory;
    }
    
@@ -46,17 +56,8 @@ class SelectComponentOptionCompleter implements OptionCompleter<CompleterInvocat
       final String completeValue = completerData.getGivenCompleteValue();
       Converter<Object, String> itemLabelConverter = (Converter<Object, String>) InputComponents
                .getItemLabelConverter(converterFactory, selectComponent);
-      Iterable<Object> valueChoices = selectComponent.getValueChoices();
-      List<String> choices = new ArrayList<String>();
-      for (Object choice : valueChoices)
-      {
-         String convert = itemLabelConverter.convert(choice);
-         if (convert != null && (completeValue == null || convert.startsWith(completeValue)))
-         {
-            choices.add(convert);
-         }
-      }
-      // Remove already set values in many valued components
+      // Values already set in many valued components are not proposed again
+      List<String> valueLabels = new ArrayList<String>();
       if (selectComponent instanceof ManyValued)
       {
          Object value = InputComponents.getValueFor(selectComponent);
@@ -68,17 +69,37 @@ class SelectComponentOptionCompleter implements OptionCompleter<CompleterInvocat
                while (it.hasNext())
                {
                   Object next = it.next();
-                  String convert = itemLabelConverter.convert(next);
-                  choices.remove(convert);
+                  valueLabels.add(itemLabelConverter.convert(next));
                }
             }
             else
             {
-               String convert = itemLabelConverter.convert(value);
-               choices.remove(convert);
+               valueLabels.add(itemLabelConverter.convert(value));
             }
          }
       }
+      ValueChoicesProvider<Object> provider = InputComponents.getValueChoicesProvider(converterFactory,
+               selectComponent);
+      // One more choice than proposed is fetched to know whether the proposals are truncated
+      Iterable<Object> valueChoices = provider.getValueChoices(ValueChoicesQuery.startingWith(completeValue, 0,
+               MAX_PROPOSALS + valueLabels.size() + 1));
+      List<String> choices = new ArrayList<String>();
+      for (Object choice : valueChoices)
+      {
+         String convert = itemLabelConverter.convert(choice);
+         if (convert != null && (completeValue == null || convert.startsWith(completeValue)))
+         {
+            choices.add(convert);
+         }
+      }
+      choices.removeAll(valueLabels);
+      if (choices.size() > MAX_PROPOSALS)
+      {
+         choices = choices.subList(0, MAX_PROPOSALS);
+         context.getProvider().getOutput().err().println();
+         context.getProvider().getOutput().err().println("Only the first " + MAX_PROPOSALS
+                  + " matching values are proposed. Type more characters to narrow the list.");
+      }
       completerData.addAllCompleterValues(choices);
    }
 }
@@ -13,6 +13,7 @@ import org.jboss.forge.addon.shell.ui.ShellContext;
 import org.jboss.forge.addon.ui.input.InputComponent;
 import org.jboss.forge.addon.ui.input.ManyValued;
 import org.jboss.forge.addon.ui.input.SelectComponent;
+import org.jboss.forge.addon.ui.input.UIAsyncCompleter;
 import org.jboss.forge.addon.ui.input.UICompleter;
 import org.jboss.forge.addon.ui.util.InputComponents;
 
@@ -56,8 +57,18 @@ class UICompleterOptionCompleter implements OptionCompleter<CompleterInvocation>
          {
             converter = converterFactory.getConverter(input.getValueType(), String.class);
          }
+         final Iterable<Object> proposals;
+         if (completer instanceof UIAsyncCompleter)
+         {
+            proposals = AsyncCompletions.complete(context, input, completeValue,
+                     (UIAsyncCompleter<Object>) completer);
+         }
+         else
+         {
+            proposals = completer.getCompletionProposals(context, input, completeValue);
+         }
          List<String> choices = new ArrayList<>();
-         for (Object proposal : completer.getCompletionProposals(context, input, completeValue))
+         for (Object proposal : proposals)
          {
             if (proposal != null)
             {
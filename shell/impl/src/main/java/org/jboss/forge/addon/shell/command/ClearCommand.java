@@ -8,6 +8,8 @@ package org.jboss.forge.addon.shell.command;
 
 import org.jboss.forge.addon.shell.Shell;
 import org.jboss.forge.addon.shell.ui.AbstractShellCommand;
+import org.jboss.forge.addon.shell.ui.ShellContext;
+import org.jboss.forge.addon.shell.util.ShellUtil;
 import org.jboss.forge.addon.ui.context.UIBuilder;
 import org.jboss.forge.addon.ui.context.UIContext;
 import org.jboss.forge.addon.ui.context.UIExecutionContext;
@@ -41,4 +43,9 @@ public class ClearCommand extends AbstractShellCommand
       return Results.success();
    }
 
+   @Override
+   public boolean isEnabled(ShellContext context)
+   {
+      return super.isEnabled(context) && ShellUtil.hasConsole(context.getProvider());
+   }
 }
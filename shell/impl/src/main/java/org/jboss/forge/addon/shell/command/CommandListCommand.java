@@ -21,7 +21,9 @@ import org.jboss.aesh.terminal.TerminalSize;
 import org.jboss.aesh.terminal.TerminalString;
 import org.jboss.forge.addon.shell.Shell;
 import org.jboss.forge.addon.shell.ui.AbstractShellCommand;
+import org.jboss.forge.addon.shell.ui.ShellContext;
 import org.jboss.forge.addon.shell.util.CommandControllerComparator;
+import org.jboss.forge.addon.shell.util.ShellUtil;
 import org.jboss.forge.addon.ui.UIRuntime;
 import org.jboss.forge.addon.ui.command.CommandFactory;
 import org.jboss.forge.addon.ui.command.UICommand;
@@ -113,4 +115,10 @@ public class CommandListCommand extends AbstractShellCommand
          }
       }, command);
    }
+
+   @Override
+   public boolean isEnabled(ShellContext context)
+   {
+      return super.isEnabled(context) && ShellUtil.hasConsole(context.getProvider());
+   }
 }
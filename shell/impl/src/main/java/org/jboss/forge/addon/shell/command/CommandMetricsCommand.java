@@ -0,0 +1,108 @@
+/**
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.shell.command;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+
+import org.jboss.forge.addon.ui.annotation.Command;
+import org.jboss.forge.addon.ui.annotation.Option;
+import org.jboss.forge.addon.ui.annotation.predicate.NonGUIEnabledPredicate;
+import org.jboss.forge.addon.ui.metrics.CommandCounters;
+import org.jboss.forge.addon.ui.metrics.CommandMetrics;
+import org.jboss.forge.addon.ui.metrics.CommandPhase;
+import org.jboss.forge.addon.ui.metrics.CommandStatistics;
+import org.jboss.forge.addon.ui.output.UIOutput;
+
+/**
+ * Displays the {@link CommandMetrics} gathered in this session
+ */
+public class CommandMetricsCommand
+{
+   @Inject
+   CommandMetrics metrics;
+
+   @Command(value = "command-metrics", help = "Displays the slowest commands and command phases run in this session.", enabled = NonGUIEnabledPredicate.class)
+   public void showMetrics(@Option(value = "limit", defaultValue = "10") Integer limit, final UIOutput output)
+   {
+      int max = (limit == null || limit < 1) ? 10 : limit;
+      PrintStream out = output.out();
+      List<CommandStatistics> slowest = metrics.getSlowestCommands(max);
+      if (slowest.isEmpty())
+      {
+         out.println("No commands measured yet.");
+         return;
+      }
+
+      out.println("Slowest commands:");
+      for (CommandStatistics statistics : slowest)
+      {
+         out.println(String.format("  %-40s %8d ms  %s=%d %s=%d", statistics.getCommandName(),
+                  statistics.getTotalTime(TimeUnit.MILLISECONDS),
+                  CommandCounters.FACET_LOOKUPS, statistics.getCount(CommandCounters.FACET_LOOKUPS),
+                  CommandCounters.PROJECT_LOOKUPS, statistics.getCount(CommandCounters.PROJECT_LOOKUPS)));
+      }
+
+      List<PhaseEntry> phases = new ArrayList<>();
+      for (CommandStatistics statistics : metrics.getStatistics())
+      {
+         for (CommandPhase phase : CommandPhase.values())
+         {
+            if (statistics.getInvocations(phase) > 0)
+            {
+               phases.add(new PhaseEntry(statistics, phase));
+            }
+         }
+      }
+      Collections.sort(phases, new Comparator<PhaseEntry>()
+      {
+         @Override
+         public int compare(PhaseEntry left, PhaseEntry right)
+         {
+            long leftTime = left.statistics.getMaxTime(left.phase, TimeUnit.NANOSECONDS);
+            long rightTime = right.statistics.getMaxTime(right.phase, TimeUnit.NANOSECONDS);
+            return leftTime < rightTime ? 1 : (leftTime == rightTime ? 0 : -1);
+         }
+      });
+
+      out.println();
+      out.println("Slowest phases (max / total / invocations):");
+      for (PhaseEntry entry : phases.subList(0, Math.min(max, phases.size())))
+      {
+         CommandStatistics statistics = entry.statistics;
+         out.println(String.format("  %-40s %-14s %8d ms %8d ms %6d", statistics.getCommandName(), entry.phase,
+                  statistics.getMaxTime(entry.phase, TimeUnit.MILLISECONDS),
+                  statistics.getTotalTime(entry.phase, TimeUnit.MILLISECONDS),
+                  statistics.getInvocations(entry.phase)));
+      }
+   }
+
+   @Command(value = "command-metrics-reset", help = "Discards the command metrics gathered in this session.", enabled = NonGUIEnabledPredicate.class)
+   public void resetMetrics()
+   {
+      metrics.reset();
+   }
+
+   private static class PhaseEntry
+   {
+      private final CommandStatistics statistics;
+      private final CommandPhase phase;
+
+      PhaseEntry(CommandStatistics statistics, CommandPhase phase)
+      {
+         this.statistics = statistics;
+         this.phase = phase;
+      }
+   }
+}
@@ -15,6 +15,7 @@ import org.jboss.forge.addon.resource.ResourceFactory;
 import org.jboss.forge.addon.resource.util.ResourcePathResolver;
 import org.jboss.forge.addon.shell.Shell;
 import org.jboss.forge.addon.shell.ui.AbstractShellCommand;
+import org.jboss.forge.addon.shell.ui.ShellContext;
 import org.jboss.forge.addon.shell.util.ShellUtil;
 import org.jboss.forge.addon.ui.context.UIBuilder;
 import org.jboss.forge.addon.ui.context.UIContext;
@@ -123,4 +124,10 @@ public class LsCommand extends AbstractShellCommand
       }
       return Parser.formatDisplayList(display, terminalSize.getHeight(), terminalSize.getWidth());
    }
+
+   @Override
+   public boolean isEnabled(ShellContext context)
+   {
+      return super.isEnabled(context) && ShellUtil.hasConsole(context.getProvider());
+   }
 }
@@ -8,50 +8,42 @@
 package org.jboss.forge.addon.shell.command;
 
 import java.io.BufferedReader;
-import java.io.BufferedWriter;
-import java.io.IOException;
 import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
-import java.io.PipedInputStream;
-import java.io.PipedOutputStream;
 import java.io.PrintStream;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import javax.inject.Inject;
 
-import org.jboss.aesh.console.Prompt;
-import org.jboss.aesh.console.settings.Settings;
-import org.jboss.aesh.console.settings.SettingsBuilder;
+import org.jboss.forge.addon.convert.ConverterFactory;
 import org.jboss.forge.addon.resource.DirectoryResource;
-import org.jboss.forge.addon.resource.FileResource;
 import org.jboss.forge.addon.resource.Resource;
 import org.jboss.forge.addon.resource.ResourceFactory;
 import org.jboss.forge.addon.resource.util.ResourcePathResolver;
-import org.jboss.forge.addon.shell.Shell;
+import org.jboss.forge.addon.shell.ScriptShell;
 import org.jboss.forge.addon.shell.ShellFactory;
+import org.jboss.forge.addon.shell.aesh.ScriptExecutor;
 import org.jboss.forge.addon.shell.ui.AbstractShellCommand;
 import org.jboss.forge.addon.shell.ui.ShellContext;
-import org.jboss.forge.addon.ui.command.AbstractCommandExecutionListener;
-import org.jboss.forge.addon.ui.command.CommandExecutionListener;
-import org.jboss.forge.addon.ui.command.UICommand;
+import org.jboss.forge.addon.ui.command.CommandFactory;
 import org.jboss.forge.addon.ui.context.UIBuilder;
 import org.jboss.forge.addon.ui.context.UIContext;
 import org.jboss.forge.addon.ui.context.UIExecutionContext;
+import org.jboss.forge.addon.ui.controller.CommandControllerFactory;
 import org.jboss.forge.addon.ui.hints.InputType;
 import org.jboss.forge.addon.ui.input.UIInput;
 import org.jboss.forge.addon.ui.input.UIInputMany;
 import org.jboss.forge.addon.ui.metadata.UICommandMetadata;
 import org.jboss.forge.addon.ui.metadata.WithAttributes;
-import org.jboss.forge.addon.ui.result.Failed;
 import org.jboss.forge.addon.ui.result.Result;
 import org.jboss.forge.addon.ui.result.Results;
+import org.jboss.forge.addon.ui.util.DaemonExecutors;
 import org.jboss.forge.addon.ui.util.Metadata;
-import org.jboss.forge.furnace.exception.ContainerException;
-import org.jboss.forge.furnace.spi.ListenerRegistration;
-import org.jboss.forge.furnace.util.Assert;
-import org.jboss.forge.furnace.util.OperatingSystemUtils;
 
 /**
  * Implementation of the "run script" command
@@ -75,6 +67,15 @@ public class RunCommand extends AbstractShellCommand
    @Inject
    private ShellFactory shellFactory;
 
+   @Inject
+   private CommandFactory commandFactory;
+
+   @Inject
+   private CommandControllerFactory controllerFactory;
+
+   @Inject
+   private ConverterFactory converterFactory;
+
    @Override
    public UICommandMetadata getMetadata(UIContext context)
    {
@@ -92,171 +93,109 @@ public class RunCommand extends AbstractShellCommand
    public Result execute(UIExecutionContext context) throws Exception
    {
       Result result = Results.fail("Error executing script.");
-      Resource<?> currentResource = (Resource<?>) context.getUIContext().getInitialSelection().get();
-
-      ALL: for (String path : arguments.getValue())
+      UIContext uiContext = context.getUIContext();
+      if (!(uiContext.getProvider() instanceof ScriptShell))
+      {
+         return Results.fail("Scripts can only be run from the Forge shell.");
+      }
+      ScriptShell shell = (ScriptShell) uiContext.getProvider();
+      Resource<?> currentResource = (Resource<?>) uiContext.getInitialSelection().get();
+      PrintStream out = shell.getOutput().out();
+      PrintStream err = shell.getOutput().err();
+      Integer timeoutValue = timeout.getValue();
+      long timeoutMillis = timeoutValue == null ? Long.MAX_VALUE : TimeUnit.MILLISECONDS.convert(timeoutValue,
+               TimeUnit.SECONDS);
+
+      ExecutorService lineExecutor = DaemonExecutors.newFixedThreadPool("Forge Script", 1);
+      try
       {
-         List<Resource<?>> resources = new ResourcePathResolver(resourceFactory, currentResource, path).resolve();
-         for (Resource<?> resource : resources)
+         ALL: for (String path : arguments.getValue())
          {
-            if (resource.exists())
+            List<Resource<?>> resources = new ResourcePathResolver(resourceFactory, currentResource, path).resolve();
+            for (Resource<?> resource : resources)
             {
-               final PipedOutputStream stdin = new PipedOutputStream();
-               BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(stdin));
-
-               PrintStream stdout = new UncloseablePrintStream(context.getUIContext().getProvider().getOutput().out());
-               PrintStream stderr = new UncloseablePrintStream(context.getUIContext().getProvider().getOutput().err());
-
-               Settings settings = new SettingsBuilder()
-                        .inputStream(new PipedInputStream(stdin))
-                        .outputStream(stdout)
-                        .outputStreamError(stderr)
-                        .create();
-
-               Shell scriptShell = shellFactory.createShell(((FileResource<?>) context.getUIContext()
-                        .getInitialSelection().get()).getUnderlyingResourceObject(), settings);
-               
-               scriptShell.getConsole().setPrompt(new Prompt(""));
-
-               try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getResourceInputStream())))
+               if (resource.exists())
                {
-                  long startTime = System.currentTimeMillis();
-                  while (reader.ready())
+                  try (ScriptExecutor executor = new ScriptExecutor(shell, shellFactory, commandFactory,
+                           controllerFactory, converterFactory, currentResource);
+                           BufferedReader reader = new BufferedReader(new InputStreamReader(
+                                    resource.getResourceInputStream())))
                   {
-                     try
+                     long startTime = System.currentTimeMillis();
+                     String line;
+                     while ((line = reader.readLine()) != null)
                      {
-                        String line = reader.readLine();
-                        Integer timeoutValue = timeout.getValue();
-                        result = execute(scriptShell, writer, line, timeoutValue,
-                                 TimeUnit.SECONDS, startTime);
-
-                        if (result != null)
+                        Result lineResult;
+                        try
+                        {
+                           lineResult = execute(lineExecutor, executor, line, timeoutMillis == Long.MAX_VALUE
+                                    ? Long.MAX_VALUE : timeoutMillis - (System.currentTimeMillis() - startTime));
+                        }
+                        catch (TimeoutException e)
+                        {
+                           result = Results.fail(path + ": timed out.");
+                           break ALL;
+                        }
+                        if (lineResult != null)
                         {
-                           if (result instanceof Failed)
+                           result = lineResult;
+                           if (ScriptExecutor.display(out, err, lineResult))
                               break ALL;
                         }
                      }
-                     catch (TimeoutException e)
-                     {
-                        result = Results.fail(path + ": timed out.");
-                        break ALL;
-                     }
                   }
                }
-               finally
+               else
                {
-                  scriptShell.close();
+                  result = Results.fail(path + ": not found.");
+                  break ALL;
                }
             }
-            else
-            {
-               result = Results.fail(path + ": not found.");
-               break ALL;
-            }
          }
       }
-
-      return result;
-   }
-
-   public Result execute(Shell shell, BufferedWriter stdin, String line, int quantity, TimeUnit unit, long startTime)
-            throws TimeoutException
-   {
-      Assert.notNull(line, "Line to execute cannot be null.");
-
-      Result result = null;
-
-      if (!line.trim().isEmpty())
+      finally
       {
-         if (!line.trim().endsWith(OperatingSystemUtils.getLineSeparator()))
-            line = line + OperatingSystemUtils.getLineSeparator();
-
-         ScriptCommandListener listener = new ScriptCommandListener();
-         ListenerRegistration<CommandExecutionListener> listenerRegistration = shell
-                  .addCommandExecutionListener(listener);
-         try
-         {
-            stdin.write(line);
-            stdin.flush();
-            while (!listener.isExecuted())
-            {
-               if (System.currentTimeMillis() > (startTime + TimeUnit.MILLISECONDS.convert(quantity, unit)))
-               {
-                  throw new TimeoutException("Timeout expired waiting for command [" + line + "] to execute.");
-               }
-
-               try
-               {
-                  Thread.sleep(10);
-               }
-               catch (InterruptedException e)
-               {
-                  throw new ContainerException("Command [" + line + "] did not respond.", e);
-               }
-            }
-            result = listener.getResult();
-         }
-         catch (IOException e)
-         {
-            throw new RuntimeException("Failed to execute command.", e);
-         }
-         finally
-         {
-            listenerRegistration.removeListener();
-         }
+         lineExecutor.shutdownNow();
       }
+
       return result;
    }
 
-   public class ScriptCommandListener extends AbstractCommandExecutionListener
+   /**
+    * Executes the given line on the given {@link ExecutorService}, cancelling it if it is still running after the given
+    * number of milliseconds.
+    *
+    * @return the {@link Result} of the line
+    * @throws TimeoutException if the line did not complete in time
+    */
+   private Result execute(ExecutorService lineExecutor, final ScriptExecutor executor, final String line,
+            long remainingMillis) throws InterruptedException, TimeoutException
    {
-      Result result;
-
-      @Override
-      public void preCommandExecuted(UICommand command, UIExecutionContext context)
+      if (remainingMillis <= 0)
       {
+         throw new TimeoutException();
       }
-
-      @Override
-      public void postCommandExecuted(UICommand command, UIExecutionContext context, Result result)
+      Future<Result> future = lineExecutor.submit(new Callable<Result>()
       {
-         synchronized (this)
+         @Override
+         public Result call() throws Exception
          {
-            this.result = result;
+            return executor.execute(line);
          }
-      }
-
-      @Override
-      public void postCommandFailure(UICommand command, UIExecutionContext context, Throwable failure)
+      });
+      try
       {
-         synchronized (this)
-         {
-            this.result = Results.fail("Error encountered during command execution.", failure);
-         }
+         return remainingMillis == Long.MAX_VALUE ? future.get() : future.get(remainingMillis, TimeUnit.MILLISECONDS);
       }
-
-      public boolean isExecuted()
+      catch (TimeoutException | InterruptedException e)
       {
-         synchronized (this)
-         {
-            return result != null;
-         }
+         future.cancel(true);
+         throw e;
       }
-
-      public Result getResult()
+      catch (ExecutionException e)
       {
-         synchronized (this)
-         {
-            return result;
-         }
-      }
-
-      public void reset()
-      {
-         synchronized (this)
-         {
-            result = null;
-         }
+         Throwable cause = e.getCause();
+         return Results.fail(cause.getMessage(), cause);
       }
    }
 
@@ -265,18 +204,4 @@ public class RunCommand extends AbstractShellCommand
    {
       return super.isEnabled(context) && context.getInitialSelection().get() instanceof DirectoryResource;
    }
-
-   private static class UncloseablePrintStream extends PrintStream
-   {
-      public UncloseablePrintStream(PrintStream stream)
-      {
-         super(stream, true);
-      }
-
-      @Override
-      public void close()
-      {
-         // Uncloseable
-      }
-   }
 }
@@ -0,0 +1,41 @@
+/**
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.shell.ui;
+
+import org.jboss.forge.addon.ui.input.UIPrompt;
+
+/**
+ * A {@link UIPrompt} for commands running without a terminal to read from. Prompts with a default value return it, the
+ * others fail.
+ */
+public class NonInteractiveUIPrompt implements UIPrompt
+{
+   @Override
+   public String prompt(String message)
+   {
+      throw new IllegalStateException("Cannot prompt without a terminal: " + message);
+   }
+
+   @Override
+   public String promptSecret(String message)
+   {
+      throw new IllegalStateException("Cannot prompt without a terminal: " + message);
+   }
+
+   @Override
+   public boolean promptBoolean(String message)
+   {
+      throw new IllegalStateException("Cannot prompt without a terminal: " + message);
+   }
+
+   @Override
+   public boolean promptBoolean(String message, boolean defaultValue)
+   {
+      return defaultValue;
+   }
+}
@@ -11,6 +11,8 @@ import org.jboss.aesh.terminal.Color;
 import org.jboss.aesh.terminal.TerminalColor;
 import org.jboss.aesh.terminal.TerminalString;
 import org.jboss.forge.addon.resource.FileResource;
+import org.jboss.forge.addon.shell.ScriptShell;
+import org.jboss.forge.addon.shell.Shell;
 
 /**
  * Shell Utilities
@@ -30,6 +32,15 @@ public class ShellUtil
       return name.trim().toLowerCase().replaceAll("\\W+", "-").replaceAll("\\:", "");
    }
 
+   /**
+    * Returns <code>true</code> if the given {@link Shell} has a console, as the commands using
+    * {@link Shell#getConsole()} need
+    */
+   public static boolean hasConsole(Shell shell)
+   {
+      return !(shell instanceof ScriptShell) || ((ScriptShell) shell).hasConsole();
+   }
+
    /**
     * Applies ANSI colors in a specific resource
     * 
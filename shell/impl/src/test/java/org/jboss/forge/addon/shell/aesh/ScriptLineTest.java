@@ -0,0 +1,54 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.shell.aesh;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ScriptLineTest
+{
+   @Test
+   public void testSingleCommand()
+   {
+      ScriptLine line = ScriptLine.parse("project-new --named demo");
+      Assert.assertEquals(Arrays.asList("project-new"), line.getCommandNames());
+      Assert.assertFalse(line.hasControlOperators());
+   }
+
+   @Test
+   public void testPipe()
+   {
+      ScriptLine line = ScriptLine.parse("ls -a | grep foo");
+      Assert.assertEquals(Arrays.asList("ls", "grep"), line.getCommandNames());
+      Assert.assertTrue(line.hasControlOperators());
+   }
+
+   @Test
+   public void testCommandLists()
+   {
+      Assert.assertEquals(Arrays.asList("mkdir", "cd", "touch", "pwd", "ls"),
+               ScriptLine.parse("mkdir a; cd a && touch b || pwd & ls").getCommandNames());
+   }
+
+   @Test
+   public void testRedirection()
+   {
+      ScriptLine line = ScriptLine.parse("echo hello > out.txt");
+      Assert.assertEquals(Arrays.asList("echo"), line.getCommandNames());
+      Assert.assertTrue(line.hasControlOperators());
+      Assert.assertEquals(Arrays.asList("cat"), ScriptLine.parse("cat < in.txt 2>&1").getCommandNames());
+   }
+
+   @Test
+   public void testQuotedAndEscapedOperatorsAreIgnored()
+   {
+      Assert.assertFalse(ScriptLine.parse("echo \"a | b\" 'c > d' e\\;f").hasControlOperators());
+      Assert.assertFalse(ScriptLine.parse("echo \"it's ; fine\"").hasControlOperators());
+   }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.shell.aesh.completion;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jboss.forge.addon.ui.context.UIContext;
+import org.jboss.forge.addon.ui.input.AbstractUIAsyncCompleter;
+import org.jboss.forge.addon.ui.input.InputComponent;
+import org.jboss.forge.addon.ui.input.UICompletionRequest;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AsyncCompletionsTest
+{
+   private final InputComponent<?, String> input = input();
+
+   @After
+   public void tearDown()
+   {
+      AsyncCompletions.shutdown();
+   }
+
+   @Test
+   public void testProposalsAreReturnedWhenTheCompleterIsDone()
+   {
+      List<String> proposals = AsyncCompletions.complete(null, input, "a", new AbstractUIAsyncCompleter<String>()
+      {
+         @Override
+         public void computeCompletionProposals(UIContext context, InputComponent<?, String> input, String value,
+                  UICompletionRequest<String> request)
+         {
+            request.addProposal(value + "1");
+            request.addProposal(value + "2");
+         }
+      }, 10000);
+      Assert.assertEquals(Arrays.asList("a1", "a2"), proposals);
+   }
+
+   @Test
+   public void testPartialProposalsAreReturnedWhenTheBudgetElapses() throws Exception
+   {
+      final CountDownLatch stopped = new CountDownLatch(1);
+      long start = System.nanoTime();
+      List<String> proposals = AsyncCompletions.complete(null, input, "a", new AbstractUIAsyncCompleter<String>()
+      {
+         @Override
+         public void computeCompletionProposals(UIContext context, InputComponent<?, String> input, String value,
+                  UICompletionRequest<String> request)
+         {
+            request.addProposal("first");
+            try
+            {
+               Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            }
+            catch (InterruptedException e)
+            {
+               stopped.countDown();
+            }
+         }
+      }, 50);
+      Assert.assertEquals(Collections.singletonList("first"), proposals);
+      Assert.assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 10);
+      Assert.assertTrue("The completer was not interrupted", stopped.await(10, TimeUnit.SECONDS));
+   }
+
+   @Test
+   public void testLateProposalsAreDropped() throws Exception
+   {
+      final AtomicReference<UICompletionRequest<String>> issued = new AtomicReference<>();
+      final CountDownLatch done = new CountDownLatch(1);
+      List<String> proposals = AsyncCompletions.complete(null, input, "a", new AbstractUIAsyncCompleter<String>()
+      {
+         @Override
+         public void computeCompletionProposals(UIContext context, InputComponent<?, String> input, String value,
+                  UICompletionRequest<String> request)
+         {
+            issued.set(request);
+            request.addProposal("early");
+            while (!request.isCancelled())
+            {
+               Thread.yield();
+            }
+            request.addProposal("late");
+            done.countDown();
+         }
+      }, 50);
+      Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+      Assert.assertEquals(Collections.singletonList("early"), proposals);
+      Assert.assertEquals(Collections.singletonList("early"), issued.get().getProposals());
+   }
+
+   @Test
+   public void testZeroBudgetCompletesSynchronously()
+   {
+      Assert.assertEquals(Collections.singletonList(Thread.currentThread().getName()),
+               AsyncCompletions.complete(null, input, null, new CurrentThreadCompleter(), 0));
+   }
+
+   @Test
+   public void testCompletionRunsOffTheCallingThread()
+   {
+      List<String> proposals = AsyncCompletions.complete(null, input, null, new CurrentThreadCompleter(), 10000);
+      Assert.assertEquals(1, proposals.size());
+      Assert.assertTrue(proposals.get(0), proposals.get(0).startsWith("Forge Shell Completion "));
+   }
+
+   @Test
+   public void testCompletionWorksAfterShutdown()
+   {
+      AsyncCompletions.complete(null, input, null, new CurrentThreadCompleter(), 10000);
+      AsyncCompletions.shutdown();
+      Assert.assertEquals(1, AsyncCompletions.complete(null, input, null, new CurrentThreadCompleter(), 10000).size());
+   }
+
+   @Test
+   public void testCompleterErrorReturnsThePublishedProposals()
+   {
+      List<String> proposals = AsyncCompletions.complete(null, input, null, new AbstractUIAsyncCompleter<String>()
+      {
+         @Override
+         public void computeCompletionProposals(UIContext context, InputComponent<?, String> input, String value,
+                  UICompletionRequest<String> request)
+         {
+            request.addProposal("first");
+            throw new IllegalStateException("failed");
+         }
+      }, 10000);
+      Assert.assertEquals(Collections.singletonList("first"), proposals);
+   }
+
+   private static class CurrentThreadCompleter extends AbstractUIAsyncCompleter<String>
+   {
+      @Override
+      public void computeCompletionProposals(UIContext context, InputComponent<?, String> input, String value,
+               UICompletionRequest<String> request)
+      {
+         request.addProposal(Thread.currentThread().getName());
+      }
+   }
+
+   @SuppressWarnings("unchecked")
+   private static InputComponent<?, String> input()
+   {
+      return (InputComponent<?, String>) Proxy.newProxyInstance(AsyncCompletionsTest.class.getClassLoader(),
+               new Class<?>[] { InputComponent.class }, new InvocationHandler()
+               {
+                  @Override
+                  public Object invoke(Object proxy, Method method, Object[] args)
+                  {
+                     return "getName".equals(method.getName()) ? "test" : null;
+                  }
+               });
+   }
+}
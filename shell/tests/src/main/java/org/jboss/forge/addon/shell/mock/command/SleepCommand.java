@@ -0,0 +1,18 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.shell.mock.command;
+
+import org.jboss.forge.addon.ui.annotation.Command;
+
+public class SleepCommand
+{
+   @Command("sleep-forever")
+   public void sleep() throws InterruptedException
+   {
+      Thread.sleep(Long.MAX_VALUE);
+   }
+}
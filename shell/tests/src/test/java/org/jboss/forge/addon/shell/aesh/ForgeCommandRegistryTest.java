@@ -0,0 +1,65 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.shell.aesh;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.forge.addon.shell.mock.command.InitializationCountingCommand;
+import org.jboss.forge.addon.shell.test.ShellTest;
+import org.jboss.forge.arquillian.AddonDependency;
+import org.jboss.forge.arquillian.Dependencies;
+import org.jboss.forge.arquillian.archive.ForgeArchive;
+import org.jboss.forge.furnace.repositories.AddonDependencyEntry;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(Arquillian.class)
+public class ForgeCommandRegistryTest
+{
+   @Deployment
+   @Dependencies({
+            @AddonDependency(name = "org.jboss.forge.addon:shell-test-harness")
+   })
+   public static ForgeArchive getDeployment()
+   {
+      ForgeArchive archive = ShrinkWrap.create(ForgeArchive.class)
+               .addClasses(InitializationCountingCommand.class)
+               .addBeansXML()
+               .addAsAddonDependencies(
+                        AddonDependencyEntry.create("org.jboss.forge.addon:shell-test-harness"),
+                        AddonDependencyEntry.create("org.jboss.forge.furnace.container:cdi")
+               );
+
+      return archive;
+   }
+
+   @Inject
+   private ShellTest test;
+
+   @After
+   public void after() throws IOException
+   {
+      test.clearScreen();
+   }
+
+   @Test
+   public void testCompletingTheSameCommandTwiceInitializesItOnce() throws Exception
+   {
+      InitializationCountingCommand.initializations.set(0);
+      test.waitForCompletion("initialization-counting --first ", "initialization-counting --fi", 5, TimeUnit.SECONDS);
+      test.waitForCompletion("initialization-counting --first A --second ", "A --sec", 5, TimeUnit.SECONDS);
+      Assert.assertEquals(1, InitializationCountingCommand.initializations.get());
+   }
+}
@@ -17,6 +17,7 @@ import org.jboss.forge.addon.resource.DirectoryResource;
 import org.jboss.forge.addon.resource.FileResource;
 import org.jboss.forge.addon.resource.Resource;
 import org.jboss.forge.addon.resource.ResourceFactory;
+import org.jboss.forge.addon.shell.mock.command.SleepCommand;
 import org.jboss.forge.addon.shell.mock.command.ThrowExceptionCommand;
 import org.jboss.forge.addon.shell.test.ShellTest;
 import org.jboss.forge.addon.ui.result.Failed;
@@ -50,7 +51,7 @@ public class RunCommandTest
    {
       ForgeArchive archive = ShrinkWrap
                .create(ForgeArchive.class)
-               .addClasses(ThrowExceptionCommand.class)
+               .addClasses(ThrowExceptionCommand.class, SleepCommand.class)
                .addBeansXML()
                .addAsAddonDependencies(
                         AddonDependencyEntry.create("org.jboss.forge.addon:maven"),
@@ -141,6 +142,29 @@ public class RunCommandTest
       child2.delete();
    }
 
+   @Test
+   public void testRunScriptFollowsSelection() throws Exception
+   {
+      DirectoryResource temp = (DirectoryResource) resourceFactory.create(OperatingSystemUtils.createTempDir());
+      temp.deleteOnExit();
+      shellTest.getShell().setCurrentResource(temp);
+
+      FileResource<?> script = (FileResource<?>) temp.getChild("script.fsh");
+      script.setContents("mkdir sub\n"
+               + "cd sub\n"
+               + "touch foo.txt");
+
+      Result result = shellTest.execute("run script.fsh", COMMAND_TIMEOUT, TimeUnit.SECONDS);
+      Assert.assertFalse(result instanceof Failed);
+
+      DirectoryResource sub = temp.getChildDirectory("sub");
+      Resource<?> child = sub.getChild("foo.txt");
+      Assert.assertTrue(child.exists());
+      Assert.assertEquals(temp, shellTest.getShell().getCurrentResource());
+      child.delete();
+      sub.delete();
+   }
+
    @Test
    public void testRunScriptFailure() throws Exception
    {
@@ -154,4 +178,52 @@ public class RunCommandTest
       Result result = shellTest.execute("run script.fsh", COMMAND_TIMEOUT, TimeUnit.SECONDS);
       Assert.assertTrue(result instanceof Failed);
    }
+
+   @Test
+   public void testRunScriptTimesOutOnAHangingLine() throws Exception
+   {
+      DirectoryResource temp = (DirectoryResource) resourceFactory.create(OperatingSystemUtils.createTempDir());
+      temp.deleteOnExit();
+      shellTest.getShell().setCurrentResource(temp);
+
+      FileResource<?> script = (FileResource<?>) temp.getChild("script.fsh");
+      script.setContents("sleep-forever\n"
+               + "touch foo.txt");
+
+      Result result = shellTest.execute("run --timeout 1 script.fsh", COMMAND_TIMEOUT, TimeUnit.SECONDS);
+      Assert.assertTrue(result instanceof Failed);
+      Assert.assertFalse(temp.getChild("foo.txt").exists());
+   }
+
+   @Test
+   public void testRunScriptWithRedirection() throws Exception
+   {
+      DirectoryResource temp = (DirectoryResource) resourceFactory.create(OperatingSystemUtils.createTempDir());
+      temp.deleteOnExit();
+      shellTest.getShell().setCurrentResource(temp);
+
+      FileResource<?> script = (FileResource<?>) temp.getChild("script.fsh");
+      script.setContents("echo hello > out.txt");
+
+      Result result = shellTest.execute("run script.fsh", COMMAND_TIMEOUT, TimeUnit.SECONDS);
+      Assert.assertFalse(result instanceof Failed);
+      FileResource<?> out = (FileResource<?>) temp.getChild("out.txt");
+      Assert.assertTrue(out.exists());
+      Assert.assertTrue(out.getContents().contains("hello"));
+      out.delete();
+   }
+
+   @Test
+   public void testRunScriptUnknownCommand() throws Exception
+   {
+      DirectoryResource temp = (DirectoryResource) resourceFactory.create(OperatingSystemUtils.createTempDir());
+      temp.deleteOnExit();
+      shellTest.getShell().setCurrentResource(temp);
+
+      FileResource<?> script = (FileResource<?>) temp.getChild("script.fsh");
+      script.setContents("no-such-command");
+
+      Result result = shellTest.execute("run script.fsh", COMMAND_TIMEOUT, TimeUnit.SECONDS);
+      Assert.assertTrue(result instanceof Failed);
+   }
 }
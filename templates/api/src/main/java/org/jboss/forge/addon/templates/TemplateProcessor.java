@@ -9,6 +9,8 @@ package org.jboss.forge.addon.templates;
 import java.io.IOException;
 import java.io.Writer;
 
+import org.jboss.forge.addon.resource.FileResource;
+
 /**
  * Process a template
  * 
@@ -25,4 +27,14 @@ public interface TemplateProcessor
     * Writes the output to the {@link Writer}
     */
    void process(Object dataModel, Writer output) throws IOException;
+
+   /**
+    * Writes the output to the {@link FileResource}, encoded with the platform default charset like
+    * {@link FileResource#setContents(String)}. The {@link FileResource} is created if it does not exist, and left
+    * untouched if it already has the same contents.
+    * 
+    * @return <code>true</code> if the {@link FileResource} was written, <code>false</code> if its contents were
+    *         unchanged
+    */
+   boolean process(Object dataModel, FileResource<?> output) throws IOException;
 }
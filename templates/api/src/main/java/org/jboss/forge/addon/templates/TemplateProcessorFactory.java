@@ -6,6 +6,8 @@
  */
 package org.jboss.forge.addon.templates;
 
+import java.util.List;
+
 import org.jboss.forge.addon.resource.Resource;
 
 /**
@@ -34,4 +36,16 @@ public interface TemplateProcessorFactory
     */
    @Deprecated
    TemplateProcessor fromTemplate(Resource template);
+
+   /**
+    * Renders the given {@link TemplateRenderJob} instances concurrently, then writes their output to their targets in
+    * the given order, in a single resource transaction. Targets whose contents are unchanged are not written. If a
+    * resource transaction is already started, the output is written as part of it.
+    * 
+    * A job that fails does not prevent the others from being written: its error is reported in its
+    * {@link TemplateRenderResult}.
+    * 
+    * @return the {@link TemplateRenderResult} of each job, in the same order as the given jobs
+    */
+   List<TemplateRenderResult> render(List<TemplateRenderJob> jobs);
 }
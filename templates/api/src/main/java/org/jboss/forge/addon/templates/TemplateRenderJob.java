@@ -0,0 +1,55 @@
+/**
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.templates;
+
+import org.jboss.forge.addon.resource.FileResource;
+import org.jboss.forge.furnace.util.Assert;
+
+/**
+ * A {@link Template} to be rendered with a data model into a {@link FileResource}, as part of a batch submitted to
+ * {@link TemplateProcessorFactory#render(java.util.List)}
+ */
+public final class TemplateRenderJob
+{
+   private final Template template;
+   private final Object dataModel;
+   private final FileResource<?> target;
+
+   public TemplateRenderJob(Template template, Object dataModel, FileResource<?> target)
+   {
+      Assert.notNull(template, "Template cannot be null");
+      Assert.notNull(target, "Target resource cannot be null");
+      this.template = template;
+      this.dataModel = dataModel;
+      this.target = target;
+   }
+
+   public Template getTemplate()
+   {
+      return template;
+   }
+
+   /**
+    * The data model may be read by a different thread than the one submitting the job, concurrently with the data
+    * models of other jobs
+    */
+   public Object getDataModel()
+   {
+      return dataModel;
+   }
+
+   public FileResource<?> getTarget()
+   {
+      return target;
+   }
+
+   @Override
+   public String toString()
+   {
+      return template.getResource() + " -> " + target;
+   }
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.templates;
+
+/**
+ * The outcome of a {@link TemplateRenderJob}
+ */
+public final class TemplateRenderResult
+{
+   private final TemplateRenderJob job;
+   private final boolean written;
+   private final Throwable error;
+
+   private TemplateRenderResult(TemplateRenderJob job, boolean written, Throwable error)
+   {
+      this.job = job;
+      this.written = written;
+      this.error = error;
+   }
+
+   /**
+    * Creates the result of a job that completed
+    * 
+    * @param written <code>true</code> if the target was written, <code>false</code> if its contents were unchanged
+    */
+   public static TemplateRenderResult completed(TemplateRenderJob job, boolean written)
+   {
+      return new TemplateRenderResult(job, written, null);
+   }
+
+   /**
+    * Creates the result of a job that failed with the given error
+    */
+   public static TemplateRenderResult failed(TemplateRenderJob job, Throwable error)
+   {
+      return new TemplateRenderResult(job, false, error);
+   }
+
+   public TemplateRenderJob getJob()
+   {
+      return job;
+   }
+
+   /**
+    * @return <code>true</code> if the target of the job was written
+    */
+   public boolean isWritten()
+   {
+      return written;
+   }
+
+   public boolean isFailed()
+   {
+      return error != null;
+   }
+
+   /**
+    * @return the error that made the job fail, or <code>null</code> if it completed
+    */
+   public Throwable getError()
+   {
+      return error;
+   }
+
+   @Override
+   public String toString()
+   {
+      return job + (isFailed() ? " failed: " + error : (written ? " written" : " unchanged"));
+   }
+}
@@ -17,19 +17,32 @@ import org.jboss.forge.addon.resource.Resource;
 import org.jboss.forge.addon.templates.Template;
 import org.jboss.forge.addon.templates.TemplateGenerator;
 
-import freemarker.cache.TemplateCache;
-import freemarker.cache.TemplateLoader;
+import freemarker.cache.MruCacheStorage;
 import freemarker.template.TemplateException;
 
 /**
- * A Freemarker implementation of a {@link TemplateGenerator}
+ * A Freemarker implementation of a {@link TemplateGenerator}.
+ *
+ * Compiled templates are kept in a bounded most-recently-used cache, keyed by the location of their resource (see
+ * {@link ResourceTemplateLoader}). A template is recompiled when the last modification time of its file changes.
+ * Templates may be processed concurrently.
  *
  * @author <a href="ggastald@redhat.com">George Gastaldi</a>
  */
 @Singleton
 public class FreemarkerTemplateGenerator implements TemplateGenerator
 {
-   private freemarker.template.Configuration freemarkerConfig;
+   /**
+    * Number of compiled templates always kept in the cache
+    */
+   static final int STRONG_CACHE_SIZE = 100;
+
+   /**
+    * Number of additional compiled templates kept in the cache until memory runs low
+    */
+   static final int SOFT_CACHE_SIZE = 1000;
+
+   private volatile freemarker.template.Configuration freemarkerConfig;
 
    @Inject
    private ResourceTemplateLoader loader;
@@ -37,21 +50,7 @@ public class FreemarkerTemplateGenerator implements TemplateGenerator
    @Override
    public void process(Object dataModel, Template template, Writer writer) throws IOException
    {
-      String id = loader.register(template.getResource());
-      try
-      {
-         freemarker.template.Template templateFile = getFreemarkerConfig().getTemplate(id);
-         templateFile.process(dataModel, writer);
-         writer.flush();
-      }
-      catch (TemplateException e)
-      {
-         throw new RuntimeException(e);
-      }
-      finally
-      {
-         loader.dispose(id);
-      }
+      process(dataModel, template.getResource(), writer);
    }
 
    @Override
@@ -68,10 +67,6 @@ public class FreemarkerTemplateGenerator implements TemplateGenerator
       {
          throw new RuntimeException(e);
       }
-      finally
-      {
-         loader.dispose(id);
-      }
    }
 
    @Override
@@ -88,11 +83,23 @@ public class FreemarkerTemplateGenerator implements TemplateGenerator
 
    public freemarker.template.Configuration getFreemarkerConfig()
    {
-      if (freemarkerConfig == null)
+      freemarker.template.Configuration config = freemarkerConfig;
+      if (config == null)
       {
-         freemarkerConfig = new freemarker.template.Configuration();
-         freemarkerConfig.setTemplateLoader(loader);
+         synchronized (this)
+         {
+            config = freemarkerConfig;
+            if (config == null)
+            {
+               config = new freemarker.template.Configuration();
+               config.setTemplateLoader(loader);
+               config.setCacheStorage(new MruCacheStorage(STRONG_CACHE_SIZE, SOFT_CACHE_SIZE));
+               // Check the last modification time on every use
+               config.setTemplateUpdateDelay(0);
+               freemarkerConfig = config;
+            }
+         }
       }
-      return freemarkerConfig;
+      return config;
    }
 }
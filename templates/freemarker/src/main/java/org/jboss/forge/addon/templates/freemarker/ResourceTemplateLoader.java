@@ -7,11 +7,16 @@
 
 package org.jboss.forge.addon.templates.freemarker;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Map.Entry;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -23,14 +28,33 @@ import org.jboss.forge.addon.resource.ResourceFactory;
 import freemarker.cache.StatefulTemplateLoader;
 
 /**
- * Loader for Resource objects
+ * Loader for Resource objects.
+ *
+ * Templates are identified by the absolute location of their {@link Resource}: the URI of files, the fully qualified
+ * name of other resources. Registrations are kept, so the Freemarker template cache can reuse compiled templates, and
+ * relative includes resolve to the resources next to the including template. They are bounded like the template cache:
+ * the least recently used registrations are evicted, so the loader does not pin the resources (and their class loaders)
+ * of templates no longer in use. An evicted template is resolved again by name.
  *
  * @author <a href="ggastald@redhat.com">George Gastaldi</a>
  */
 @Singleton
 public class ResourceTemplateLoader implements StatefulTemplateLoader
 {
-   private Map<String, ResourceId> resourceMap = new ConcurrentHashMap<String, ResourceId>();
+   private static final int MAX_REGISTRATIONS = FreemarkerTemplateGenerator.STRONG_CACHE_SIZE
+            + FreemarkerTemplateGenerator.SOFT_CACHE_SIZE;
+
+   private final Map<String, ResourceId> resourceMap = Collections
+            .synchronizedMap(new LinkedHashMap<String, ResourceId>(16, 0.75f, true)
+            {
+               private static final long serialVersionUID = 1L;
+
+               @Override
+               protected boolean removeEldestEntry(Entry<String, ResourceId> eldest)
+               {
+                  return size() > MAX_REGISTRATIONS;
+               }
+            });
 
    /**
     * Needed for includes
@@ -45,21 +69,17 @@ public class ResourceTemplateLoader implements StatefulTemplateLoader
       return resourceId.id;
    }
 
-   void dispose(String id)
-   {
-      resourceMap.remove(id);
-   }
-
    @Override
    public Object findTemplateSource(String name) throws IOException
    {
       ResourceId resource = resourceMap.get(name);
       if (resource == null)
       {
-         Resource<?> includedResource = resourceFactory.create(name);
+         Resource<?> includedResource = resolve(name);
          if (includedResource != null && includedResource.exists())
          {
             resource = generateResourceId(includedResource);
+            resourceMap.put(name, resource);
          }
       }
       return resource;
@@ -87,8 +107,7 @@ public class ResourceTemplateLoader implements StatefulTemplateLoader
    @Override
    public void closeTemplateSource(Object templateSource) throws IOException
    {
-      ResourceId resourceId = (ResourceId) templateSource;
-      dispose(resourceId.id);
+      // Registrations are kept for the template cache
    }
 
    @Override
@@ -97,9 +116,36 @@ public class ResourceTemplateLoader implements StatefulTemplateLoader
       resourceMap.clear();
    }
 
+   /**
+    * Returns the {@link Resource} of a template included by name
+    */
+   private Resource<?> resolve(String name)
+   {
+      if (name.startsWith("file:"))
+      {
+         try
+         {
+            return resourceFactory.create(new File(new URI(name)));
+         }
+         catch (URISyntaxException | IllegalArgumentException e)
+         {
+            // Not a file URI, let the resource factory handle it
+         }
+      }
+      return resourceFactory.create(name);
+   }
+
    private ResourceId generateResourceId(Resource<?> resource)
    {
-      String id = resource.getName();
+      String id;
+      if (resource instanceof FileResource)
+      {
+         id = ((FileResource<?>) resource).getUnderlyingResourceObject().getAbsoluteFile().toURI().toString();
+      }
+      else
+      {
+         id = resource.getFullyQualifiedName();
+      }
       return new ResourceId(id, resource);
    }
 
@@ -0,0 +1,61 @@
+/**
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.templates;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.jboss.forge.addon.resource.FileResource;
+
+/**
+ * The encoded output of a template, written to a {@link FileResource} without copying
+ */
+class RenderedOutput extends ByteArrayOutputStream
+{
+   RenderedOutput()
+   {
+      super(8192);
+   }
+
+   /**
+    * Writes this output to the given {@link FileResource}, unless it already has the same contents
+    * 
+    * @return <code>true</code> if the {@link FileResource} was written
+    */
+   boolean writeTo(FileResource<?> resource) throws IOException
+   {
+      if (isContentOf(resource))
+      {
+         return false;
+      }
+      resource.setContents(new ByteArrayInputStream(buf, 0, count));
+      return true;
+   }
+
+   private boolean isContentOf(FileResource<?> resource) throws IOException
+   {
+      if (!resource.exists() || resource.getSize() != count)
+      {
+         return false;
+      }
+      try (InputStream is = new BufferedInputStream(resource.getResourceInputStream()))
+      {
+         for (int i = 0; i < count; i++)
+         {
+            if (is.read() != (buf[i] & 0xFF))
+            {
+               return false;
+            }
+         }
+         return is.read() == -1;
+      }
+   }
+}
@@ -7,10 +7,24 @@
 
 package org.jboss.forge.addon.templates;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import org.jboss.forge.addon.resource.Resource;
+import org.jboss.forge.addon.resource.ResourceFactory;
+import org.jboss.forge.addon.resource.transaction.ResourceTransaction;
+import org.jboss.forge.addon.resource.util.ResourceUtil;
 import org.jboss.forge.furnace.services.Imported;
 import org.jboss.forge.furnace.util.Assert;
 
@@ -24,6 +38,26 @@ public class TemplateProcessorFactoryImpl implements TemplateProcessorFactory
    @Inject
    private Imported<TemplateGenerator> generators;
 
+   @Inject
+   private ResourceFactory resourceFactory;
+
+   /**
+    * Renders the jobs of {@link #render(List)}, one thread per processor at most
+    */
+   private final ExecutorService renderExecutor = Executors.newFixedThreadPool(Runtime.getRuntime()
+            .availableProcessors(), new ThreadFactory()
+   {
+      private final AtomicInteger count = new AtomicInteger();
+
+      @Override
+      public Thread newThread(Runnable r)
+      {
+         Thread thread = new Thread(r, "Forge Template Renderer " + count.incrementAndGet());
+         thread.setDaemon(true);
+         return thread;
+      }
+   });
+
    @Override
    public TemplateProcessor fromTemplate(Template template)
    {
@@ -52,4 +86,86 @@ public class TemplateProcessorFactoryImpl implements TemplateProcessorFactory
         }
         throw new IllegalStateException("No generator found for [" + template + "]");
     }
+
+   @Override
+   public List<TemplateRenderResult> render(List<TemplateRenderJob> jobs)
+   {
+      Assert.notNull(jobs, "Jobs cannot be null");
+      // Jobs whose template cannot be processed have no rendering
+      List<Future<RenderedOutput>> renderings = new ArrayList<>(jobs.size());
+      List<RuntimeException> errors = new ArrayList<>(jobs.size());
+      for (final TemplateRenderJob job : jobs)
+      {
+         try
+         {
+            final TemplateProcessorImpl processor = (TemplateProcessorImpl) fromTemplate(job.getTemplate());
+            renderings.add(renderExecutor.submit(new Callable<RenderedOutput>()
+            {
+               @Override
+               public RenderedOutput call() throws Exception
+               {
+                  return processor.render(job.getDataModel());
+               }
+            }));
+            errors.add(null);
+         }
+         catch (RuntimeException e)
+         {
+            renderings.add(null);
+            errors.add(e);
+         }
+      }
+
+      List<TemplateRenderResult> results = new ArrayList<>(jobs.size());
+      ResourceTransaction transaction = ResourceUtil.beginTransaction(resourceFactory);
+      try
+      {
+         for (int i = 0; i < jobs.size(); i++)
+         {
+            TemplateRenderJob job = jobs.get(i);
+            if (errors.get(i) != null)
+            {
+               results.add(TemplateRenderResult.failed(job, errors.get(i)));
+               continue;
+            }
+            try
+            {
+               boolean written = renderings.get(i).get().writeTo(job.getTarget());
+               results.add(TemplateRenderResult.completed(job, written));
+            }
+            catch (ExecutionException e)
+            {
+               results.add(TemplateRenderResult.failed(job, e.getCause()));
+            }
+            catch (InterruptedException e)
+            {
+               Thread.currentThread().interrupt();
+               results.add(TemplateRenderResult.failed(job, e));
+            }
+            catch (Exception e)
+            {
+               results.add(TemplateRenderResult.failed(job, e));
+            }
+         }
+         if (transaction != null)
+         {
+            transaction.commit();
+            transaction = null;
+         }
+      }
+      finally
+      {
+         if (transaction != null)
+         {
+            transaction.rollback();
+         }
+      }
+      return results;
+   }
+
+   @PreDestroy
+   void shutdown()
+   {
+      renderExecutor.shutdownNow();
+   }
 }
@@ -7,11 +7,15 @@
 
 package org.jboss.forge.addon.templates;
 
-import org.jboss.forge.addon.resource.Resource;
-
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.charset.Charset;
+
+import org.jboss.forge.addon.resource.FileResource;
+import org.jboss.forge.addon.resource.Resource;
 
 /**
  * {@link TemplateProcessor} implementation
@@ -61,4 +65,23 @@ public class TemplateProcessorImpl implements TemplateProcessor
          generator.process(dataModel, resource, output);
       }
    }
-}
\ No newline at end of file
+
+   /**
+    * Renders the output encoded with the platform default charset
+    */
+   RenderedOutput render(Object dataModel) throws IOException
+   {
+      RenderedOutput rendered = new RenderedOutput();
+      try (Writer writer = new BufferedWriter(new OutputStreamWriter(rendered, Charset.defaultCharset())))
+      {
+         process(dataModel, writer);
+      }
+      return rendered;
+   }
+
+   @Override
+   public boolean process(Object dataModel, FileResource<?> output) throws IOException
+   {
+      return render(dataModel).writeTo(output);
+   }
+}
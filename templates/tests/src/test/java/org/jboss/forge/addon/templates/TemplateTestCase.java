@@ -8,7 +8,9 @@ package org.jboss.forge.addon.templates;
 
 import java.io.File;
 import java.net.URL;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import javax.inject.Inject;
 
@@ -119,4 +121,99 @@ public class TemplateTestCase
       Assert.assertEquals(expected, actual);
    }
 
-}
\ No newline at end of file
+   @Test
+   @SuppressWarnings("rawtypes")
+   public void testTemplatesWithSameNameDoNotCollide() throws Exception
+   {
+      File first = createTempDir();
+      File second = createTempDir();
+      FileResource firstResource = resourceFactory.create(new File(first, "view.ftl")).reify(FileResource.class);
+      FileResource secondResource = resourceFactory.create(new File(second, "view.ftl")).reify(FileResource.class);
+      firstResource.setContents("First ${name}");
+      secondResource.setContents("Second ${name}");
+      Object dataModel = Collections.singletonMap("name", "JBoss Forge");
+      Assert.assertEquals("First JBoss Forge",
+               templateProcessorFactory.fromTemplate(new FreemarkerTemplate(firstResource)).process(dataModel));
+      Assert.assertEquals("Second JBoss Forge",
+               templateProcessorFactory.fromTemplate(new FreemarkerTemplate(secondResource)).process(dataModel));
+      firstResource.getParent().delete(true);
+      secondResource.getParent().delete(true);
+   }
+
+   @Test
+   @SuppressWarnings("rawtypes")
+   public void testModifiedTemplateIsReloaded() throws Exception
+   {
+      File tempFile = File.createTempFile("template", ".tmp");
+      tempFile.deleteOnExit();
+      FileResource resource = resourceFactory.create(tempFile).reify(FileResource.class);
+      resource.setContents("Hello ${name}!");
+      Object dataModel = Collections.singletonMap("name", "JBoss Forge");
+      TemplateProcessor processor = templateProcessorFactory.fromTemplate(new FreemarkerTemplate(resource));
+      Assert.assertEquals("Hello JBoss Forge!", processor.process(dataModel));
+      resource.setContents("Goodbye ${name}!");
+      tempFile.setLastModified(tempFile.lastModified() + 2000);
+      Assert.assertEquals("Goodbye JBoss Forge!", processor.process(dataModel));
+   }
+
+   @Test
+   @SuppressWarnings("rawtypes")
+   public void testTemplateProcessorToFileResource() throws Exception
+   {
+      File tempFile = File.createTempFile("template", ".tmp");
+      tempFile.deleteOnExit();
+      FileResource resource = resourceFactory.create(tempFile).reify(FileResource.class);
+      resource.setContents("Hello ${name}!");
+      File outputFile = File.createTempFile("output", ".txt");
+      outputFile.delete();
+      outputFile.deleteOnExit();
+      FileResource output = resourceFactory.create(outputFile).reify(FileResource.class);
+      TemplateProcessor processor = templateProcessorFactory.fromTemplate(new FreemarkerTemplate(resource));
+      Object dataModel = Collections.singletonMap("name", "JBoss Forge");
+      Assert.assertTrue(processor.process(dataModel, output));
+      Assert.assertEquals("Hello JBoss Forge!", output.getContents());
+      Assert.assertFalse(processor.process(dataModel, output));
+      Assert.assertTrue(processor.process(Collections.singletonMap("name", "Forge"), output));
+      Assert.assertEquals("Hello Forge!", output.getContents());
+   }
+
+   @Test
+   @SuppressWarnings("rawtypes")
+   public void testBatchRender() throws Exception
+   {
+      File dir = createTempDir();
+      FileResource hello = resourceFactory.create(new File(dir, "hello.ftl")).reify(FileResource.class);
+      hello.setContents("Hello ${name}!");
+      FileResource broken = resourceFactory.create(new File(dir, "broken.ftl")).reify(FileResource.class);
+      broken.setContents("Hello ${name");
+      FileResource first = resourceFactory.create(new File(dir, "first.txt")).reify(FileResource.class);
+      FileResource second = resourceFactory.create(new File(dir, "second.txt")).reify(FileResource.class);
+      FileResource third = resourceFactory.create(new File(dir, "third.txt")).reify(FileResource.class);
+
+      List<TemplateRenderJob> jobs = Arrays.asList(
+               new TemplateRenderJob(new FreemarkerTemplate(hello), Collections.singletonMap("name", "First"), first),
+               new TemplateRenderJob(new FreemarkerTemplate(broken), Collections.singletonMap("name", "Second"), second),
+               new TemplateRenderJob(new FreemarkerTemplate(hello), Collections.singletonMap("name", "Third"), third));
+      List<TemplateRenderResult> results = templateProcessorFactory.render(jobs);
+
+      Assert.assertEquals(3, results.size());
+      Assert.assertSame(jobs.get(0), results.get(0).getJob());
+      Assert.assertTrue(results.get(0).isWritten());
+      Assert.assertEquals("Hello First!", first.getContents());
+      Assert.assertTrue(results.get(1).isFailed());
+      Assert.assertFalse(second.exists());
+      Assert.assertTrue(results.get(2).isWritten());
+      Assert.assertEquals("Hello Third!", third.getContents());
+      dir.deleteOnExit();
+      hello.getParent().delete(true);
+   }
+
+   private File createTempDir() throws Exception
+   {
+      File dir = File.createTempFile("templates", "");
+      dir.delete();
+      dir.mkdirs();
+      dir.deleteOnExit();
+      return dir;
+   }
+}
@@ -9,6 +9,8 @@ package org.jboss.forge.addon.ui.controller;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
 import org.jboss.forge.addon.ui.command.CommandExecutionListener;
 import org.jboss.forge.addon.ui.command.UICommand;
@@ -16,6 +18,7 @@ import org.jboss.forge.addon.ui.context.UIContext;
 import org.jboss.forge.addon.ui.input.InputComponent;
 import org.jboss.forge.addon.ui.metadata.UICommandMetadata;
 import org.jboss.forge.addon.ui.output.UIMessage;
+import org.jboss.forge.addon.ui.progress.UIProgressMonitor;
 import org.jboss.forge.addon.ui.result.Result;
 
 /**
@@ -48,6 +51,28 @@ public interface CommandController extends AutoCloseable
     */
    Result execute() throws Exception;
 
+   /**
+    * Calls {@link UICommand#execute(org.jboss.forge.addon.ui.context.UIExecutionContext)} on the given
+    * {@link Executor}. The command reports its progress to the given {@link UIProgressMonitor} as it runs, through
+    * {@link org.jboss.forge.addon.ui.context.UIExecutionContext#getProgressMonitor()}, so the caller receives the
+    * progress events in real time by passing its own monitor. Causes available {@link CommandExecutionListener}
+    * instances to be called. {@link UIProgressMonitor#done()} is called once the execution finishes.
+    * <p>
+    * Cancelling the returned {@link Future} sets the {@link UIProgressMonitor} as cancelled; the command stops as soon
+    * as it polls {@link UIProgressMonitor#isCancelled()}. This controller must not be modified until the execution
+    * finishes.
+    * 
+    * @throws IllegalStateException if {@link #initialize()} has not been called before invoking this method.
+    */
+   Future<Result> executeAsync(Executor executor, UIProgressMonitor progressMonitor);
+
+   /**
+    * Calls {@link #executeAsync(Executor, UIProgressMonitor)} on a shared pool of daemon threads.
+    * 
+    * @throws IllegalStateException if {@link #initialize()} has not been called before invoking this method.
+    */
+   Future<Result> executeAsync(UIProgressMonitor progressMonitor);
+
    /**
     * Calls {@link UICommand#validate(org.jboss.forge.addon.ui.context.UIValidationContext)}, and
     * {@link InputComponent#validate(org.jboss.forge.addon.ui.context.UIValidationContext)} for each enabled
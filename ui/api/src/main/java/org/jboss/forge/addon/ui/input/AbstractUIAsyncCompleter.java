@@ -0,0 +1,26 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.ui.input;
+
+import org.jboss.forge.addon.ui.context.UIContext;
+
+/**
+ * Base class for {@link UIAsyncCompleter} implementations. Synchronous completion runs
+ * {@link #computeCompletionProposals(UIContext, InputComponent, String, UICompletionRequest)} to the end on the
+ * calling thread.
+ */
+public abstract class AbstractUIAsyncCompleter<VALUETYPE> implements UIAsyncCompleter<VALUETYPE>
+{
+   @Override
+   public Iterable<VALUETYPE> getCompletionProposals(UIContext context, InputComponent<?, VALUETYPE> input,
+            String value)
+   {
+      UICompletionRequest<VALUETYPE> request = new UICompletionRequest<>();
+      computeCompletionProposals(context, input, value, request);
+      return request.getProposals();
+   }
+}
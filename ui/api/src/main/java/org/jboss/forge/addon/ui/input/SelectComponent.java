@@ -27,6 +27,18 @@ public interface SelectComponent<IMPLTYPE, VALUETYPE> extends InputComponent<IMP
 
    IMPLTYPE setValueChoices(Callable<Iterable<VALUETYPE>> values);
 
+   /**
+    * Sets a {@link ValueChoicesProvider} that is queried for the value choices on demand.
+    * {@link #getValueChoices()} then returns all the choices of the given provider.
+    */
+   IMPLTYPE setValueChoices(ValueChoicesProvider<VALUETYPE> provider);
+
+   /**
+    * @return the {@link ValueChoicesProvider} set in this component, or <code>null</code> if the value choices were
+    *         set as an {@link Iterable} or {@link Callable}
+    */
+   ValueChoicesProvider<VALUETYPE> getValueChoicesProvider();
+
    Converter<VALUETYPE, String> getItemLabelConverter();
 
    IMPLTYPE setItemLabelConverter(Converter<VALUETYPE, String> converter);
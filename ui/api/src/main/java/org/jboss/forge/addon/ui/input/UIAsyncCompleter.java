@@ -0,0 +1,36 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.ui.input;
+
+import org.jboss.forge.addon.ui.context.UIContext;
+
+/**
+ * A {@link UICompleter} that publishes its proposals incrementally through a {@link UICompletionRequest}. UI providers
+ * may run it off their input thread, display the proposals published within a time budget, and cancel it once its
+ * proposals are no longer needed (eg. when the user keeps typing).
+ * 
+ * UI providers that do not support asynchronous completion call {@link #getCompletionProposals(UIContext,
+ * InputComponent, String)} instead, see {@link AbstractUIAsyncCompleter}.
+ * 
+ * @param <VALUETYPE> The value type to be provided by completion.
+ */
+public interface UIAsyncCompleter<VALUETYPE> extends UICompleter<VALUETYPE>
+{
+   /**
+    * Compute completion proposals for the provided {@link UIInput} and un-converted partial {@link String} value,
+    * publishing them through {@link UICompletionRequest#addProposal(Object)} as soon as they are found. This method may
+    * be called from any thread, and should return as soon as {@link UICompletionRequest#isCancelled()} returns
+    * <code>true</code>.
+    * 
+    * @param context The {@link UIContext} used in this interaction
+    * @param input The {@link UIInput} currently being completed.
+    * @param value The user input value requiring completion, or null, if no value yet exists.
+    * @param request The {@link UICompletionRequest} receiving the proposals
+    */
+   void computeCompletionProposals(UIContext context, InputComponent<?, VALUETYPE> input, String value,
+            UICompletionRequest<VALUETYPE> request);
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.ui.input;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A request for completion proposals issued to an {@link UIAsyncCompleter}. Collects the published proposals, and
+ * carries the time budget and the cancellation state of the request. This class is thread-safe.
+ */
+public final class UICompletionRequest<VALUETYPE>
+{
+   private final long deadline;
+   private final List<VALUETYPE> proposals = new ArrayList<>();
+   private volatile boolean cancelled;
+
+   /**
+    * Creates a request without a time budget
+    */
+   public UICompletionRequest()
+   {
+      this.deadline = Long.MAX_VALUE;
+   }
+
+   /**
+    * Creates a request whose proposals are expected within the given time budget
+    */
+   public UICompletionRequest(long budget, TimeUnit unit)
+   {
+      this.deadline = System.nanoTime() + unit.toNanos(budget);
+   }
+
+   /**
+    * Publishes a proposal. Ignored if this request was cancelled.
+    */
+   public void addProposal(VALUETYPE proposal)
+   {
+      if (!cancelled && proposal != null)
+      {
+         synchronized (proposals)
+         {
+            proposals.add(proposal);
+         }
+      }
+   }
+
+   /**
+    * @return the proposals published so far
+    */
+   public List<VALUETYPE> getProposals()
+   {
+      synchronized (proposals)
+      {
+         return new ArrayList<>(proposals);
+      }
+   }
+
+   /**
+    * Cancels this request. Proposals published afterwards are ignored.
+    */
+   public void cancel()
+   {
+      this.cancelled = true;
+   }
+
+   /**
+    * @return <code>true</code> if the proposals of this request are no longer needed, and the completer should stop
+    */
+   public boolean isCancelled()
+   {
+      return cancelled;
+   }
+
+   /**
+    * @return <code>true</code> if the time budget of this request has elapsed. UI providers displaying partial results
+    *         may ignore proposals published afterwards.
+    */
+   public boolean isExpired()
+   {
+      return deadline != Long.MAX_VALUE && System.nanoTime() - deadline >= 0;
+   }
+
+   /**
+    * @return the remaining time budget of this request, 0 if expired or {@link Long#MAX_VALUE} if it has no time budget
+    */
+   public long getRemainingTime(TimeUnit unit)
+   {
+      if (deadline == Long.MAX_VALUE)
+         return Long.MAX_VALUE;
+      long remaining = deadline - System.nanoTime();
+      return remaining <= 0 ? 0 : unit.convert(remaining, TimeUnit.NANOSECONDS);
+   }
+}
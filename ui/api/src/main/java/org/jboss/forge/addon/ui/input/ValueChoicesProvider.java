@@ -0,0 +1,30 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.ui.input;
+
+/**
+ * Provides the value choices of a {@link SelectComponent} on demand. Use it instead of
+ * {@link SelectComponent#setValueChoices(Iterable)} when the choices are expensive to compute or too many to be
+ * materialized at once, so that UI providers fetch only the choices they display.
+ * 
+ * @param <VALUETYPE> the value type of the {@link SelectComponent}
+ */
+public interface ValueChoicesProvider<VALUETYPE>
+{
+   /**
+    * Returns the value choices matching the given {@link ValueChoicesQuery}, skipping the first
+    * {@link ValueChoicesQuery#getOffset()} matches and returning at most {@link ValueChoicesQuery#getLimit()} of them.
+    * Choices are matched against their label, and must be returned in a stable order.
+    */
+   Iterable<VALUETYPE> getValueChoices(ValueChoicesQuery query);
+
+   /**
+    * Returns an estimate of the total number of value choices, or -1 if unknown. Must be cheap to compute.
+    */
+   long getEstimatedSize();
+}
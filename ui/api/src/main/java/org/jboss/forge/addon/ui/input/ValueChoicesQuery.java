@@ -0,0 +1,111 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.ui.input;
+
+/**
+ * A search for value choices issued against a {@link ValueChoicesProvider}
+ */
+public final class ValueChoicesQuery
+{
+   /**
+    * How the filter is matched against value choice labels
+    */
+   public enum MatchMode
+   {
+      PREFIX, SUBSTRING
+   }
+
+   /**
+    * Used as limit when all matching value choices are requested
+    */
+   public static final int NO_LIMIT = Integer.MAX_VALUE;
+
+   private final String filter;
+   private final MatchMode matchMode;
+   private final int offset;
+   private final int limit;
+
+   private ValueChoicesQuery(String filter, MatchMode matchMode, int offset, int limit)
+   {
+      if (offset < 0)
+         throw new IllegalArgumentException("Offset must not be negative");
+      if (limit < 0)
+         throw new IllegalArgumentException("Limit must not be negative");
+      this.filter = filter == null ? "" : filter;
+      this.matchMode = matchMode;
+      this.offset = offset;
+      this.limit = limit;
+   }
+
+   /**
+    * Query for all value choices
+    */
+   public static ValueChoicesQuery all()
+   {
+      return new ValueChoicesQuery(null, MatchMode.PREFIX, 0, NO_LIMIT);
+   }
+
+   /**
+    * Query for the value choices whose label starts with the given filter
+    */
+   public static ValueChoicesQuery startingWith(String filter, int offset, int limit)
+   {
+      return new ValueChoicesQuery(filter, MatchMode.PREFIX, offset, limit);
+   }
+
+   /**
+    * Query for the value choices whose label contains the given filter
+    */
+   public static ValueChoicesQuery containing(String filter, int offset, int limit)
+   {
+      return new ValueChoicesQuery(filter, MatchMode.SUBSTRING, offset, limit);
+   }
+
+   /**
+    * @return the filter to be matched against value choice labels. Never null, empty if all labels match.
+    */
+   public String getFilter()
+   {
+      return filter;
+   }
+
+   public MatchMode getMatchMode()
+   {
+      return matchMode;
+   }
+
+   public int getOffset()
+   {
+      return offset;
+   }
+
+   public int getLimit()
+   {
+      return limit;
+   }
+
+   /**
+    * @return <code>true</code> if the given value choice label matches this query's filter
+    */
+   public boolean matches(String label)
+   {
+      if (label == null)
+         return false;
+      else if (matchMode == MatchMode.PREFIX)
+         return label.startsWith(filter);
+      else
+         return label.contains(filter);
+   }
+
+   @Override
+   public String toString()
+   {
+      return "ValueChoicesQuery [filter=" + filter + ", matchMode=" + matchMode + ", offset=" + offset + ", limit="
+               + limit + "]";
+   }
+}
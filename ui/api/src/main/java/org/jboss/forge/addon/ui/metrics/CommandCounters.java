@@ -0,0 +1,100 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.ui.metrics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Counts events, such as facet or project lookups, happening on the current thread while a {@link CommandPhase} is
+ * measured. Counters opened while another one is open on the same thread add their counts to the enclosing one when
+ * closed.
+ */
+public final class CommandCounters implements AutoCloseable
+{
+   /**
+    * Facet lookups done on a project
+    */
+   public static final String FACET_LOOKUPS = "facetLookups";
+
+   /**
+    * Project lookups done through the project factory
+    */
+   public static final String PROJECT_LOOKUPS = "projectLookups";
+
+   private static final ThreadLocal<CommandCounters> current = new ThreadLocal<>();
+
+   private final CommandCounters parent;
+   private final Map<String, Long> counts = new HashMap<>();
+   private boolean closed;
+
+   private CommandCounters(CommandCounters parent)
+   {
+      this.parent = parent;
+   }
+
+   /**
+    * Increments the given counter of the {@link CommandCounters} open on the current thread. Does nothing if none is
+    * open.
+    */
+   public static void increment(String counter)
+   {
+      CommandCounters counters = current.get();
+      if (counters != null)
+      {
+         counters.add(counter, 1);
+      }
+   }
+
+   /**
+    * Opens a {@link CommandCounters} on the current thread. Must be closed on the same thread.
+    */
+   public static CommandCounters open()
+   {
+      CommandCounters counters = new CommandCounters(current.get());
+      current.set(counters);
+      return counters;
+   }
+
+   /**
+    * @return the counts recorded so far, by counter name
+    */
+   public Map<String, Long> getCounts()
+   {
+      return Collections.unmodifiableMap(new HashMap<>(counts));
+   }
+
+   @Override
+   public void close()
+   {
+      if (!closed)
+      {
+         closed = true;
+         if (parent == null)
+         {
+            current.remove();
+         }
+         else
+         {
+            current.set(parent);
+            for (Entry<String, Long> entry : counts.entrySet())
+            {
+               parent.add(entry.getKey(), entry.getValue());
+            }
+         }
+      }
+   }
+
+   private void add(String counter, long count)
+   {
+      Long value = counts.get(counter);
+      counts.put(counter, value == null ? count : value + count);
+   }
+}
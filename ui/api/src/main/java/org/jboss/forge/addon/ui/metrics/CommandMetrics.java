@@ -0,0 +1,40 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.ui.metrics;
+
+import java.util.List;
+
+import org.jboss.forge.addon.ui.command.UICommand;
+import org.jboss.forge.addon.ui.controller.CommandController;
+
+/**
+ * Timings of the {@link CommandPhase}s of each {@link UICommand} run through a {@link CommandController}, with the
+ * {@link CommandCounters} counted during each phase.
+ */
+public interface CommandMetrics
+{
+   /**
+    * @return the {@link CommandStatistics} of each measured command
+    */
+   List<CommandStatistics> getStatistics();
+
+   /**
+    * @return the {@link CommandStatistics} of the given command name, or <code>null</code> if it was never measured
+    */
+   CommandStatistics getStatistics(String commandName);
+
+   /**
+    * @return the {@link CommandStatistics} of the commands that took the most time across all phases, slowest first
+    */
+   List<CommandStatistics> getSlowestCommands(int limit);
+
+   /**
+    * Discards all measurements
+    */
+   void reset();
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.ui.metrics;
+
+import org.jboss.forge.addon.ui.command.UICommand;
+
+/**
+ * The phases of a {@link UICommand} run measured by {@link CommandMetrics}
+ */
+public enum CommandPhase
+{
+   /**
+    * {@link UICommand#initializeUI(org.jboss.forge.addon.ui.context.UIBuilder)}
+    */
+   INITIALIZE_UI,
+   /**
+    * Validation of the inputs and the {@link UICommand}
+    */
+   VALIDATE,
+   /**
+    * Moving to the next step of a wizard
+    */
+   NEXT,
+   /**
+    * {@link UICommand#execute(org.jboss.forge.addon.ui.context.UIExecutionContext)}
+    */
+   EXECUTE;
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.ui.metrics;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An immutable snapshot of the measurements of a single command
+ */
+public final class CommandStatistics
+{
+   private final String commandName;
+   private final Map<CommandPhase, long[]> phases;
+   private final Map<String, Long> counts;
+
+   /**
+    * @param phases the invocation count, total nanoseconds and max nanoseconds of each {@link CommandPhase}, in this
+    *           order
+    * @param counts the totals of each {@link CommandCounters} counter
+    */
+   public CommandStatistics(String commandName, Map<CommandPhase, long[]> phases, Map<String, Long> counts)
+   {
+      this.commandName = commandName;
+      this.phases = new EnumMap<>(CommandPhase.class);
+      for (Map.Entry<CommandPhase, long[]> entry : phases.entrySet())
+      {
+         this.phases.put(entry.getKey(), entry.getValue().clone());
+      }
+      this.counts = Collections.unmodifiableMap(new HashMap<>(counts));
+   }
+
+   public String getCommandName()
+   {
+      return commandName;
+   }
+
+   /**
+    * @return how many times the given {@link CommandPhase} was measured
+    */
+   public long getInvocations(CommandPhase phase)
+   {
+      long[] values = phases.get(phase);
+      return values == null ? 0 : values[0];
+   }
+
+   /**
+    * @return the time spent in the given {@link CommandPhase} across all invocations
+    */
+   public long getTotalTime(CommandPhase phase, TimeUnit unit)
+   {
+      long[] values = phases.get(phase);
+      return values == null ? 0 : unit.convert(values[1], TimeUnit.NANOSECONDS);
+   }
+
+   /**
+    * @return the time spent in the slowest invocation of the given {@link CommandPhase}
+    */
+   public long getMaxTime(CommandPhase phase, TimeUnit unit)
+   {
+      long[] values = phases.get(phase);
+      return values == null ? 0 : unit.convert(values[2], TimeUnit.NANOSECONDS);
+   }
+
+   /**
+    * @return the time spent in all {@link CommandPhase}s
+    */
+   public long getTotalTime(TimeUnit unit)
+   {
+      long total = 0;
+      for (long[] values : phases.values())
+      {
+         total += values[1];
+      }
+      return unit.convert(total, TimeUnit.NANOSECONDS);
+   }
+
+   /**
+    * @return the total of the given counter, such as {@link CommandCounters#FACET_LOOKUPS}
+    */
+   public long getCount(String counter)
+   {
+      Long count = counts.get(counter);
+      return count == null ? 0 : count;
+   }
+
+   /**
+    * @return the totals of all counters, by counter name
+    */
+   public Map<String, Long> getCounts()
+   {
+      return counts;
+   }
+
+   @Override
+   public String toString()
+   {
+      return "CommandStatistics [commandName=" + commandName + ", totalTime="
+               + getTotalTime(TimeUnit.MILLISECONDS) + "ms, counts=" + counts + "]";
+   }
+}
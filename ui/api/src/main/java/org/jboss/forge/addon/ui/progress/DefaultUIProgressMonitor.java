@@ -15,9 +15,9 @@ package org.jboss.forge.addon.ui.progress;
  */
 public class DefaultUIProgressMonitor implements UIProgressMonitor
 {
-   private String taskName;
-   private int currentWork;
-   private int totalWork;
+   private volatile String taskName;
+   private volatile int currentWork;
+   private volatile int totalWork;
    private volatile boolean cancelled;
 
    @Override
@@ -42,7 +42,7 @@ public class DefaultUIProgressMonitor implements UIProgressMonitor
    @Override
    public void setCancelled(boolean value)
    {
-      this.cancelled = cancelled;
+      this.cancelled = value;
    }
 
    @Override
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.ui.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the thread pools running background work in addons. Their threads are daemon threads named after the work
+ * they run, so they never prevent Forge from exiting and show up clearly in thread dumps.
+ */
+public final class DaemonExecutors
+{
+   private DaemonExecutors()
+   {
+   }
+
+   /**
+    * Creates a {@link ThreadFactory} of daemon threads named <code>name 1</code>, <code>name 2</code>...
+    */
+   public static ThreadFactory threadFactory(final String name)
+   {
+      return new ThreadFactory()
+      {
+         private final AtomicInteger count = new AtomicInteger();
+
+         @Override
+         public Thread newThread(Runnable r)
+         {
+            Thread thread = new Thread(r, name + " " + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+         }
+      };
+   }
+
+   /**
+    * Creates a thread pool of the given number of daemon threads
+    *
+    * @see Executors#newFixedThreadPool(int, ThreadFactory)
+    */
+   public static ExecutorService newFixedThreadPool(String name, int threads)
+   {
+      return Executors.newFixedThreadPool(threads, threadFactory(name));
+   }
+
+   /**
+    * Creates a thread pool of daemon threads, created on demand and reused while they are not idle for a minute
+    *
+    * @see Executors#newCachedThreadPool(ThreadFactory)
+    */
+   public static ExecutorService newCachedThreadPool(String name)
+   {
+      return Executors.newCachedThreadPool(threadFactory(name));
+   }
+
+   /**
+    * Runs the given tasks on a pool of up to the given number of daemon threads, shut down once they are done. The tasks
+    * run on the calling thread when there is a single thread or a single task.
+    *
+    * @return the results of the tasks, in the order of the tasks
+    * @throws Exception the exception thrown by the first failing task, in the order of the tasks
+    */
+   public static <T> List<T> invokeAll(String name, int threads, List<? extends Callable<T>> tasks) throws Exception
+   {
+      List<T> results = new ArrayList<T>(tasks.size());
+      int poolSize = Math.min(threads, tasks.size());
+      if (poolSize <= 1)
+      {
+         for (Callable<T> task : tasks)
+         {
+            results.add(task.call());
+         }
+         return results;
+      }
+      ExecutorService executor = newFixedThreadPool(name, poolSize);
+      try
+      {
+         for (Future<T> future : executor.invokeAll(tasks))
+         {
+            try
+            {
+               results.add(future.get());
+            }
+            catch (ExecutionException e)
+            {
+               Throwable cause = e.getCause();
+               if (cause instanceof Error)
+               {
+                  throw (Error) cause;
+               }
+               throw (cause instanceof Exception) ? (Exception) cause : e;
+            }
+         }
+      }
+      finally
+      {
+         executor.shutdownNow();
+      }
+      return results;
+   }
+}
@@ -8,8 +8,10 @@
 package org.jboss.forge.addon.ui.util;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.jboss.forge.addon.convert.CompositeConverter;
 import org.jboss.forge.addon.convert.Converter;
@@ -23,6 +25,7 @@ import org.jboss.forge.addon.ui.input.ManyValued;
 import org.jboss.forge.addon.ui.input.SelectComponent;
 import org.jboss.forge.addon.ui.input.SingleValued;
 import org.jboss.forge.addon.ui.input.UICompleter;
+import org.jboss.forge.addon.ui.input.ValueChoicesProvider;
 import org.jboss.forge.furnace.util.Strings;
 
 /**
@@ -139,9 +142,11 @@ public final class InputComponents
          List<Object> convertedValuesList = new ArrayList<Object>();
          if (value instanceof Iterable)
          {
+            // Value choices are evaluated and indexed once for all the values being set
+            Map<Class<?>, Map<Object, Object>> valueChoicesIndexes = new HashMap<Class<?>, Map<Object, Object>>();
             for (Object itValue : (Iterable) value)
             {
-               Object singleValue = convertToUIInputValue(converterFactory, input, itValue);
+               Object singleValue = convertToUIInputValue(converterFactory, input, itValue, valueChoicesIndexes);
                if (singleValue != null)
                {
                   convertedValuesList.add(singleValue);
@@ -178,6 +183,17 @@ public final class InputComponents
     */
    public static Object convertToUIInputValue(final ConverterFactory converterFactory,
             final InputComponent<?, ?> input, final Object value)
+   {
+      return convertToUIInputValue(converterFactory, input, value, null);
+   }
+
+   /**
+    * @param valueChoicesIndexes the value choices indexes already built for the given input, keyed by source type. May
+    *           be null if the value choices are to be scanned only once.
+    */
+   private static Object convertToUIInputValue(final ConverterFactory converterFactory,
+            final InputComponent<?, ?> input, final Object value,
+            final Map<Class<?>, Map<Object, Object>> valueChoicesIndexes)
    {
       final Object result;
       Class<Object> sourceType = (Class<Object>) value.getClass();
@@ -187,7 +203,6 @@ public final class InputComponents
          if (input instanceof SelectComponent)
          {
             SelectComponent<?, Object> selectComponent = (SelectComponent<?, Object>) input;
-            Iterable<Object> valueChoices = selectComponent.getValueChoices();
             final Converter<Object, ?> selectConverter;
             if (String.class.isAssignableFrom(sourceType))
             {
@@ -198,18 +213,32 @@ public final class InputComponents
                selectConverter = converterFactory.getConverter(targetType, sourceType);
             }
             Object chosenObj = null;
-            if (valueChoices != null)
+            if (valueChoicesIndexes == null)
             {
-               for (Object valueChoice : valueChoices)
+               Iterable<Object> valueChoices = selectComponent.getValueChoices();
+               if (valueChoices != null)
                {
-                  Object convertedObj = selectConverter.convert(valueChoice);
-                  if (convertedObj.equals(value))
+                  for (Object valueChoice : valueChoices)
                   {
-                     chosenObj = valueChoice;
-                     break;
+                     Object convertedObj = selectConverter.convert(valueChoice);
+                     if (value.equals(convertedObj))
+                     {
+                        chosenObj = valueChoice;
+                        break;
+                     }
                   }
                }
             }
+            else
+            {
+               Map<Object, Object> index = valueChoicesIndexes.get(sourceType);
+               if (index == null)
+               {
+                  index = indexValueChoices(selectComponent.getValueChoices(), selectConverter);
+                  valueChoicesIndexes.put(sourceType, index);
+               }
+               chosenObj = index.get(value);
+            }
 //            Assert.notNull(chosenObj, "'" + value + "' is not a valid value for " + input.getName());
             result = chosenObj;
          }
@@ -244,6 +273,27 @@ public final class InputComponents
       return result;
    }
 
+   /**
+    * Maps each converted value choice to the first value choice it was converted from
+    */
+   private static Map<Object, Object> indexValueChoices(Iterable<Object> valueChoices,
+            Converter<Object, ?> selectConverter)
+   {
+      Map<Object, Object> index = new HashMap<Object, Object>();
+      if (valueChoices != null)
+      {
+         for (Object valueChoice : valueChoices)
+         {
+            Object convertedObj = selectConverter.convert(valueChoice);
+            if (convertedObj != null && !index.containsKey(convertedObj))
+            {
+               index.put(convertedObj, valueChoice);
+            }
+         }
+      }
+      return index;
+   }
+
    /**
     * Returns if there is a value set for this {@link InputComponent}
     */
@@ -317,6 +367,25 @@ public final class InputComponents
       return converter;
    }
 
+   /**
+    * Returns the {@link ValueChoicesProvider} of a {@link SelectComponent}. If none was set, returns a
+    * {@link ValueChoicesProvider} that matches the component's value choices against their item labels in memory.
+    * 
+    * @param converterFactory May be null
+    * @param input
+    */
+   public static <IMPLTYPE, VALUETYPE> ValueChoicesProvider<VALUETYPE> getValueChoicesProvider(
+            final ConverterFactory converterFactory,
+            final SelectComponent<IMPLTYPE, VALUETYPE> input)
+   {
+      ValueChoicesProvider<VALUETYPE> provider = input.getValueChoicesProvider();
+      if (provider == null)
+      {
+         provider = new IterableValueChoicesProvider<>(input, getItemLabelConverter(converterFactory, input));
+      }
+      return provider;
+   }
+
    /**
     * Returns the label for this component
     * 
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.ui.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.forge.addon.convert.Converter;
+import org.jboss.forge.addon.ui.input.SelectComponent;
+import org.jboss.forge.addon.ui.input.ValueChoicesProvider;
+import org.jboss.forge.addon.ui.input.ValueChoicesQuery;
+
+/**
+ * A {@link ValueChoicesProvider} over the value choices of a {@link SelectComponent} that has no
+ * {@link ValueChoicesProvider} of its own. Matching is done in memory against the item labels, or against
+ * {@link Object#toString()} if no item label {@link Converter} is available.
+ */
+class IterableValueChoicesProvider<VALUETYPE> implements ValueChoicesProvider<VALUETYPE>
+{
+   private final SelectComponent<?, VALUETYPE> selectComponent;
+   private final Converter<VALUETYPE, String> itemLabelConverter;
+
+   IterableValueChoicesProvider(SelectComponent<?, VALUETYPE> selectComponent,
+            Converter<VALUETYPE, String> itemLabelConverter)
+   {
+      this.selectComponent = selectComponent;
+      this.itemLabelConverter = itemLabelConverter;
+   }
+
+   @Override
+   public Iterable<VALUETYPE> getValueChoices(ValueChoicesQuery query)
+   {
+      List<VALUETYPE> result = new ArrayList<>();
+      Iterable<VALUETYPE> valueChoices = selectComponent.getValueChoices();
+      if (valueChoices != null)
+      {
+         int skipped = 0;
+         for (VALUETYPE choice : valueChoices)
+         {
+            if (result.size() >= query.getLimit())
+               break;
+            String label = (itemLabelConverter == null) ? String.valueOf(choice) : itemLabelConverter.convert(choice);
+            if (query.matches(label))
+            {
+               if (skipped < query.getOffset())
+                  skipped++;
+               else
+                  result.add(choice);
+            }
+         }
+      }
+      return result;
+   }
+
+   /**
+    * Returns -1: the value choices of the {@link SelectComponent} are computed by a {@link java.util.concurrent.Callable}
+    * that may be expensive, so they are not computed just to be counted
+    */
+   @Override
+   public long getEstimatedSize()
+   {
+      return -1;
+   }
+}
@@ -0,0 +1,61 @@
+/**
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.ui.input;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.forge.addon.ui.context.UIContext;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link UICompletionRequest} and {@link AbstractUIAsyncCompleter} classes
+ */
+public class UICompletionRequestTest
+{
+   @Test
+   public void testProposalsIgnoredAfterCancel()
+   {
+      UICompletionRequest<String> request = new UICompletionRequest<>();
+      request.addProposal("a");
+      request.addProposal(null);
+      request.cancel();
+      request.addProposal("b");
+      Assert.assertTrue(request.isCancelled());
+      Assert.assertEquals(Arrays.asList("a"), request.getProposals());
+   }
+
+   @Test
+   public void testTimeBudget()
+   {
+      UICompletionRequest<String> unbounded = new UICompletionRequest<>();
+      Assert.assertFalse(unbounded.isExpired());
+      Assert.assertEquals(Long.MAX_VALUE, unbounded.getRemainingTime(TimeUnit.MILLISECONDS));
+
+      UICompletionRequest<String> expired = new UICompletionRequest<>(0, TimeUnit.MILLISECONDS);
+      Assert.assertTrue(expired.isExpired());
+      Assert.assertEquals(0, expired.getRemainingTime(TimeUnit.MILLISECONDS));
+   }
+
+   @Test
+   public void testSynchronousCompletion()
+   {
+      UIAsyncCompleter<String> completer = new AbstractUIAsyncCompleter<String>()
+      {
+         @Override
+         public void computeCompletionProposals(UIContext context, InputComponent<?, String> input, String value,
+                  UICompletionRequest<String> request)
+         {
+            request.addProposal(value + "1");
+            request.addProposal(value + "2");
+         }
+      };
+      Assert.assertEquals(Arrays.asList("a1", "a2"), completer.getCompletionProposals(null, null, "a"));
+   }
+}
@@ -0,0 +1,45 @@
+/**
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.ui.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link CommandCounters} class
+ */
+public class CommandCountersTest
+{
+   @Test
+   public void testIncrementWithoutOpenCountersIsIgnored()
+   {
+      CommandCounters.increment(CommandCounters.FACET_LOOKUPS);
+      try (CommandCounters counters = CommandCounters.open())
+      {
+         Assert.assertTrue(counters.getCounts().isEmpty());
+      }
+   }
+
+   @Test
+   public void testNestedCountersAddToEnclosing()
+   {
+      try (CommandCounters outer = CommandCounters.open())
+      {
+         CommandCounters.increment(CommandCounters.PROJECT_LOOKUPS);
+         try (CommandCounters inner = CommandCounters.open())
+         {
+            CommandCounters.increment(CommandCounters.FACET_LOOKUPS);
+            CommandCounters.increment(CommandCounters.FACET_LOOKUPS);
+            Assert.assertEquals(Long.valueOf(2), inner.getCounts().get(CommandCounters.FACET_LOOKUPS));
+            Assert.assertNull(inner.getCounts().get(CommandCounters.PROJECT_LOOKUPS));
+         }
+         Assert.assertEquals(Long.valueOf(2), outer.getCounts().get(CommandCounters.FACET_LOOKUPS));
+         Assert.assertEquals(Long.valueOf(1), outer.getCounts().get(CommandCounters.PROJECT_LOOKUPS));
+      }
+   }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.ui.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DaemonExecutorsTest
+{
+   @Test
+   public void testResultsAreInTaskOrder() throws Exception
+   {
+      List<Callable<Integer>> tasks = new ArrayList<Callable<Integer>>();
+      for (int i = 0; i < 8; i++)
+      {
+         final int value = i;
+         tasks.add(new Callable<Integer>()
+         {
+            @Override
+            public Integer call() throws Exception
+            {
+               Thread.sleep(8 - value);
+               return value;
+            }
+         });
+      }
+      Assert.assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7), DaemonExecutors.invokeAll("Test", 4, tasks));
+   }
+
+   @Test
+   public void testTasksRunOnNamedDaemonThreads() throws Exception
+   {
+      List<Thread> threads = DaemonExecutors.invokeAll("Test", 2, Arrays.asList(currentThread(), currentThread()));
+      for (Thread thread : threads)
+      {
+         Assert.assertTrue(thread.isDaemon());
+         Assert.assertTrue(thread.getName(), thread.getName().startsWith("Test "));
+      }
+   }
+
+   @Test
+   public void testSingleThreadRunsOnTheCaller() throws Exception
+   {
+      Assert.assertEquals(Arrays.asList(Thread.currentThread(), Thread.currentThread()),
+               DaemonExecutors.invokeAll("Test", 1, Arrays.asList(currentThread(), currentThread())));
+   }
+
+   @Test(expected = IOException.class)
+   public void testTaskExceptionIsRethrown() throws Exception
+   {
+      Callable<Thread> failing = new Callable<Thread>()
+      {
+         @Override
+         public Thread call() throws Exception
+         {
+            throw new IOException("failed");
+         }
+      };
+      DaemonExecutors.invokeAll("Test", 2, Arrays.asList(currentThread(), failing));
+   }
+
+   private Callable<Thread> currentThread()
+   {
+      return new Callable<Thread>()
+      {
+         @Override
+         public Thread call()
+         {
+            return Thread.currentThread();
+         }
+      };
+   }
+}
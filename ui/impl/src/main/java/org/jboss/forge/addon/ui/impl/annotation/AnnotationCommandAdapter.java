@@ -7,18 +7,16 @@
 
 package org.jboss.forge.addon.ui.impl.annotation;
 
-import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.jboss.forge.addon.ui.annotation.Command;
-import org.jboss.forge.addon.ui.annotation.Option;
 import org.jboss.forge.addon.ui.command.UICommand;
 import org.jboss.forge.addon.ui.context.UIBuilder;
 import org.jboss.forge.addon.ui.context.UIContext;
 import org.jboss.forge.addon.ui.context.UIExecutionContext;
 import org.jboss.forge.addon.ui.context.UIValidationContext;
+import org.jboss.forge.addon.ui.impl.annotation.CommandMethodBinding.InputParameter;
 import org.jboss.forge.addon.ui.impl.input.InputComponentProducer;
 import org.jboss.forge.addon.ui.input.InputComponent;
 import org.jboss.forge.addon.ui.input.SelectComponent;
@@ -40,14 +38,20 @@ public class AnnotationCommandAdapter implements UICommand
 {
    private final List<InputComponent<?, ?>> inputs = new ArrayList<>();
    private final InputComponentProducer factory;
-   private final Method method;
+   private final CommandMethodBinding binding;
    private final Object instance;
    private final List<Predicate<UIContext>> enabledPredicates;
 
    public AnnotationCommandAdapter(Method method, Object instance, InputComponentProducer factory,
             List<Predicate<UIContext>> enabledPredicates)
    {
-      this.method = method;
+      this(CommandMethodBinding.of(method), instance, factory, enabledPredicates);
+   }
+
+   public AnnotationCommandAdapter(CommandMethodBinding binding, Object instance, InputComponentProducer factory,
+            List<Predicate<UIContext>> enabledPredicates)
+   {
+      this.binding = binding;
       this.instance = instance;
       this.factory = factory;
       this.enabledPredicates = enabledPredicates;
@@ -56,14 +60,8 @@ public class AnnotationCommandAdapter implements UICommand
    @Override
    public UICommandMetadata getMetadata(UIContext context)
    {
-      Command ann = method.getAnnotation(Command.class);
-      String name = ann.value();
-      if (name.isEmpty())
-      {
-         name = method.getName();
-      }
-      return Metadata.forCommand(method.getDeclaringClass()).name(name).description(ann.help())
-               .category(Categories.create(ann.categories()));
+      return Metadata.forCommand(binding.getMethod().getDeclaringClass()).name(binding.getName())
+               .description(binding.getHelp()).category(Categories.create(binding.getCategories()));
    }
 
    @Override
@@ -80,41 +78,29 @@ public class AnnotationCommandAdapter implements UICommand
    @Override
    public void initializeUI(UIBuilder builder) throws Exception
    {
-      int position = 0;
-      for (Class<?> parameterType : method.getParameterTypes())
+      for (InputParameter parameter : binding.getInputParameters())
       {
-         if (!ReservedParameters.isReservedParameter(parameterType))
+         Class<?> parameterType = parameter.getType();
+         String paramName = parameter.getName();
+         char shortName = parameter.getShortName();
+         InputComponent<?, ?> input;
+         if (Iterable.class.isAssignableFrom(parameterType))
+         {
+            // TODO: UIInputMany or UISelectMany ?
+            input = factory.createInputMany(paramName, shortName, parameterType);
+         }
+         else if (parameterType.isEnum() || Boolean.class == parameterType)
          {
-            Option option = null;
-            for (Annotation annotation : method.getParameterAnnotations()[position])
-            {
-               if (annotation instanceof Option)
-               {
-                  option = (Option) annotation;
-               }
-            }
-            char shortName = option.shortName();
-            String paramName = (option == null || option.value().isEmpty()) ? "param" + position : option.value();
-            InputComponent<?, ?> input;
-            if (Iterable.class.isAssignableFrom(parameterType))
-            {
-               // TODO: UIInputMany or UISelectMany ?
-               input = factory.createInputMany(paramName, shortName, parameterType);
-            }
-            else if (parameterType.isEnum() || Boolean.class == parameterType)
-            {
-               input = factory.createSelectOne(paramName, shortName, parameterType);
-               factory.setupSelectComponent((SelectComponent<?, ?>) input);
-            }
-            else
-            {
-               input = factory.createInput(paramName, shortName, parameterType);
-            }
-            factory.preconfigureInput(input, option);
-            builder.add(input);
-            inputs.add(input);
+            input = factory.createSelectOne(paramName, shortName, parameterType);
+            factory.setupSelectComponent((SelectComponent<?, ?>) input);
          }
-         position++;
+         else
+         {
+            input = factory.createInput(paramName, shortName, parameterType);
+         }
+         factory.preconfigureInput(input, parameter.getOption());
+         builder.add(input);
+         inputs.add(input);
       }
    }
 
@@ -127,23 +113,12 @@ public class AnnotationCommandAdapter implements UICommand
    @Override
    public Result execute(UIExecutionContext context) throws Exception
    {
-      List<Object> args = new ArrayList<>();
-      int idx = 0;
-      for (Class<?> type : method.getParameterTypes())
+      Object[] inputValues = new Object[inputs.size()];
+      for (int i = 0; i < inputValues.length; i++)
       {
-         Object value;
-         if (ReservedParameters.isReservedParameter(type))
-         {
-            value = ReservedParameters.getReservedParameter(context, type);
-         }
-         else
-         {
-            value = InputComponents.getValueFor(inputs.get(idx));
-            idx++;
-         }
-         args.add(value);
+         inputValues[i] = InputComponents.getValueFor(inputs.get(i));
       }
-      Object result = method.invoke(instance, args.toArray(new Object[args.size()]));
+      Object result = binding.invoke(instance, context, inputValues);
       if (result == null)
       {
          return Results.success();
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.ui.impl.annotation;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.forge.addon.ui.annotation.Command;
+import org.jboss.forge.addon.ui.annotation.Option;
+import org.jboss.forge.addon.ui.context.UIContext;
+import org.jboss.forge.addon.ui.context.UIExecutionContext;
+import org.jboss.forge.addon.ui.util.InputComponents;
+import org.jboss.forge.furnace.util.Predicate;
+
+/**
+ * The invocation plan of a {@link Command} method, computed once when the method is discovered: the
+ * {@link MethodHandle} spreading an argument array into the method parameters, which parameters are reserved and
+ * which are bound to inputs, and the {@link Command} attributes. Methods that are not publicly accessible are invoked
+ * through reflection. Either way, the exceptions thrown by the method are rethrown as they are.
+ */
+public final class CommandMethodBinding
+{
+   private final Method method;
+   /**
+    * <code>null</code> if the method must be invoked through reflection
+    */
+   private final MethodHandle invoker;
+   private final Class<?>[] parameterTypes;
+   private final boolean[] reserved;
+   private final List<InputParameter> inputParameters;
+
+   private final String name;
+   private final String help;
+   private final String[] categories;
+   private final List<Class<? extends Predicate<UIContext>>> enabledPredicateTypes;
+
+   private CommandMethodBinding(Method method, MethodHandle invoker)
+   {
+      this.method = method;
+      this.invoker = invoker;
+      this.parameterTypes = method.getParameterTypes();
+      this.reserved = new boolean[parameterTypes.length];
+
+      List<InputParameter> inputParameters = new ArrayList<>();
+      Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+      for (int position = 0; position < parameterTypes.length; position++)
+      {
+         if (ReservedParameters.isReservedParameter(parameterTypes[position]))
+         {
+            reserved[position] = true;
+         }
+         else
+         {
+            Option option = null;
+            for (Annotation annotation : parameterAnnotations[position])
+            {
+               if (annotation instanceof Option)
+               {
+                  option = (Option) annotation;
+               }
+            }
+            inputParameters.add(new InputParameter(position, parameterTypes[position], option));
+         }
+      }
+      this.inputParameters = Collections.unmodifiableList(inputParameters);
+
+      Command ann = method.getAnnotation(Command.class);
+      this.name = ann.value().isEmpty() ? method.getName() : ann.value();
+      this.help = ann.help();
+      this.categories = ann.categories();
+      this.enabledPredicateTypes = Collections.unmodifiableList(Arrays.asList(ann.enabled()));
+   }
+
+   /**
+    * Creates the {@link CommandMethodBinding} for the given {@link Command} method.
+    */
+   public static CommandMethodBinding of(Method method)
+   {
+      MethodHandle invoker;
+      try
+      {
+         MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+         if (Modifier.isStatic(method.getModifiers()))
+         {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+         }
+         int parameterCount = method.getParameterTypes().length;
+         invoker = handle.asType(MethodType.genericMethodType(parameterCount + 1))
+                  .asSpreader(Object[].class, parameterCount);
+      }
+      catch (IllegalAccessException e)
+      {
+         // Not accessible through a public lookup, fall back to reflection
+         method.setAccessible(true);
+         invoker = null;
+      }
+      return new CommandMethodBinding(method, invoker);
+   }
+
+   /**
+    * Invokes the underlying method on the given instance, binding reserved parameters from the given
+    * {@link UIExecutionContext} and the other parameters from the given input values, in declaration order.
+    */
+   public Object invoke(Object instance, UIExecutionContext context, Object[] inputValues) throws Exception
+   {
+      Object[] args = new Object[parameterTypes.length];
+      int idx = 0;
+      for (int i = 0; i < args.length; i++)
+      {
+         if (reserved[i])
+         {
+            args[i] = ReservedParameters.getReservedParameter(context, parameterTypes[i]);
+         }
+         else
+         {
+            args[i] = inputValues[idx++];
+         }
+      }
+      if (invoker == null)
+      {
+         try
+         {
+            return method.invoke(instance, args);
+         }
+         catch (InvocationTargetException e)
+         {
+            throw unwrap(e.getCause());
+         }
+      }
+      try
+      {
+         return invoker.invokeExact(instance, args);
+      }
+      catch (Throwable t)
+      {
+         throw unwrap(t);
+      }
+   }
+
+   private static Exception unwrap(Throwable t)
+   {
+      if (t instanceof Error)
+      {
+         throw (Error) t;
+      }
+      else if (t instanceof Exception)
+      {
+         return (Exception) t;
+      }
+      else
+      {
+         return new InvocationTargetException(t);
+      }
+   }
+
+   public Method getMethod()
+   {
+      return method;
+   }
+
+   /**
+    * @return the parameters bound to inputs, in declaration order
+    */
+   public List<InputParameter> getInputParameters()
+   {
+      return inputParameters;
+   }
+
+   public String getName()
+   {
+      return name;
+   }
+
+   public String getHelp()
+   {
+      return help;
+   }
+
+   public String[] getCategories()
+   {
+      return categories.clone();
+   }
+
+   public List<Class<? extends Predicate<UIContext>>> getEnabledPredicateTypes()
+   {
+      return enabledPredicateTypes;
+   }
+
+   /**
+    * A method parameter bound to an input
+    */
+   public static final class InputParameter
+   {
+      private final int position;
+      private final Class<?> type;
+      private final Option option;
+
+      private InputParameter(int position, Class<?> type, Option option)
+      {
+         this.position = position;
+         this.type = type;
+         this.option = option;
+      }
+
+      public Class<?> getType()
+      {
+         return type;
+      }
+
+      /**
+       * @return the {@link Option} annotating this parameter, or <code>null</code> if not annotated
+       */
+      public Option getOption()
+      {
+         return option;
+      }
+
+      public String getName()
+      {
+         return (option == null || option.value().isEmpty()) ? "param" + position : option.value();
+      }
+
+      public char getShortName()
+      {
+         return option == null ? InputComponents.DEFAULT_SHORT_NAME : option.shortName();
+      }
+   }
+}
@@ -10,9 +10,12 @@ package org.jboss.forge.addon.ui.impl.command;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -25,6 +28,7 @@ import org.jboss.forge.addon.ui.command.CommandProvider;
 import org.jboss.forge.addon.ui.command.UICommand;
 import org.jboss.forge.addon.ui.context.UIContext;
 import org.jboss.forge.addon.ui.impl.annotation.AnnotationCommandAdapter;
+import org.jboss.forge.addon.ui.impl.annotation.CommandMethodBinding;
 import org.jboss.forge.addon.ui.impl.extension.AnnotatedCommandExtension;
 import org.jboss.forge.addon.ui.impl.input.InputComponentProducer;
 import org.jboss.forge.furnace.addons.AddonId;
@@ -52,15 +56,18 @@ public class AnnotatedCommandProvider implements CommandProvider
 
    private Logger logger = Logger.getLogger(getClass().getName());
 
+   private final Map<CommandMethodBinding, List<Predicate<UIContext>>> enabledPredicates = new ConcurrentHashMap<>();
+   private volatile long version = -1;
+
    @Override
    public Iterable<UICommand> getCommands()
    {
       Set<UICommand> result = new HashSet<>();
-      for (Method method : extension.getAnnotatedCommandMethods())
+      for (CommandMethodBinding binding : extension.getAnnotatedCommandBindings())
       {
          try
          {
-            UICommand cmd = createAnnotatedCommand(method);
+            UICommand cmd = createAnnotatedCommand(binding);
             if (cmd != null)
             {
                result.add(cmd);
@@ -68,14 +75,15 @@ public class AnnotatedCommandProvider implements CommandProvider
          }
          catch (Exception e)
          {
-            logger.log(Level.SEVERE, "Error while creating command for method " + method.getName(), e);
+            logger.log(Level.SEVERE, "Error while creating command for method " + binding.getMethod().getName(), e);
          }
       }
       return result;
    }
 
-   private UICommand createAnnotatedCommand(Method method)
+   private UICommand createAnnotatedCommand(CommandMethodBinding binding)
    {
+      Method method = binding.getMethod();
       Imported<?> service = registry.getServices(method.getDeclaringClass());
       if (service.isUnsatisfied())
       {
@@ -84,14 +92,33 @@ public class AnnotatedCommandProvider implements CommandProvider
          return null;
       }
       Object instance = service.get();
-      Command ann = method.getAnnotation(Command.class);
+      return new AnnotationCommandAdapter(binding, instance, factory, getEnabledPredicates(binding));
+   }
 
-      List<Predicate<UIContext>> enabledPredicates = new ArrayList<>();
-      for (Class<? extends Predicate<UIContext>> type : ann.enabled())
+   /**
+    * Returns the enabled predicates of the given {@link CommandMethodBinding}, looked up once per
+    * {@link AddonRegistry} version
+    */
+   private List<Predicate<UIContext>> getEnabledPredicates(CommandMethodBinding binding)
+   {
+      long currentVersion = registry.getVersion();
+      if (version != currentVersion)
+      {
+         enabledPredicates.clear();
+         version = currentVersion;
+      }
+      List<Predicate<UIContext>> result = enabledPredicates.get(binding);
+      if (result == null)
       {
-         enabledPredicates.add(registry.getServices(type).get());
+         result = new ArrayList<>();
+         for (Class<? extends Predicate<UIContext>> type : binding.getEnabledPredicateTypes())
+         {
+            result.add(registry.getServices(type).get());
+         }
+         result = Collections.unmodifiableList(result);
+         enabledPredicates.put(binding, result);
       }
-      return new AnnotationCommandAdapter(method, instance, factory, enabledPredicates);
+      return result;
    }
 
    public void addonInitialized(@Observes PreShutdown shutdown)
@@ -9,6 +9,11 @@ package org.jboss.forge.addon.ui.impl.controller;
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 import org.jboss.forge.addon.ui.UIRuntime;
 import org.jboss.forge.addon.ui.command.CommandExecutionListener;
@@ -17,9 +22,15 @@ import org.jboss.forge.addon.ui.context.UIContext;
 import org.jboss.forge.addon.ui.context.UIExecutionContext;
 import org.jboss.forge.addon.ui.controller.CommandController;
 import org.jboss.forge.addon.ui.impl.context.UIValidationContextImpl;
+import org.jboss.forge.addon.ui.impl.metrics.CommandMetricsImpl;
+import org.jboss.forge.addon.ui.impl.metrics.PhaseRecording;
 import org.jboss.forge.addon.ui.input.InputComponent;
+import org.jboss.forge.addon.ui.metadata.UICommandMetadata;
+import org.jboss.forge.addon.ui.metrics.CommandPhase;
 import org.jboss.forge.addon.ui.output.UIMessage;
+import org.jboss.forge.addon.ui.progress.UIProgressMonitor;
 import org.jboss.forge.addon.ui.result.Result;
+import org.jboss.forge.addon.ui.util.DaemonExecutors;
 import org.jboss.forge.furnace.addons.AddonRegistry;
 import org.jboss.forge.furnace.util.Assert;
 
@@ -31,18 +42,26 @@ import org.jboss.forge.furnace.util.Assert;
  */
 public abstract class AbstractCommandController implements CommandController
 {
+   /**
+    * Runs {@link #executeAsync(UIProgressMonitor)} when no executor is given
+    */
+   private static final ExecutorService DEFAULT_EXECUTOR = DaemonExecutors.newCachedThreadPool("Forge Command Execution");
+
    protected final AddonRegistry addonRegistry;
    protected final UIRuntime runtime;
    protected final UIContext context;
    protected final UICommand initialCommand;
+   protected final CommandMetricsImpl metrics;
+   private String commandName;
 
    protected AbstractCommandController(AddonRegistry addonRegistry, UIRuntime runtime,
-            UICommand initialCommand, UIContext context)
+            UICommand initialCommand, UIContext context, CommandMetricsImpl metrics)
    {
       this.addonRegistry = addonRegistry;
       this.runtime = runtime;
       this.initialCommand = initialCommand;
       this.context = context;
+      this.metrics = metrics;
    }
 
    protected void assertInitialized()
@@ -55,6 +74,69 @@ public abstract class AbstractCommandController implements CommandController
       Assert.isTrue(isValid(), "Controller is not in valid state.");
    }
 
+   @Override
+   public Result execute() throws Exception
+   {
+      assertInitialized();
+      assertValid();
+      try (PhaseRecording recording = startRecording(CommandPhase.EXECUTE))
+      {
+         return execute(runtime.createProgressMonitor(context));
+      }
+   }
+
+   @Override
+   public Future<Result> executeAsync(UIProgressMonitor progressMonitor)
+   {
+      return executeAsync(DEFAULT_EXECUTOR, progressMonitor);
+   }
+
+   @Override
+   public Future<Result> executeAsync(Executor executor, final UIProgressMonitor progressMonitor)
+   {
+      Assert.notNull(executor, "Executor must not be null.");
+      Assert.notNull(progressMonitor, "UIProgressMonitor must not be null.");
+      assertInitialized();
+      assertValid();
+      FutureTask<Result> task = new ExecutionTask(new Callable<Result>()
+      {
+         @Override
+         public Result call() throws Exception
+         {
+            try (PhaseRecording recording = startRecording(CommandPhase.EXECUTE))
+            {
+               return execute(progressMonitor);
+            }
+            finally
+            {
+               progressMonitor.done();
+            }
+         }
+      }, progressMonitor);
+      executor.execute(task);
+      return task;
+   }
+
+   /**
+    * Executes the underlying command, reporting progress to the given {@link UIProgressMonitor}. Callers have already
+    * asserted that this controller is initialized and valid.
+    */
+   protected abstract Result execute(UIProgressMonitor progressMonitor) throws Exception;
+
+   /**
+    * Starts measuring the given {@link CommandPhase} of the initial command of this controller
+    */
+   protected PhaseRecording startRecording(CommandPhase phase)
+   {
+      if (commandName == null)
+      {
+         UICommandMetadata metadata = initialCommand.getMetadata(context);
+         commandName = (metadata == null || metadata.getName() == null) ? initialCommand.getClass().getName()
+                  : metadata.getName();
+      }
+      return metrics.start(commandName, phase);
+   }
+
    @Override
    public List<UIMessage> validate(InputComponent<?, ?> input)
    {
@@ -124,4 +206,25 @@ public abstract class AbstractCommandController implements CommandController
          listener.postCommandExecuted(command, executionContext, currentResult);
       }
    }
+
+   /**
+    * Propagates the cancellation of the {@link Future} to the {@link UIProgressMonitor} polled by the command
+    */
+   private static class ExecutionTask extends FutureTask<Result>
+   {
+      private final UIProgressMonitor progressMonitor;
+
+      ExecutionTask(Callable<Result> callable, UIProgressMonitor progressMonitor)
+      {
+         super(callable);
+         this.progressMonitor = progressMonitor;
+      }
+
+      @Override
+      public boolean cancel(boolean mayInterruptIfRunning)
+      {
+         progressMonitor.setCancelled(true);
+         return super.cancel(mayInterruptIfRunning);
+      }
+   }
 }
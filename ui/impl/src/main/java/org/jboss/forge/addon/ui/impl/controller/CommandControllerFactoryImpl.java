@@ -20,6 +20,7 @@ import org.jboss.forge.addon.ui.controller.CommandController;
 import org.jboss.forge.addon.ui.controller.CommandControllerFactory;
 import org.jboss.forge.addon.ui.controller.SingleCommandController;
 import org.jboss.forge.addon.ui.controller.WizardCommandController;
+import org.jboss.forge.addon.ui.impl.metrics.CommandMetricsImpl;
 import org.jboss.forge.addon.ui.wizard.UIWizard;
 import org.jboss.forge.furnace.addons.AddonRegistry;
 import org.jboss.forge.furnace.proxy.Proxies;
@@ -36,12 +37,14 @@ public class CommandControllerFactoryImpl implements CommandControllerFactory
 {
    private final AddonRegistry addonRegistry;
    private final Imported<UICommandTransformer> transformers;
+   private final CommandMetricsImpl metrics;
    private final Logger log = Logger.getLogger(getClass().getName());
 
    @Inject
-   public CommandControllerFactoryImpl(AddonRegistry addonRegistry)
+   public CommandControllerFactoryImpl(AddonRegistry addonRegistry, CommandMetricsImpl metrics)
    {
       this.addonRegistry = addonRegistry;
+      this.metrics = metrics;
       this.transformers = this.addonRegistry.getServices(UICommandTransformer.class);
    }
 
@@ -114,7 +117,12 @@ public class CommandControllerFactoryImpl implements CommandControllerFactory
    SingleCommandController doCreateSingleController(final UIContext context, final UIRuntime runtime,
             final UICommand command)
    {
-      return new SingleCommandControllerImpl(addonRegistry, runtime, command, context);
+      return new SingleCommandControllerImpl(addonRegistry, runtime, command, context, metrics);
+   }
+
+   CommandMetricsImpl getMetrics()
+   {
+      return metrics;
    }
 
 }
@@ -9,6 +9,8 @@ package org.jboss.forge.addon.ui.impl.controller;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -19,6 +21,7 @@ import org.jboss.forge.addon.ui.controller.WizardCommandController;
 import org.jboss.forge.addon.ui.input.InputComponent;
 import org.jboss.forge.addon.ui.metadata.UICommandMetadata;
 import org.jboss.forge.addon.ui.output.UIMessage;
+import org.jboss.forge.addon.ui.progress.UIProgressMonitor;
 import org.jboss.forge.addon.ui.result.Result;
 
 /**
@@ -152,6 +155,18 @@ public class NoUIWizardControllerDecorator implements WizardCommandController
       return controller.execute();
    }
 
+   @Override
+   public Future<Result> executeAsync(Executor executor, UIProgressMonitor progressMonitor)
+   {
+      return controller.executeAsync(executor, progressMonitor);
+   }
+
+   @Override
+   public Future<Result> executeAsync(UIProgressMonitor progressMonitor)
+   {
+      return controller.executeAsync(progressMonitor);
+   }
+
    @Override
    public List<UIMessage> validate()
    {
@@ -22,9 +22,12 @@ import org.jboss.forge.addon.ui.controller.SingleCommandController;
 import org.jboss.forge.addon.ui.impl.context.UIBuilderImpl;
 import org.jboss.forge.addon.ui.impl.context.UIExecutionContextImpl;
 import org.jboss.forge.addon.ui.impl.context.UIValidationContextImpl;
+import org.jboss.forge.addon.ui.impl.metrics.CommandMetricsImpl;
+import org.jboss.forge.addon.ui.impl.metrics.PhaseRecording;
 import org.jboss.forge.addon.ui.input.InputComponent;
 import org.jboss.forge.addon.ui.input.UIPrompt;
 import org.jboss.forge.addon.ui.metadata.UICommandMetadata;
+import org.jboss.forge.addon.ui.metrics.CommandPhase;
 import org.jboss.forge.addon.ui.output.UIMessage;
 import org.jboss.forge.addon.ui.output.UIMessage.Severity;
 import org.jboss.forge.addon.ui.progress.UIProgressMonitor;
@@ -41,9 +44,10 @@ class SingleCommandControllerImpl extends AbstractCommandController implements S
 {
    private UIBuilderImpl uiBuilder;
 
-   SingleCommandControllerImpl(AddonRegistry addonRegistry, UIRuntime runtime, UICommand command, UIContext context)
+   SingleCommandControllerImpl(AddonRegistry addonRegistry, UIRuntime runtime, UICommand command, UIContext context,
+            CommandMetricsImpl metrics)
    {
-      super(addonRegistry, runtime, command, context);
+      super(addonRegistry, runtime, command, context, metrics);
    }
 
    @Override
@@ -51,8 +55,11 @@ class SingleCommandControllerImpl extends AbstractCommandController implements S
    {
       if (!isInitialized())
       {
-         uiBuilder = new UIBuilderImpl(context);
-         initialCommand.initializeUI(uiBuilder);
+         try (PhaseRecording recording = startRecording(CommandPhase.INITIALIZE_UI))
+         {
+            uiBuilder = new UIBuilderImpl(context);
+            initialCommand.initializeUI(uiBuilder);
+         }
       }
    }
 
@@ -63,11 +70,8 @@ class SingleCommandControllerImpl extends AbstractCommandController implements S
    }
 
    @Override
-   public Result execute() throws Exception
+   protected Result execute(UIProgressMonitor progressMonitor) throws Exception
    {
-      assertInitialized();
-      assertValid();
-      UIProgressMonitor progressMonitor = runtime.createProgressMonitor(context);
       UIPrompt prompt = runtime.createPrompt(context);
       UIExecutionContextImpl executionContext = new UIExecutionContextImpl(context, progressMonitor, prompt);
       if (progressMonitor.isCancelled())
@@ -145,15 +149,18 @@ class SingleCommandControllerImpl extends AbstractCommandController implements S
    public List<UIMessage> validate()
    {
       assertInitialized();
-      UIValidationContextImpl validationContext = new UIValidationContextImpl(context);
-      for (InputComponent<?, ?> inputComponent : getInputs().values())
+      try (PhaseRecording recording = startRecording(CommandPhase.VALIDATE))
       {
-         validationContext.setCurrentInputComponent(inputComponent);
-         inputComponent.validate(validationContext);
+         UIValidationContextImpl validationContext = new UIValidationContextImpl(context);
+         for (InputComponent<?, ?> inputComponent : getInputs().values())
+         {
+            validationContext.setCurrentInputComponent(inputComponent);
+            inputComponent.validate(validationContext);
+         }
+         validationContext.setCurrentInputComponent(null);
+         initialCommand.validate(validationContext);
+         return validationContext.getMessages();
       }
-      validationContext.setCurrentInputComponent(null);
-      initialCommand.validate(validationContext);
-      return validationContext.getMessages();
    }
 
    @Override
@@ -28,9 +28,13 @@ import org.jboss.forge.addon.ui.controller.CommandController;
 import org.jboss.forge.addon.ui.controller.WizardCommandController;
 import org.jboss.forge.addon.ui.impl.context.UIExecutionContextImpl;
 import org.jboss.forge.addon.ui.impl.context.UINavigationContextImpl;
+import org.jboss.forge.addon.ui.impl.metrics.PhaseRecording;
 import org.jboss.forge.addon.ui.input.InputComponent;
 import org.jboss.forge.addon.ui.input.UIPrompt;
+import org.jboss.forge.addon.ui.input.ValueChangeListener;
+import org.jboss.forge.addon.ui.input.events.ValueChangeEvent;
 import org.jboss.forge.addon.ui.metadata.UICommandMetadata;
+import org.jboss.forge.addon.ui.metrics.CommandPhase;
 import org.jboss.forge.addon.ui.output.UIMessage;
 import org.jboss.forge.addon.ui.progress.UIProgressMonitor;
 import org.jboss.forge.addon.ui.result.NavigationResult;
@@ -72,7 +76,7 @@ class WizardCommandControllerImpl extends AbstractCommandController implements W
    public WizardCommandControllerImpl(UIContext context, AddonRegistry addonRegistry, UIRuntime runtime,
             UIWizard initialCommand, CommandControllerFactoryImpl controllerFactory)
    {
-      super(addonRegistry, runtime, initialCommand, context);
+      super(addonRegistry, runtime, initialCommand, context, controllerFactory.getMetrics());
       this.controllerFactory = controllerFactory;
       flow.add(createEntry(initialCommand, false));
    }
@@ -121,11 +125,8 @@ class WizardCommandControllerImpl extends AbstractCommandController implements W
    }
 
    @Override
-   public Result execute() throws Exception
+   protected Result execute(UIProgressMonitor progressMonitor) throws Exception
    {
-      assertInitialized();
-      assertValid();
-      UIProgressMonitor progressMonitor = runtime.createProgressMonitor(context);
       UIPrompt prompt = runtime.createPrompt(context);
       UIExecutionContextImpl executionContext = new UIExecutionContextImpl(context, progressMonitor, prompt);
       Set<CommandExecutionListener> listeners = new LinkedHashSet<>();
@@ -224,6 +225,7 @@ class WizardCommandControllerImpl extends AbstractCommandController implements W
    public CommandController setValueFor(String inputName, Object value) throws IllegalArgumentException
    {
       getCurrentController().setValueFor(inputName, value);
+      markDirtyFrom(getCurrentEntry());
       return this;
    }
 
@@ -280,7 +282,7 @@ class WizardCommandControllerImpl extends AbstractCommandController implements W
       {
          return false;
       }
-      NavigationResultEntry[] next = getNextFrom(getCurrentController().getCommand());
+      NavigationResultEntry[] next = getNextFrom(flowPointer);
       return ((next != null || !subflow.isEmpty()) || usedSubflows.contains(flowPointer));
    }
 
@@ -309,7 +311,7 @@ class WizardCommandControllerImpl extends AbstractCommandController implements W
       CommandController lastController = flow.get(flow.size() - 1).controller;
       if (lastController.isInitialized())
       {
-         NavigationResultEntry[] next = getNextFrom(flow.get(flow.size() - 1).controller.getCommand());
+         NavigationResultEntry[] next = getNextFrom(flow.size() - 1);
          if (next != null || !subflow.isEmpty())
          {
             return false;
@@ -322,16 +324,24 @@ class WizardCommandControllerImpl extends AbstractCommandController implements W
       return true;
    }
 
-   @SuppressWarnings("unchecked")
    @Override
    public WizardCommandController next() throws Exception
+   {
+      try (PhaseRecording recording = startRecording(CommandPhase.NEXT))
+      {
+         return doNext();
+      }
+   }
+
+   @SuppressWarnings("unchecked")
+   private WizardCommandController doNext() throws Exception
    {
       assertInitialized();
       assertValid();
 
       WizardStepEntry currentEntry = getCurrentEntry();
       WizardStepEntry nextEntry = getNextEntry();
-      NavigationResultEntry[] result = getNextFrom(currentEntry.controller.getCommand());
+      NavigationResultEntry[] result = getNextFrom(flowPointer);
       if (nextEntry == null)
       {
          currentEntry.next = result;
@@ -347,7 +357,7 @@ class WizardCommandControllerImpl extends AbstractCommandController implements W
             cleanSubsequentStalePages();
             addNextFlowStep(result);
          }
-         else
+         else if (!isNextEntryChecked(currentEntry, nextEntry))
          {
             // FORGE-1372- Test if the inputs changed.
             final UICommand command;
@@ -378,6 +388,10 @@ class WizardCommandControllerImpl extends AbstractCommandController implements W
                   cleanSubsequentStalePages();
                   addNextFlowStep(result);
                }
+               else
+               {
+                  currentEntry.checkedNextEntry = nextEntry;
+               }
             }
          }
       }
@@ -509,6 +523,74 @@ class WizardCommandControllerImpl extends AbstractCommandController implements W
       return new WizardStepEntry(controller, subflowHead);
    }
 
+   /**
+    * Returns the next steps of the step at the given index, calling {@link UIWizard#next} again only if an input of that
+    * step or of a previous step changed since the last call
+    */
+   private NavigationResultEntry[] getNextFrom(int index)
+   {
+      WizardStepEntry entry = flow.get(index);
+      listenToInputs(entry);
+      if (!entry.nextFromComputed)
+      {
+         entry.nextFrom = getNextFrom(entry.controller.getCommand());
+         // Input changes can only be tracked once the step is initialized
+         entry.nextFromComputed = entry.listening;
+      }
+      return entry.nextFrom;
+   }
+
+   /**
+    * Returns if the inputs of the given next entry were already compared with a fresh instance of its command, and no
+    * input changed since then
+    */
+   private boolean isNextEntryChecked(WizardStepEntry currentEntry, WizardStepEntry nextEntry)
+   {
+      return currentEntry.checkedNextEntry == nextEntry;
+   }
+
+   /**
+    * Marks the given step and all the steps after it as changed, whenever an input of the step changes
+    */
+   private void listenToInputs(final WizardStepEntry entry)
+   {
+      if (!entry.listening && entry.controller.isInitialized())
+      {
+         entry.listening = true;
+         ValueChangeListener listener = new ValueChangeListener()
+         {
+            @Override
+            public void valueChanged(ValueChangeEvent event)
+            {
+               markDirtyFrom(entry);
+            }
+         };
+         for (InputComponent<?, ?> input : entry.controller.getInputs().values())
+         {
+            input.addValueChangeListener(listener);
+         }
+      }
+   }
+
+   /**
+    * Discards the navigation results cached for the given step and the steps after it, since they may depend on the
+    * inputs of the given step
+    */
+   private void markDirtyFrom(WizardStepEntry changed)
+   {
+      boolean downstream = false;
+      for (WizardStepEntry entry : flow)
+      {
+         downstream |= (entry == changed);
+         if (downstream)
+         {
+            entry.nextFromComputed = false;
+            entry.nextFrom = null;
+            entry.checkedNextEntry = null;
+         }
+      }
+   }
+
    private NavigationResultEntry[] getNextFrom(UICommand command)
    {
       NavigationResultEntry[] result = null;
@@ -539,6 +621,12 @@ class WizardCommandControllerImpl extends AbstractCommandController implements W
       // If this entry starts a subflow
       final boolean subflowHead;
 
+      // Navigation results cached until an input of this step or of a previous step changes
+      boolean listening;
+      boolean nextFromComputed;
+      NavigationResultEntry[] nextFrom;
+      WizardStepEntry checkedNextEntry;
+
       public WizardStepEntry(CommandController controller, boolean subflowHead)
       {
          this.controller = controller;
@@ -7,7 +7,6 @@
 
 package org.jboss.forge.addon.ui.impl.extension;
 
-import java.lang.reflect.Method;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -21,11 +20,12 @@ import javax.enterprise.inject.spi.Extension;
 import javax.enterprise.inject.spi.ProcessAnnotatedType;
 
 import org.jboss.forge.addon.ui.annotation.Command;
+import org.jboss.forge.addon.ui.impl.annotation.CommandMethodBinding;
 import org.jboss.forge.furnace.addons.AddonId;
 
 public class AnnotatedCommandExtension implements Extension
 {
-   private static final Map<AddonId, Set<Method>> annotationMethods = new ConcurrentHashMap<>();
+   private static final Map<AddonId, Set<CommandMethodBinding>> annotationMethods = new ConcurrentHashMap<>();
 
    public <T> void observeAnnotationMethods(@Observes ProcessAnnotatedType<T> bean, final BeanManager beanManager)
    {
@@ -35,23 +35,26 @@ public class AnnotatedCommandExtension implements Extension
       {
          if (annotatedMethod.isAnnotationPresent(Command.class))
          {
-            Set<Method> set = annotationMethods.get(addonId);
+            Set<CommandMethodBinding> set = annotationMethods.get(addonId);
             if (set == null)
             {
                set = new HashSet<>();
                annotationMethods.put(addonId, set);
             }
-            set.add(annotatedMethod.getJavaMember());
+            set.add(CommandMethodBinding.of(annotatedMethod.getJavaMember()));
          }
       }
    }
 
-   public Set<Method> getAnnotatedCommandMethods()
+   /**
+    * @return the {@link CommandMethodBinding} of each discovered {@link Command} method
+    */
+   public Set<CommandMethodBinding> getAnnotatedCommandBindings()
    {
-      Set<Method> set = new HashSet<>();
-      for (Set<Method> methodSet : annotationMethods.values())
+      Set<CommandMethodBinding> set = new HashSet<>();
+      for (Set<CommandMethodBinding> bindingSet : annotationMethods.values())
       {
-         set.addAll(methodSet);
+         set.addAll(bindingSet);
       }
       return set;
    }
@@ -13,6 +13,8 @@ import javax.enterprise.inject.Vetoed;
 
 import org.jboss.forge.addon.convert.Converter;
 import org.jboss.forge.addon.ui.input.SelectComponent;
+import org.jboss.forge.addon.ui.input.ValueChoicesProvider;
+import org.jboss.forge.addon.ui.input.ValueChoicesQuery;
 import org.jboss.forge.furnace.util.Callables;
 
 /**
@@ -28,6 +30,7 @@ public abstract class AbstractUISelectInputComponent<IMPLTYPE extends SelectComp
          implements SelectComponent<IMPLTYPE, VALUETYPE>
 {
    private Callable<Iterable<VALUETYPE>> choices;
+   private ValueChoicesProvider<VALUETYPE> choicesProvider;
    private Converter<VALUETYPE, String> itemLabelConverter;
 
    public AbstractUISelectInputComponent(String name, char shortName, Class<VALUETYPE> type)
@@ -51,6 +54,8 @@ public abstract class AbstractUISelectInputComponent<IMPLTYPE extends SelectComp
    @Override
    public Iterable<VALUETYPE> getValueChoices()
    {
+      if (choicesProvider != null)
+         return choicesProvider.getValueChoices(ValueChoicesQuery.all());
       return Callables.call(choices);
    }
 
@@ -58,6 +63,7 @@ public abstract class AbstractUISelectInputComponent<IMPLTYPE extends SelectComp
    public IMPLTYPE setValueChoices(Iterable<VALUETYPE> choices)
    {
       this.choices = Callables.returning(choices);
+      this.choicesProvider = null;
       return (IMPLTYPE) this;
    }
 
@@ -65,9 +71,24 @@ public abstract class AbstractUISelectInputComponent<IMPLTYPE extends SelectComp
    public IMPLTYPE setValueChoices(Callable<Iterable<VALUETYPE>> choices)
    {
       this.choices = choices;
+      this.choicesProvider = null;
       return (IMPLTYPE) this;
    }
 
+   @Override
+   public IMPLTYPE setValueChoices(ValueChoicesProvider<VALUETYPE> provider)
+   {
+      this.choicesProvider = provider;
+      this.choices = null;
+      return (IMPLTYPE) this;
+   }
+
+   @Override
+   public ValueChoicesProvider<VALUETYPE> getValueChoicesProvider()
+   {
+      return choicesProvider;
+   }
+
    protected void assertChoicesInValueChoices(Iterable<VALUETYPE> choices)
    {
       if (choices != null)
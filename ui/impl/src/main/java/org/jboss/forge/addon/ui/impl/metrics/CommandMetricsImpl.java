@@ -0,0 +1,148 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.ui.impl.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import javax.inject.Singleton;
+
+import org.jboss.forge.addon.ui.metrics.CommandMetrics;
+import org.jboss.forge.addon.ui.metrics.CommandPhase;
+import org.jboss.forge.addon.ui.metrics.CommandStatistics;
+
+/**
+ * In-process {@link CommandMetrics} registry. Each measured phase is also published as a {@link LogRecord} on the
+ * {@link CommandMetrics} logger at {@link Level#FINE}, with the command name, the phase, the duration in nanoseconds and
+ * the counts as parameters.
+ */
+@Singleton
+public class CommandMetricsImpl implements CommandMetrics
+{
+   private static final Logger log = Logger.getLogger(CommandMetrics.class.getName());
+
+   private final ConcurrentMap<String, CommandRecord> records = new ConcurrentHashMap<>();
+
+   /**
+    * Starts measuring the given {@link CommandPhase} of the given command, until the returned {@link PhaseRecording} is
+    * closed.
+    */
+   public PhaseRecording start(String commandName, CommandPhase phase)
+   {
+      return new PhaseRecording(this, commandName, phase);
+   }
+
+   void record(String commandName, CommandPhase phase, long nanos, Map<String, Long> counts)
+   {
+      CommandRecord record = records.get(commandName);
+      if (record == null)
+      {
+         CommandRecord newRecord = new CommandRecord(commandName);
+         record = records.putIfAbsent(commandName, newRecord);
+         if (record == null)
+            record = newRecord;
+      }
+      record.add(phase, nanos, counts);
+
+      if (log.isLoggable(Level.FINE))
+      {
+         LogRecord event = new LogRecord(Level.FINE, "Command [{0}] phase {1} took {2}ns, counts: {3}");
+         event.setLoggerName(log.getName());
+         event.setParameters(new Object[] { commandName, phase, nanos, counts });
+         log.log(event);
+      }
+   }
+
+   @Override
+   public List<CommandStatistics> getStatistics()
+   {
+      List<CommandStatistics> result = new ArrayList<>();
+      for (CommandRecord record : records.values())
+      {
+         result.add(record.snapshot());
+      }
+      return result;
+   }
+
+   @Override
+   public CommandStatistics getStatistics(String commandName)
+   {
+      CommandRecord record = records.get(commandName);
+      return record == null ? null : record.snapshot();
+   }
+
+   @Override
+   public List<CommandStatistics> getSlowestCommands(int limit)
+   {
+      List<CommandStatistics> result = getStatistics();
+      Collections.sort(result, new Comparator<CommandStatistics>()
+      {
+         @Override
+         public int compare(CommandStatistics left, CommandStatistics right)
+         {
+            long leftTime = left.getTotalTime(TimeUnit.NANOSECONDS);
+            long rightTime = right.getTotalTime(TimeUnit.NANOSECONDS);
+            return leftTime < rightTime ? 1 : (leftTime == rightTime ? 0 : -1);
+         }
+      });
+      return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+   }
+
+   @Override
+   public void reset()
+   {
+      records.clear();
+   }
+
+   private static class CommandRecord
+   {
+      private final String commandName;
+      private final Map<CommandPhase, long[]> phases = new EnumMap<>(CommandPhase.class);
+      private final Map<String, Long> counts = new HashMap<>();
+
+      CommandRecord(String commandName)
+      {
+         this.commandName = commandName;
+      }
+
+      synchronized void add(CommandPhase phase, long nanos, Map<String, Long> phaseCounts)
+      {
+         long[] values = phases.get(phase);
+         if (values == null)
+         {
+            values = new long[3];
+            phases.put(phase, values);
+         }
+         values[0]++;
+         values[1] += nanos;
+         values[2] = Math.max(values[2], nanos);
+         for (Entry<String, Long> entry : phaseCounts.entrySet())
+         {
+            Long count = counts.get(entry.getKey());
+            counts.put(entry.getKey(), count == null ? entry.getValue() : count + entry.getValue());
+         }
+      }
+
+      synchronized CommandStatistics snapshot()
+      {
+         return new CommandStatistics(commandName, phases, counts);
+      }
+   }
+}
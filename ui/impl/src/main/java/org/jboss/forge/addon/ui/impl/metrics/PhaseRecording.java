@@ -0,0 +1,40 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.ui.impl.metrics;
+
+import org.jboss.forge.addon.ui.metrics.CommandCounters;
+import org.jboss.forge.addon.ui.metrics.CommandPhase;
+
+/**
+ * Measures a single {@link CommandPhase} run on the current thread, until closed
+ */
+public final class PhaseRecording implements AutoCloseable
+{
+   private final CommandMetricsImpl metrics;
+   private final String commandName;
+   private final CommandPhase phase;
+   private final CommandCounters counters;
+   private final long start;
+
+   PhaseRecording(CommandMetricsImpl metrics, String commandName, CommandPhase phase)
+   {
+      this.metrics = metrics;
+      this.commandName = commandName;
+      this.phase = phase;
+      this.counters = CommandCounters.open();
+      this.start = System.nanoTime();
+   }
+
+   @Override
+   public void close()
+   {
+      long elapsed = System.nanoTime() - start;
+      counters.close();
+      metrics.record(commandName, phase, elapsed, counters.getCounts());
+   }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2014 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.ui.impl.annotation;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jboss.forge.addon.ui.annotation.Command;
+import org.jboss.forge.addon.ui.annotation.Option;
+import org.jboss.forge.addon.ui.context.UIContext;
+import org.jboss.forge.addon.ui.context.UIExecutionContext;
+import org.jboss.forge.addon.ui.impl.annotation.CommandMethodBinding.InputParameter;
+import org.jboss.forge.addon.ui.input.UIPrompt;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CommandMethodBindingTest
+{
+   private final UIContext uiContext = proxy(UIContext.class, null);
+   private final UIPrompt prompt = proxy(UIPrompt.class, null);
+   private final UIExecutionContext context = proxy(UIExecutionContext.class, new InvocationHandler()
+   {
+      @Override
+      public Object invoke(Object proxy, Method method, Object[] args)
+      {
+         switch (method.getName())
+         {
+         case "getUIContext":
+            return uiContext;
+         case "getPrompt":
+            return prompt;
+         default:
+            return null;
+         }
+      }
+   });
+
+   @Test
+   public void testCommandAttributes() throws Exception
+   {
+      CommandMethodBinding binding = CommandMethodBinding.of(PublicCommands.class.getMethod("greet", String.class,
+               UIContext.class, Integer.class, UIPrompt.class));
+      Assert.assertEquals("hello", binding.getName());
+      Assert.assertEquals("Says hello", binding.getHelp());
+      Assert.assertEquals(Arrays.asList("Test"), Arrays.asList(binding.getCategories()));
+      Assert.assertEquals(0, binding.getEnabledPredicateTypes().size());
+   }
+
+   @Test
+   public void testReservedParametersAreNotInputs() throws Exception
+   {
+      CommandMethodBinding binding = CommandMethodBinding.of(PublicCommands.class.getMethod("greet", String.class,
+               UIContext.class, Integer.class, UIPrompt.class));
+      List<InputParameter> parameters = binding.getInputParameters();
+      Assert.assertEquals(2, parameters.size());
+      Assert.assertEquals("name", parameters.get(0).getName());
+      Assert.assertEquals('n', parameters.get(0).getShortName());
+      Assert.assertEquals(String.class, parameters.get(0).getType());
+      Assert.assertEquals("param2", parameters.get(1).getName());
+      Assert.assertNull(parameters.get(1).getOption());
+      Assert.assertEquals(Integer.class, parameters.get(1).getType());
+   }
+
+   @Test
+   public void testParametersAreBoundInDeclarationOrder() throws Exception
+   {
+      CommandMethodBinding binding = CommandMethodBinding.of(PublicCommands.class.getMethod("greet", String.class,
+               UIContext.class, Integer.class, UIPrompt.class));
+      PublicCommands commands = new PublicCommands();
+      Assert.assertEquals("George x2", binding.invoke(commands, context, new Object[] { "George", 2 }));
+      Assert.assertSame(uiContext, commands.context);
+      Assert.assertSame(prompt, commands.prompt);
+   }
+
+   @Test
+   public void testStaticMethod() throws Exception
+   {
+      CommandMethodBinding binding = CommandMethodBinding.of(PublicCommands.class.getMethod("echo", String.class));
+      Assert.assertEquals("echo", binding.getName());
+      Assert.assertEquals("value", binding.invoke(null, context, new Object[] { "value" }));
+   }
+
+   @Test
+   public void testNonPublicMethodFallsBackToReflection() throws Exception
+   {
+      CommandMethodBinding binding = CommandMethodBinding.of(HiddenCommands.class.getMethod("greet", String.class,
+               UIContext.class));
+      HiddenCommands commands = new HiddenCommands();
+      Assert.assertEquals("hidden George", binding.invoke(commands, context, new Object[] { "George" }));
+      Assert.assertSame(uiContext, commands.context);
+   }
+
+   @Test
+   public void testExceptionIsRethrownUnwrapped() throws Exception
+   {
+      assertRethrown(CommandMethodBinding.of(PublicCommands.class.getMethod("fail")), new PublicCommands());
+   }
+
+   @Test
+   public void testExceptionIsRethrownUnwrappedByReflection() throws Exception
+   {
+      assertRethrown(CommandMethodBinding.of(HiddenCommands.class.getMethod("fail")), new HiddenCommands());
+   }
+
+   private void assertRethrown(CommandMethodBinding binding, Object instance)
+   {
+      try
+      {
+         binding.invoke(instance, context, new Object[0]);
+         Assert.fail("The exception thrown by the method was not rethrown");
+      }
+      catch (Exception e)
+      {
+         Assert.assertEquals(IOException.class, e.getClass());
+         Assert.assertEquals("failed", e.getMessage());
+      }
+   }
+
+   private static <T> T proxy(Class<T> type, InvocationHandler handler)
+   {
+      return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+               handler == null ? new InvocationHandler()
+               {
+                  @Override
+                  public Object invoke(Object proxy, Method method, Object[] args)
+                  {
+                     return null;
+                  }
+               } : handler));
+   }
+
+   public static class PublicCommands
+   {
+      private UIContext context;
+      private UIPrompt prompt;
+
+      @Command(value = "hello", help = "Says hello", categories = "Test")
+      public String greet(@Option(value = "name", shortName = 'n') String name, UIContext context, Integer times,
+               UIPrompt prompt)
+      {
+         this.context = context;
+         this.prompt = prompt;
+         return name + " x" + times;
+      }
+
+      @Command
+      public static String echo(String value)
+      {
+         return value;
+      }
+
+      @Command
+      public void fail() throws IOException
+      {
+         throw new IOException("failed");
+      }
+   }
+
+   private static class HiddenCommands
+   {
+      private UIContext context;
+
+      @Command
+      public String greet(String name, UIContext context)
+      {
+         this.context = context;
+         return "hidden " + name;
+      }
+
+      @Command
+      public void fail() throws IOException
+      {
+         throw new IOException("failed");
+      }
+   }
+}
@@ -9,6 +9,16 @@ package org.jboss.forge.addon.ui.controller;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import javax.inject.Inject;
 
 import org.jboss.arquillian.container.test.api.Deployment;
@@ -20,6 +30,10 @@ import org.jboss.forge.addon.ui.controller.mock.FlowExampleWizard;
 import org.jboss.forge.addon.ui.controller.mock.MockPreStepsCommand;
 import org.jboss.forge.addon.ui.impl.mock.MockUIContext;
 import org.jboss.forge.addon.ui.impl.mock.MockUIRuntime;
+import org.jboss.forge.addon.ui.metrics.CommandMetrics;
+import org.jboss.forge.addon.ui.metrics.CommandPhase;
+import org.jboss.forge.addon.ui.metrics.CommandStatistics;
+import org.jboss.forge.addon.ui.progress.DefaultUIProgressMonitor;
 import org.jboss.forge.addon.ui.result.Result;
 import org.jboss.forge.arquillian.AddonDependency;
 import org.jboss.forge.arquillian.Dependencies;
@@ -62,6 +76,9 @@ public class CommandControllerTest
    @Inject
    private ExampleCommand exampleCommand;
 
+   @Inject
+   private CommandMetrics commandMetrics;
+
    @Inject
    private ExampleNoUICommand exampleNoUICommand;
 
@@ -96,6 +113,105 @@ public class CommandControllerTest
       Assert.assertEquals("Hello, Forge", result.getMessage());
    }
 
+   @Test
+   public void testExecuteAsync() throws Exception
+   {
+      CommandController controller = controllerFactory.createSingleController(new MockUIContext(), new MockUIRuntime(),
+               exampleCommand);
+      controller.initialize();
+      controller.setValueFor("firstName", "Forge");
+      ExecutorService executor = Executors.newSingleThreadExecutor();
+      try
+      {
+         Future<Result> future = controller.executeAsync(executor, new DefaultUIProgressMonitor());
+         Result result = future.get(10, TimeUnit.SECONDS);
+         Assert.assertEquals("Hello, Forge", result.getMessage());
+      }
+      finally
+      {
+         executor.shutdownNow();
+      }
+   }
+
+   @Test
+   public void testExecuteAsyncReportsProgressOnDefaultExecutor() throws Exception
+   {
+      CommandController controller = controllerFactory.createSingleController(new MockUIContext(), new MockUIRuntime(),
+               exampleCommand);
+      controller.initialize();
+      controller.setValueFor("firstName", "Forge");
+      final List<String> events = new CopyOnWriteArrayList<>();
+      DefaultUIProgressMonitor progressMonitor = new DefaultUIProgressMonitor()
+      {
+         @Override
+         public void beginTask(String name, int totalWork)
+         {
+            events.add("beginTask " + name + " " + totalWork);
+            super.beginTask(name, totalWork);
+         }
+
+         @Override
+         public void worked(int work)
+         {
+            events.add("worked " + work);
+            super.worked(work);
+         }
+
+         @Override
+         public void done()
+         {
+            events.add("done");
+            super.done();
+         }
+      };
+      Result result = controller.executeAsync(progressMonitor).get(10, TimeUnit.SECONDS);
+      Assert.assertEquals("Hello, Forge", result.getMessage());
+      Assert.assertEquals(Arrays.asList("beginTask Greeting 1", "worked 1", "done"), events);
+   }
+
+   @Test
+   public void testExecuteAsyncCancelSetsProgressMonitorCancelled() throws Exception
+   {
+      CommandController controller = controllerFactory.createSingleController(new MockUIContext(), new MockUIRuntime(),
+               exampleCommand);
+      controller.initialize();
+      controller.setValueFor("firstName", "Forge");
+      final List<Runnable> pending = new ArrayList<>();
+      DefaultUIProgressMonitor progressMonitor = new DefaultUIProgressMonitor();
+      Future<Result> future = controller.executeAsync(new Executor()
+      {
+         @Override
+         public void execute(Runnable command)
+         {
+            pending.add(command);
+         }
+      }, progressMonitor);
+      Assert.assertEquals(1, pending.size());
+      Assert.assertFalse(progressMonitor.isCancelled());
+      Assert.assertTrue(future.cancel(false));
+      Assert.assertTrue(progressMonitor.isCancelled());
+      Assert.assertTrue(future.isCancelled());
+   }
+
+   @Test
+   public void testCommandMetrics() throws Exception
+   {
+      commandMetrics.reset();
+      CommandController controller = controllerFactory.createSingleController(new MockUIContext(), new MockUIRuntime(),
+               exampleCommand);
+      controller.initialize();
+      controller.setValueFor("firstName", "Forge");
+      controller.execute();
+      CommandStatistics statistics = commandMetrics.getStatistics(controller.getMetadata().getName());
+      Assert.assertNotNull(statistics);
+      Assert.assertEquals(1, statistics.getInvocations(CommandPhase.INITIALIZE_UI));
+      Assert.assertTrue(statistics.getInvocations(CommandPhase.VALIDATE) > 0);
+      Assert.assertEquals(1, statistics.getInvocations(CommandPhase.EXECUTE));
+      Assert.assertEquals(0, statistics.getInvocations(CommandPhase.NEXT));
+      Assert.assertEquals(statistics.getCommandName(), commandMetrics.getSlowestCommands(1).get(0)
+               .getCommandName());
+   }
+
    @Test(expected = IllegalArgumentException.class)
    public void testInitialized() throws Exception
    {
@@ -26,6 +26,7 @@ import org.jboss.forge.addon.ui.example.wizards.subflow.ExampleFlow;
 import org.jboss.forge.addon.ui.example.wizards.subflow.FlowOneOneStep;
 import org.jboss.forge.addon.ui.example.wizards.subflow.FlowOneStep;
 import org.jboss.forge.addon.ui.example.wizards.subflow.FlowTwoStep;
+import org.jboss.forge.addon.ui.input.UIInput;
 import org.jboss.forge.addon.ui.result.CompositeResult;
 import org.jboss.forge.addon.ui.result.Failed;
 import org.jboss.forge.addon.ui.result.Result;
@@ -172,6 +173,32 @@ public class WizardCommandControllerTest
       }
    }
 
+   @Test
+   public void testCanExecuteReflectsChangesInPreviousSteps() throws Exception
+   {
+      try (WizardCommandController controller = testHarness.createWizardController(ExampleFlow.class))
+      {
+         controller.initialize();
+         controller.setValueFor("name", "Forge");
+         controller.setValueFor("number", 42);
+         controller.next().initialize();
+         controller.setValueFor("flowOneInput", "Value");
+         controller.next().initialize();
+         controller.setValueFor("flowOneOneInput", "Value Two");
+         controller.next().initialize();
+         Assert.assertThat(controller.getCommand(), is(instanceOf(FlowTwoStep.class)));
+         controller.setValueFor("flowTwoInput", "Value Three");
+         Assert.assertTrue(controller.canExecute());
+         Assert.assertTrue(controller.canExecute());
+
+         controller.previous().previous();
+         Assert.assertThat(controller.getCommand(), is(instanceOf(FlowOneStep.class)));
+         controller.setValueFor("flowOneInput", null);
+         Assert.assertFalse(controller.canExecute());
+         Assert.assertFalse(controller.canMoveToNextStep());
+      }
+   }
+
    @Test
    public void testSubflowOrder() throws Exception
    {
@@ -230,6 +257,25 @@ public class WizardCommandControllerTest
       }
    }
 
+   @Test
+   @SuppressWarnings("unchecked")
+   public void testDynamicInputsChangedThroughInput() throws Exception
+   {
+      try (WizardCommandController controller = testHarness.createWizardController(ChangesInputOneWizard.class))
+      {
+         controller.initialize();
+         controller.setValueFor("chooseInputTwo", Boolean.FALSE);
+         controller.next().initialize();
+         Assert.assertTrue("Input inputOne not added", controller.getInputs().containsKey("inputOne"));
+         controller.previous();
+         Assert.assertTrue(controller.canMoveToNextStep());
+         ((UIInput<Boolean>) controller.getInputs().get("chooseInputTwo")).setValue(Boolean.TRUE);
+         Assert.assertTrue(controller.canMoveToNextStep());
+         controller.next().initialize();
+         Assert.assertTrue("Input inputTwo not added", controller.getInputs().containsKey("inputTwo"));
+      }
+   }
+
    @Test
    public void testAggregateWizard() throws Exception
    {
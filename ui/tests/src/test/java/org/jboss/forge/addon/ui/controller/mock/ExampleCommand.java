@@ -15,6 +15,7 @@ import org.jboss.forge.addon.ui.context.UIExecutionContext;
 import org.jboss.forge.addon.ui.context.UIValidationContext;
 import org.jboss.forge.addon.ui.input.UIInput;
 import org.jboss.forge.addon.ui.metadata.UICommandMetadata;
+import org.jboss.forge.addon.ui.progress.UIProgressMonitor;
 import org.jboss.forge.addon.ui.result.Result;
 import org.jboss.forge.addon.ui.result.Results;
 import org.jboss.forge.addon.ui.util.Categories;
@@ -40,6 +41,9 @@ public class ExampleCommand implements UICommand
    @Override
    public Result execute(UIExecutionContext context) throws Exception
    {
+      UIProgressMonitor progressMonitor = context.getProgressMonitor();
+      progressMonitor.beginTask("Greeting", 1);
+      progressMonitor.worked(1);
       return Results.success("Hello, " + firstName.getValue());
    }
 
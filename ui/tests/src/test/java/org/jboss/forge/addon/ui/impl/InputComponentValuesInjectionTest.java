@@ -15,6 +15,8 @@ import static org.hamcrest.CoreMatchers.sameInstance;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.inject.Inject;
 
@@ -25,11 +27,14 @@ import org.jboss.forge.addon.ui.input.InputComponentFactory;
 import org.jboss.forge.addon.ui.input.UIInputMany;
 import org.jboss.forge.addon.ui.input.UISelectMany;
 import org.jboss.forge.addon.ui.input.UISelectOne;
+import org.jboss.forge.addon.ui.input.ValueChoicesProvider;
+import org.jboss.forge.addon.ui.input.ValueChoicesQuery;
 import org.jboss.forge.addon.ui.util.InputComponents;
 import org.jboss.forge.arquillian.AddonDependency;
 import org.jboss.forge.arquillian.Dependencies;
 import org.jboss.forge.arquillian.archive.ForgeArchive;
 import org.jboss.forge.furnace.repositories.AddonDependencyEntry;
+import org.jboss.forge.furnace.util.Lists;
 import org.jboss.forge.furnace.versions.SingleVersion;
 import org.jboss.forge.furnace.versions.Version;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
@@ -116,6 +121,71 @@ public class InputComponentValuesInjectionTest
       Assert.assertThat(value.hasNext(), is(false));
    }
 
+   @Test
+   public void testSetValueInSelectManyEvaluatesValueChoicesOnce()
+   {
+      final AtomicInteger evaluations = new AtomicInteger();
+      UISelectMany<Career> selectMany = inputFactory.createSelectMany("inputMany", Career.class);
+      selectMany.setValueChoices(new Callable<Iterable<Career>>()
+      {
+         @Override
+         public Iterable<Career> call() throws Exception
+         {
+            evaluations.incrementAndGet();
+            return Arrays.asList(Career.values());
+         }
+      });
+      InputComponents.setValueFor(converterFactory, selectMany, Arrays.asList("TECHNOLOGY", "MEDICINE", "UNKNOWN"));
+      Iterator<Career> iterator = selectMany.getValue().iterator();
+      Assert.assertSame(Career.TECHNOLOGY, iterator.next());
+      Assert.assertSame(Career.MEDICINE, iterator.next());
+      Assert.assertFalse(iterator.hasNext());
+      Assert.assertEquals(1, evaluations.get());
+   }
+
+   @Test
+   public void testValueChoicesProviderForIterableChoices()
+   {
+      UISelectOne<String> selectOne = inputFactory.createSelectOne("selectOne", String.class);
+      selectOne.setValueChoices(Arrays.asList("alpha", "beta", "alphabet", "gamma", "alphanumeric"));
+      Assert.assertThat(selectOne.getValueChoicesProvider(), nullValue());
+      ValueChoicesProvider<String> provider = InputComponents.getValueChoicesProvider(converterFactory, selectOne);
+      Assert.assertEquals(-1, provider.getEstimatedSize());
+      Assert.assertEquals(Arrays.asList("alphabet", "alphanumeric"),
+               Lists.toList(provider.getValueChoices(ValueChoicesQuery.startingWith("alpha", 1, 10))));
+      Assert.assertEquals(Arrays.asList("alpha"),
+               Lists.toList(provider.getValueChoices(ValueChoicesQuery.startingWith("alpha", 0, 1))));
+      Assert.assertEquals(Arrays.asList("alphabet"),
+               Lists.toList(provider.getValueChoices(ValueChoicesQuery.containing("bet", 0, 10))));
+   }
+
+   @Test
+   public void testValueChoicesProvider()
+   {
+      final List<String> choices = Arrays.asList("A", "B", "C");
+      UISelectOne<String> selectOne = inputFactory.createSelectOne("selectOne", String.class);
+      ValueChoicesProvider<String> provider = new ValueChoicesProvider<String>()
+      {
+         @Override
+         public Iterable<String> getValueChoices(ValueChoicesQuery query)
+         {
+            return choices;
+         }
+
+         @Override
+         public long getEstimatedSize()
+         {
+            return choices.size();
+         }
+      };
+      selectOne.setValueChoices(provider);
+      Assert.assertSame(provider, selectOne.getValueChoicesProvider());
+      Assert.assertSame(provider, InputComponents.getValueChoicesProvider(converterFactory, selectOne));
+      Assert.assertEquals(choices, selectOne.getValueChoices());
+      selectOne.setValueChoices(choices);
+      Assert.assertThat(selectOne.getValueChoicesProvider(), nullValue());
+   }
+
    @Test
    public void testChoiceValuesInjection()
    {